@@ -1,12 +1,38 @@
 import axios from 'axios';
 
+// 운영 환경(Build)이면 시놀로지 URL 사용, 개발 환경이면 Proxy(/api) 사용
+const baseURL = import.meta.env.PROD ? 'https://boot.pentiumman.synology.me/api' : '/api';
+
+/**
+ * 토큰 저장소
+ * 자동 로그인이면 localStorage, 아니면 sessionStorage에 액세스/리프레시 토큰을 함께 보관합니다.
+ */
+export const tokenStorage = {
+    getAccessToken: () => sessionStorage.getItem('accessToken') || localStorage.getItem('accessToken'),
+    getRefreshToken: () => sessionStorage.getItem('refreshToken') || localStorage.getItem('refreshToken'),
+    save: (accessToken: string, refreshToken: string, remember: boolean) => {
+        const storage = remember ? localStorage : sessionStorage;
+        storage.setItem('accessToken', accessToken);
+        storage.setItem('refreshToken', refreshToken);
+    },
+    // 재발급된 토큰은 기존 토큰이 있던 저장소에 그대로 보관
+    replace: (accessToken: string, refreshToken: string) => {
+        tokenStorage.save(accessToken, refreshToken, !!localStorage.getItem('refreshToken'));
+    },
+    clear: () => {
+        ['accessToken', 'refreshToken'].forEach((key) => {
+            sessionStorage.removeItem(key);
+            localStorage.removeItem(key);
+        });
+    },
+};
+
 /**
  * 전역 Axios 인스턴스 설정
- * JWT 토큰을 localStorage에서 읽어와 모든 요청 Header에 자동으로 포함합니다.
+ * JWT 토큰을 저장소에서 읽어와 모든 요청 Header에 자동으로 포함합니다.
  */
 const api = axios.create({
-    // 운영 환경(Build)이면 시놀로지 URL 사용, 개발 환경이면 Proxy(/api) 사용
-    baseURL: import.meta.env.PROD ? 'https://boot.pentiumman.synology.me/api' : '/api',
+    baseURL,
     headers: {
         'Content-Type': 'application/json',
     },
@@ -15,7 +41,7 @@ const api = axios.create({
 // 요청 인터셉터: 토큰 자동 주입
 api.interceptors.request.use(
     (config: any) => {
-        const token = localStorage.getItem('accessToken');
+        const token = tokenStorage.getAccessToken();
         if (token) {
             config.headers.Authorization = `Bearer ${token}`;
         }
@@ -24,13 +50,51 @@ api.interceptors.request.use(
     (error: any) => Promise.reject(error)
 );
 
-// 응답 인터셉터: 401(인증 만료) 처리 등
+// 동시에 여러 요청이 401을 받아도 재발급은 한 번만 수행
+let refreshing: Promise<string> | null = null;
+
+const refreshAccessToken = (): Promise<string> => {
+    if (!refreshing) {
+        const refreshToken = tokenStorage.getRefreshToken();
+        refreshing = (async () => {
+            if (!refreshToken) {
+                throw new Error('리프레시 토큰이 없습니다.');
+            }
+            try {
+                // 인터셉터를 거치지 않도록 기본 axios로 호출
+                const response = await axios.post(`${baseURL}/auth/refresh`, { refreshToken });
+                tokenStorage.replace(response.data.accessToken, response.data.refreshToken);
+                return response.data.accessToken as string;
+            } catch (error) {
+                // 다른 탭이 먼저 재발급했다면 그 토큰을 사용
+                const latest = tokenStorage.getAccessToken();
+                if (tokenStorage.getRefreshToken() !== refreshToken && latest) {
+                    return latest;
+                }
+                throw error;
+            }
+        })().finally(() => {
+            refreshing = null;
+        });
+    }
+    return refreshing;
+};
+
+// 응답 인터셉터: 401(인증 만료) 시 토큰 재발급 후 한 번 재시도, 실패하면 로그인 화면으로 이동
 api.interceptors.response.use(
     (response: any) => response,
-    (error: any) => {
-        if (error.response?.status === 401) {
-            localStorage.removeItem('accessToken');
-            window.location.href = '/login';
+    async (error: any) => {
+        const original = error.config;
+        if (error.response?.status === 401 && original && !original._retry && !original.url?.startsWith('/auth/')) {
+            original._retry = true;
+            try {
+                const token = await refreshAccessToken();
+                original.headers.Authorization = `Bearer ${token}`;
+                return api(original);
+            } catch {
+                tokenStorage.clear();
+                window.location.href = '/login';
+            }
         }
         return Promise.reject(error);
     }
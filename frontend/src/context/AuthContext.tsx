@@ -1,10 +1,11 @@
 import { createContext, useContext, useState, useEffect, type ReactNode } from 'react';
+import api, { tokenStorage } from '../api/axios';
 
 interface AuthContextType {
     isAuthenticated: boolean;
     username: string | null;
     role: string | null;
-    login: (token: string, remember: boolean) => void;
+    login: (token: string, refreshToken: string, remember: boolean) => void;
     logout: () => void;
 }
 
@@ -15,7 +16,7 @@ const AuthContext = createContext<AuthContextType | undefined>(undefined);
  */
 export const AuthProvider = ({ children }: { children: ReactNode }) => {
     const [isAuthenticated, setIsAuthenticated] = useState<boolean>(
-        !!(sessionStorage.getItem('accessToken') || localStorage.getItem('accessToken'))
+        !!tokenStorage.getAccessToken()
     );
     const [username, setUsername] = useState<string | null>(null);
     const [role, setRole] = useState<string | null>(null);
@@ -40,7 +41,7 @@ export const AuthProvider = ({ children }: { children: ReactNode }) => {
 
     // 초기 로드 시 토큰 존재 확인 및 정보 추출
     useEffect(() => {
-        const token = sessionStorage.getItem('accessToken') || localStorage.getItem('accessToken');
+        const token = tokenStorage.getAccessToken();
         if (token) {
             const decoded = parseJwt(token);
             if (decoded) {
@@ -55,12 +56,8 @@ export const AuthProvider = ({ children }: { children: ReactNode }) => {
 
 
     // 2. 실제 사용처 (login 함수 내부)
-    const login = (token: string, remember: boolean) => {
-        if (remember) {
-            localStorage.setItem('accessToken', token);
-        } else {
-            sessionStorage.setItem('accessToken', token);
-        }
+    const login = (token: string, refreshToken: string, remember: boolean) => {
+        tokenStorage.save(token, refreshToken, remember);
 
         const decoded = parseJwt(token);    // <--- 여기서 호출하여 사용자 정보를 꺼냄
         if (decoded) {
@@ -71,8 +68,15 @@ export const AuthProvider = ({ children }: { children: ReactNode }) => {
     };
 
     const logout = () => {
-        sessionStorage.removeItem('accessToken');
-        localStorage.removeItem('accessToken');
+        // 서버에서도 토큰을 폐기 (저장소를 먼저 비우므로 헤더를 직접 지정, 실패해도 로컬 로그아웃은 진행)
+        const accessToken = tokenStorage.getAccessToken();
+        const refreshToken = tokenStorage.getRefreshToken();
+        if (accessToken || refreshToken) {
+            api.post('/auth/logout', { refreshToken }, {
+                headers: accessToken ? { Authorization: `Bearer ${accessToken}` } : {},
+            }).catch(() => undefined);
+        }
+        tokenStorage.clear();
         setIsAuthenticated(false);
         setUsername(null);
         setRole(null);
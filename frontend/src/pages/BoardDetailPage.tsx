@@ -29,6 +29,8 @@ interface BoardDetail {
     modifiedAt: string;
     fileList: Attachment[];
     commentList: Comment[];
+    commentCount: number;
+    nextCommentCursor: string | null;
 }
 
 /**
@@ -42,6 +44,7 @@ export default function BoardDetailPage() {
     const [loading, setLoading] = useState(true);
     const [commentInput, setCommentInput] = useState('');
     const [submittingComment, setSubmittingComment] = useState(false);
+    const [loadingComments, setLoadingComments] = useState(false);
 
     const fetchBoard = async () => {
         try {
@@ -60,6 +63,26 @@ export default function BoardDetailPage() {
         fetchBoard();
     }, [id, navigate]);
 
+    // 상세 응답에는 최신 댓글 일부만 포함되므로 나머지는 커서로 이어서 조회
+    const handleLoadMoreComments = async () => {
+        if (!board?.nextCommentCursor) return;
+        setLoadingComments(true);
+        try {
+            const response = await api.get(`/comments/${id}`, {
+                params: { after: board.nextCommentCursor, size: 20 }
+            });
+            setBoard({
+                ...board,
+                commentList: [...board.commentList, ...response.data.content],
+                nextCommentCursor: response.data.nextCursor
+            });
+        } catch (err) {
+            console.error('댓글 로드 실패', err);
+        } finally {
+            setLoadingComments(false);
+        }
+    };
+
     const handleDelete = async () => {
         if (!window.confirm('정말 삭제하시겠습니까?')) return;
         try {
@@ -161,7 +184,7 @@ export default function BoardDetailPage() {
                                 {board.fileList.map((file) => (
                                     <a
                                         key={file.fileId}
-                                        href={`${import.meta.env.VITE_API_URL || 'http://localhost:8080'}/api/files/download/${file.storedName}?originName=${encodeURIComponent(file.originName)}`}
+                                        href={`${import.meta.env.VITE_API_URL || 'http://localhost:8080'}/api/files/${file.fileId}/download`}
                                         className="flex items-center justify-between p-4 bg-gray-900/50 hover:bg-gray-700/50 rounded-xl border border-gray-700 transition-all group"
                                         target="_blank"
                                         rel="noopener noreferrer"
@@ -181,7 +204,7 @@ export default function BoardDetailPage() {
             {/* 댓글 엔티티 관리 섹션 */}
             <div className="bg-gray-800 rounded-2xl border border-gray-700 p-8 shadow-xl">
                 <h3 className="text-xl font-bold mb-6 flex items-center gap-2">
-                    💬 댓글 ({board.commentList?.length || 0})
+                    💬 댓글 ({board.commentCount ?? board.commentList?.length ?? 0})
                 </h3>
 
                 {/* 댓글 작성 폼 */}
@@ -243,6 +266,15 @@ export default function BoardDetailPage() {
                             아직 댓글이 없습니다. 첫 댓글의 주인공이 되어보세요!
                         </div>
                     )}
+                    {board.nextCommentCursor && (
+                        <button
+                            onClick={handleLoadMoreComments}
+                            disabled={loadingComments}
+                            className="w-full py-3 rounded-xl border border-gray-700 text-sm text-gray-400 hover:bg-gray-700/50 transition-colors"
+                        >
+                            {loadingComments ? '불러오는 중...' : '댓글 더 보기'}
+                        </button>
+                    )}
                 </div>
             </div>
         </div>
@@ -7,6 +7,8 @@ interface Board {
     title: string;
     nickname: string;
     createdAt: string;
+    commentCount: number;
+    fileCount: number;
 }
 
 /**
@@ -17,6 +19,9 @@ export default function BoardListPage() {
     const [loading, setLoading] = useState(true);
     const [page, setPage] = useState(0);
     const [totalPages, setTotalPages] = useState(0);
+    // 서버가 비용이 큰 검색을 slice 방식으로 응답하면 전체 페이지 수 대신 '더 보기' 형태로 표시
+    const [pagingMode, setPagingMode] = useState<'page' | 'slice'>('page');
+    const [hasNext, setHasNext] = useState(false);
     const [keyword, setKeyword] = useState('');
     const [searchInput, setSearchInput] = useState('');
 
@@ -27,11 +32,15 @@ export default function BoardListPage() {
                 params: {
                     page: pageNumber,
                     size: 10,
+                    mode: 'auto',
                     keyword: searchKeyword || null
                 }
             });
+            const mode = response.headers['x-paging-mode'] === 'slice' ? 'slice' : 'page';
+            setPagingMode(mode);
             setBoards(response.data.content);
-            setTotalPages(response.data.totalPages);
+            setHasNext(!response.data.last);
+            setTotalPages(mode === 'page' ? response.data.totalPages : pageNumber + (response.data.last ? 1 : 2));
         } catch (err) {
             console.error('게시글 로드 실패', err);
         } finally {
@@ -108,6 +117,10 @@ export default function BoardListPage() {
                                         <Link to={`/board/${board.boardId}`} className="text-white group-hover:text-blue-400 transition-colors font-medium">
                                             {board.title}
                                         </Link>
+                                        {board.fileCount > 0 && <span className="ml-2 text-xs text-gray-500">📎</span>}
+                                        {board.commentCount > 0 && (
+                                            <span className="ml-2 text-xs font-semibold text-blue-400">[{board.commentCount}]</span>
+                                        )}
                                     </td>
                                     <td className="px-6 py-4 text-gray-300">
                                         <span className="flex items-center gap-2">
@@ -141,6 +154,11 @@ export default function BoardListPage() {
                     >
                         이전
                     </button>
+                    {pagingMode === 'slice' ? (
+                        <span className="px-4 text-sm text-gray-400">
+                            {page + 1} 페이지{hasNext && ' · 더 보기…'}
+                        </span>
+                    ) : (
                     <div className="flex gap-1">
                         {[...Array(totalPages)].map((_, i) => (
                             <button
@@ -155,6 +173,7 @@ export default function BoardListPage() {
                             </button>
                         )).filter((_, i) => i >= Math.floor(page / 5) * 5 && i < Math.floor(page / 5) * 5 + 5)}
                     </div>
+                    )}
                     <button
                         onClick={() => handlePageChange(page + 1)}
                         disabled={page === totalPages - 1}
@@ -39,7 +39,7 @@ export default function LoginPage() {
                 localStorage.removeItem('savedUsername');
             }
 
-            login(response.data.accessToken, autoLogin);
+            login(response.data.accessToken, response.data.refreshToken, autoLogin);
             navigate('/');
         } catch (err: any) {
             const data = err.response?.data;
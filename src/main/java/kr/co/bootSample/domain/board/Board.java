@@ -12,6 +12,7 @@ import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import kr.co.bootSample.domain.member.Member;
 import kr.co.bootSample.global.common.BaseTimeEntity;
+import org.hibernate.annotations.ColumnDefault;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -38,6 +39,11 @@ public class Board extends BaseTimeEntity {
     @Column(nullable = false, columnDefinition = "LONGTEXT")
     private String content;
 
+    // 검색용 본문 텍스트 (HTML 태그 제거, 엔티티 복원). 검색 색인과 LIKE 검색이 같은 텍스트를 대상으로 함
+    // 컬럼 추가 이전 게시글은 BoardSearchTextBackfill이 채우며, 그 전까지 LIKE 검색은 본문을 그대로 사용
+    @Column(columnDefinition = "LONGTEXT")
+    private String searchText;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "member_id", nullable = false)
     private Member member;
@@ -45,10 +51,29 @@ public class Board extends BaseTimeEntity {
     @OneToMany(mappedBy = "board", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<BoardFile> boardFileList = new ArrayList<BoardFile>();
 
+    // 조회수/댓글 수/첨부파일 수는 상대값 UPDATE 쿼리로만 변경하므로 엔티티 변경 감지 대상에서 제외
+    @ColumnDefault("0")
+    @Column(nullable = false, insertable = false, updatable = false)
+    private long viewCount;
+
+    @ColumnDefault("0")
+    @Column(nullable = false, insertable = false, updatable = false)
+    private long commentCount;
+
+    @ColumnDefault("0")
+    @Column(nullable = false, insertable = false, updatable = false)
+    private long fileCount;
+
+    // 댓글/첨부파일이 변경될 때마다 증가하는 버전 (ETag 계산용)
+    @ColumnDefault("0")
+    @Column(nullable = false, insertable = false, updatable = false)
+    private long revision;
+
     @Builder
     public Board(String title, String content, Member member) {
         this.title = title;
         this.content = content;
+        this.searchText = BoardSearchText.fromHtml(content);
         this.member = member;
     }
 
@@ -58,5 +83,6 @@ public class Board extends BaseTimeEntity {
     public void update(String title, String content) {
         this.title = title;
         this.content = content;
+        this.searchText = BoardSearchText.fromHtml(content);
     }
 }
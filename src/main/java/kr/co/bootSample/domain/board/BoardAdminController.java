@@ -0,0 +1,84 @@
+package kr.co.bootSample.domain.board;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import kr.co.bootSample.global.common.CacheStatsResponse;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 관리자 전용 게시판 운영 API를 제공하는 컨트롤러입니다.
+ */
+@Tag(name = "Board Admin", description = "관리자 전용 API (게시판 운영)")
+@RestController
+@RequestMapping("/api/admin/boards")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class BoardAdminController {
+
+    private static final Logger log = LoggerFactory.getLogger(BoardAdminController.class);
+
+    private final BoardDetailCache boardDetailCache;
+    private final CommentService commentService;
+    private final BoardCounterRepairJob boardCounterRepairJob;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 게시글 상세 캐시 통계 조회 API (ADMIN 전용)
+     */
+    @Operation(summary = "게시글 상세 캐시 통계", description = "상세 응답 캐시의 적중/미스/제거 통계를 조회합니다. (관리자 권한 필요)")
+    @GetMapping("/cache/detail")
+    public ResponseEntity<CacheStatsResponse> detailCacheStats() {
+        return ResponseEntity.ok(boardDetailCache.stats());
+    }
+
+    /**
+     * 게시글 카운터 보정 API (ADMIN 전용)
+     */
+    @Operation(summary = "게시글 카운터 보정", description = "모든 게시글의 댓글/첨부파일 수를 실제 데이터 기준으로 다시 계산합니다. (관리자 권한 필요)")
+    @PostMapping("/counters/repair")
+    public ResponseEntity<Long> repairCounters() {
+        return ResponseEntity.ok(boardCounterRepairJob.repair());
+    }
+
+    /**
+     * 게시글 댓글 내보내기 API (ADMIN 전용)
+     * 댓글을 한 줄에 하나씩 JSON(NDJSON)으로 스트리밍하여 댓글 수와 관계없이 서버 메모리 사용량을 일정하게 유지합니다.
+     */
+    @Operation(summary = "댓글 내보내기", description = "특정 게시글의 전체 댓글을 NDJSON 형식으로 스트리밍합니다. (관리자 권한 필요)")
+    @GetMapping("/{boardId}/comments/export")
+    public void exportComments(@PathVariable Long boardId, HttpServletResponse response) throws IOException {
+        response.setContentType("application/x-ndjson");
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"comments-" + boardId + ".ndjson\"");
+
+        Writer writer = response.getWriter();
+        long exported = commentService.export(boardId, comment -> {
+            try {
+                writer.write(objectMapper.writeValueAsString(comment));
+                writer.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        writer.flush();
+        log.info("댓글 내보내기 완료: 게시글 ID {}, {}건", boardId, exported);
+    }
+}
@@ -1,24 +1,34 @@
 package kr.co.bootSample.domain.board;
 
+import kr.co.bootSample.domain.board.dto.BoardCursorResponse;
 import kr.co.bootSample.domain.board.dto.BoardDetailResponse;
 import kr.co.bootSample.domain.board.dto.BoardResponse;
 import kr.co.bootSample.domain.board.dto.BoardSaveRequest;
+import kr.co.bootSample.global.file.MultipartUpload;
+import kr.co.bootSample.global.file.MultipartUploadReader;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
-import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.context.request.WebRequest;
 
-import jakarta.validation.Valid;
 import java.io.IOException;
-import java.util.List;
+import java.util.Locale;
+import java.util.Set;
 
 /**
  * 게시판 관련 API를 제공하는 컨트롤러입니다.
@@ -29,54 +39,144 @@ import java.util.List;
 @RequiredArgsConstructor
 public class BoardController {
 
+    public static final String PAGING_MODE_HEADER = "X-Paging-Mode";
+
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final BoardService boardService;
+    private final MultipartUploadReader multipartUploadReader;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
 
     /**
      * 게시물 목록 조회 API (페이징 및 검색 지원)
+     * mode=slice는 전체 개수 없이 다음 페이지 존재 여부만, mode=auto는 비용이 큰 검색에 한해 slice로 응답합니다.
+     * 실제 적용된 방식은 X-Paging-Mode 응답 헤더(page/slice)로 전달됩니다.
+     * 목록 버전 기반 ETag가 일치하면 목록 조회 없이 304 Not Modified로 응답합니다.
      */
-    @Operation(summary = "게시글 목록 조회", description = "검색어와 페이징 정보를 이용해 게시글 목록을 조회합니다.")
+    @Operation(summary = "게시글 목록 조회", description = "검색어와 페이징 정보를 이용해 게시글 목록을 조회합니다. (mode: page, slice, auto)")
     @GetMapping
-    public ResponseEntity<Page<BoardResponse>> list(
+    public ResponseEntity<Slice<BoardResponse>> list(
+            @RequestParam(required = false) String keyword,
+            @RequestParam(defaultValue = "page") String mode,
+            @PageableDefault(size = 10, sort = "boardId", direction = Direction.DESC) Pageable pageable,
+            WebRequest webRequest) {
+        BoardPagingMode pagingMode = boardService.resolvePagingMode(keyword, BoardPagingMode.from(mode));
+        String pagingModeName = pagingMode.name().toLowerCase(Locale.ROOT);
+
+        String eTag = boardService.listETag(keyword + "|" + pagingModeName + "|" + pageable);
+        if (webRequest.checkNotModified(eTag)) {
+            return notModified();
+        }
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(revalidate())
+                .header(PAGING_MODE_HEADER, pagingModeName)
+                .body(boardService.findAll(keyword, pageable, pagingMode));
+    }
+
+    /**
+     * 게시물 목록 커서 조회 API (Keyset 페이징 및 검색 지원)
+     * after 파라미터가 있는 요청만 처리하며, 첫 페이지는 after 값을 비워서 요청합니다.
+     */
+    @Operation(summary = "게시글 목록 커서 조회", description = "이전 응답의 nextCursor를 after로 전달해 다음 게시글 목록을 조회합니다.")
+    @GetMapping(params = "after")
+    public ResponseEntity<BoardCursorResponse> listByCursor(
             @RequestParam(required = false) String keyword,
-            @PageableDefault(size = 10, sort = "boardId", direction = Direction.DESC) Pageable pageable) {
-        return ResponseEntity.ok(boardService.findAll(keyword, pageable));
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "10") int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+        return ResponseEntity.ok(boardService.findAllByCursor(keyword, after, pageSize));
     }
 
     /**
      * 게시글 상세 조회 API
+     * 버전 정보(수정 시각, 댓글/첨부파일 버전)만 먼저 조회하여 ETag/Last-Modified가 일치하면
+     * 상세 조회 없이 304 Not Modified로 응답합니다. 이 경우에도 조회수는 증가합니다.
      */
     @Operation(summary = "게시글 상세 조회", description = "게시글 ID를 이용해 상세 내용을 조회합니다.")
     @GetMapping("/{id}")
-    public ResponseEntity<BoardDetailResponse> detail(@PathVariable Long id) {
-        return ResponseEntity.ok(boardService.findById(id));
+    public ResponseEntity<BoardDetailResponse> detail(@PathVariable Long id, WebRequest webRequest) {
+        BoardVersion version = boardService.findVersion(id);
+        if (webRequest.checkNotModified(version.eTag(), version.lastModifiedMillis())) {
+            boardService.recordView(id);
+            return notModified();
+        }
+
+        // 버전 조회 이후 변경되었을 수 있으므로 실제 응답 본문의 버전으로 검증자를 설정
+        BoardDetailResponse detail = boardService.findById(id);
+        BoardVersion loaded = detail.version();
+        return ResponseEntity.ok()
+                .eTag(loaded.eTag())
+                .lastModified(loaded.lastModifiedMillis())
+                .cacheControl(revalidate())
+                .body(detail);
     }
 
     /**
      * 게시글 등록 API
+     * 요청 본문은 board(JSON) 파트와 files 파트로 구성되며, 첨부파일은 스트리밍으로 읽어 임시 파일에 한 번만 기록합니다.
      */
-    @Operation(summary = "게시글 작성", description = "제목, 내용 및 첨부파일을 입력해 새로운 게시글을 작성합니다.")
+    @Operation(summary = "게시글 작성", description = "제목, 내용 및 첨부파일을 입력해 새로운 게시글을 작성합니다. (multipart: board, files)")
     @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
-    public ResponseEntity<Long> save(
-            @Valid @RequestPart("board") BoardSaveRequest request,
-            @RequestPart(value = "files", required = false) List<MultipartFile> files,
-            Authentication authentication) throws IOException {
-        return ResponseEntity.ok(boardService.save(request, files, authentication.getName()));
+    public ResponseEntity<Long> save(HttpServletRequest servletRequest, Authentication authentication)
+            throws IOException {
+        try (MultipartUpload upload = readUpload(servletRequest)) {
+            BoardSaveRequest request = readBoard(upload);
+            return ResponseEntity.ok(boardService.save(request, upload.files(), authentication.getName()));
+        }
     }
 
     /**
      * 게시글 수정 API
      */
-    @Operation(summary = "게시글 수정", description = "작성자가 게시글 제목, 내용 및 추가 첨부파일을 수정합니다.")
+    @Operation(summary = "게시글 수정", description = "작성자가 게시글 제목, 내용 및 추가 첨부파일을 수정합니다. (multipart: board, files)")
     @PutMapping(value = "/{id}", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<Void> update(
             @PathVariable Long id,
-            @Valid @RequestPart("board") BoardSaveRequest request,
-            @RequestPart(value = "files", required = false) List<MultipartFile> files,
+            HttpServletRequest servletRequest,
             Authentication authentication) throws IOException {
-        boardService.update(id, request, files, authentication.getName());
+        // 작성자가 아니면 요청 본문(첨부파일)을 읽기 전에 거부
+        boardService.assertOwner(id, authentication.getName());
+        try (MultipartUpload upload = readUpload(servletRequest)) {
+            BoardSaveRequest request = readBoard(upload);
+            boardService.update(id, request, upload.files(), authentication.getName());
+        }
         return ResponseEntity.ok().build();
     }
 
+    /**
+     * 요청 본문을 읽어 첨부파일을 임시 파일로 기록합니다. (기록 차례를 기다리다 초과하면 429)
+     * 기록은 초당 기록량 예산에 따라 늦춰질 수 있으므로 트랜잭션(DB 커넥션)을 시작하기 전에 끝내고,
+     * 기록 허가는 게시글 저장 전에 반납합니다.
+     */
+    private MultipartUpload readUpload(HttpServletRequest servletRequest) throws IOException {
+        return multipartUploadReader.read(servletRequest, "files");
+    }
+
+    /**
+     * board 파트(JSON)를 게시글 저장 요청으로 변환하고 유효성을 검사합니다.
+     */
+    private BoardSaveRequest readBoard(MultipartUpload upload) {
+        String json = upload.field("board");
+        if (json == null) {
+            throw new RuntimeException("게시글 정보가 없습니다.");
+        }
+
+        BoardSaveRequest request;
+        try {
+            request = objectMapper.readValue(json, BoardSaveRequest.class);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("게시글 정보 형식이 올바르지 않습니다.");
+        }
+
+        Set<ConstraintViolation<BoardSaveRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            throw new RuntimeException(violations.iterator().next().getMessage());
+        }
+        return request;
+    }
+
     /**
      * 게시글 삭제 API
      */
@@ -96,4 +196,19 @@ public class BoardController {
         boardService.deleteFile(fileId, authentication.getName());
         return ResponseEntity.ok().build();
     }
+
+    /**
+     * 조건부 요청용 Cache-Control 값입니다.
+     * 매 요청마다 서버 검증을 거치도록 하여 Spring Security 기본값(no-store)으로 ETag가 무시되지 않도록 합니다.
+     */
+    private static CacheControl revalidate() {
+        return CacheControl.noCache().cachePrivate();
+    }
+
+    /**
+     * 304 Not Modified 응답을 생성합니다. (ETag/Last-Modified 헤더는 WebRequest.checkNotModified에서 설정)
+     */
+    private static <T> ResponseEntity<T> notModified() {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(revalidate()).build();
+    }
 }
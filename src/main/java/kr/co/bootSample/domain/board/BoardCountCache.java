@@ -0,0 +1,79 @@
+package kr.co.bootSample.domain.board;
+
+import kr.co.bootSample.global.common.TransactionUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 검색어별 게시글 전체 개수를 TTL 동안 보관하는 캐시입니다.
+ * 목록 조회마다 실행되던 count 쿼리를 줄이기 위해 사용하며, 게시글 작성/수정/삭제 시 전체 무효화됩니다.
+ */
+@Component
+public class BoardCountCache {
+
+    @Value("${app.board.count-cache.ttl-ms:30000}")
+    private long ttlMillis;
+
+    @Value("${app.board.count-cache.max-entries:1000}")
+    private int maxEntries;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<String, Entry>();
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * 캐시된 개수를 반환하고, 없거나 만료되었으면 loader로 계산한 값을 저장 후 반환합니다.
+     */
+    public long get(String keyword, LongSupplier loader) {
+        String key = normalize(keyword);
+        long now = System.nanoTime();
+
+        Entry entry = entries.get(key);
+        if (entry != null && entry.expiresAt() - now > 0) {
+            return entry.count();
+        }
+
+        // 계산 중 무효화가 일어났다면 이전 데이터 기준의 값이므로 저장하지 않음
+        long startGeneration = generation.get();
+        long count = loader.getAsLong();
+        if (generation.get() == startGeneration) {
+            if (entries.size() >= maxEntries) {
+                entries.clear();
+            }
+            entries.put(key, new Entry(count, now + TimeUnit.MILLISECONDS.toNanos(ttlMillis)));
+        }
+        return count;
+    }
+
+    /**
+     * 캐시된 개수가 있는지 확인합니다.
+     */
+    public boolean contains(String keyword) {
+        Entry entry = entries.get(normalize(keyword));
+        return entry != null && entry.expiresAt() - System.nanoTime() > 0;
+    }
+
+    /**
+     * 모든 캐시를 무효화합니다. 트랜잭션 안에서 호출되면 커밋 이후에 반영됩니다.
+     */
+    public void invalidateAll() {
+        TransactionUtils.afterCommit(() -> {
+            generation.incrementAndGet();
+            entries.clear();
+        });
+    }
+
+    private String normalize(String keyword) {
+        return StringUtils.hasText(keyword) ? keyword.toLowerCase(Locale.ROOT) : "";
+    }
+
+    private record Entry(long count, long expiresAt) {
+    }
+}
@@ -0,0 +1,65 @@
+package kr.co.bootSample.domain.board;
+
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 게시글의 댓글/첨부파일 수 카운터를 실제 데이터 기준으로 일괄 보정하는 작업입니다.
+ * 테이블 전체 잠금을 피하기 위해 게시글 ID 범위 단위로 나누어 각각 별도 트랜잭션으로 실행합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BoardCounterRepairJob {
+
+    private static final Logger log = LoggerFactory.getLogger(BoardCounterRepairJob.class);
+
+    @Value("${app.board.counter-repair.chunk-size:1000}")
+    private int chunkSize;
+
+    private final BoardRepository boardRepository;
+    private final BoardDetailCache boardDetailCache;
+    private final BoardListVersion boardListVersion;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    @Scheduled(cron = "${app.board.counter-repair.cron:0 30 4 * * *}")
+    public void scheduledRepair() {
+        repair();
+    }
+
+    /**
+     * 카운터 보정을 실행하고 처리한 게시글 수를 반환합니다. 이미 실행 중이면 -1을 반환합니다.
+     */
+    public long repair() {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("게시글 카운터 보정이 이미 실행 중입니다.");
+            return -1;
+        }
+        try {
+            Long maxId = boardRepository.findMaxBoardId();
+            if (maxId == null) {
+                return 0;
+            }
+
+            long start = System.currentTimeMillis();
+            long processed = 0;
+            for (long from = 1; from <= maxId; from += chunkSize) {
+                processed += boardRepository.recalculateCounters(from, Math.min(from + chunkSize - 1, maxId));
+            }
+            if (processed > 0) {
+                boardDetailCache.invalidateAll();
+                boardListVersion.bump();
+            }
+            log.info("게시글 카운터 보정 완료: {}건 처리 ({}ms)", processed, System.currentTimeMillis() - start);
+            return processed;
+        } finally {
+            running.set(false);
+        }
+    }
+}
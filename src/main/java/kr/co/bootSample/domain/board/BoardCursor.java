@@ -0,0 +1,47 @@
+package kr.co.bootSample.domain.board;
+
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 커서 기반 페이징에서 사용하는 불투명(Opaque) 커서를 인코딩/디코딩하는 유틸리티 클래스입니다.
+ * 클라이언트는 커서 값의 내부 구조에 의존하지 않고 응답받은 값을 그대로 다음 요청에 전달합니다.
+ */
+public final class BoardCursor {
+
+    private static final String PREFIX = "b:";
+
+    private BoardCursor() {
+    }
+
+    /**
+     * 마지막 게시글 ID를 커서 문자열로 변환합니다.
+     */
+    public static String encode(Long boardId) {
+        if (boardId == null) {
+            return null;
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((PREFIX + boardId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열에서 마지막 게시글 ID를 추출합니다. 값이 비어 있으면 첫 페이지(null)로 간주합니다.
+     */
+    public static Long decode(String cursor) {
+        if (!StringUtils.hasText(cursor)) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!decoded.startsWith(PREFIX)) {
+                throw new IllegalArgumentException(decoded);
+            }
+            return Long.parseLong(decoded.substring(PREFIX.length()));
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("잘못된 커서 값입니다.");
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package kr.co.bootSample.domain.board;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import kr.co.bootSample.domain.board.dto.BoardDetailResponse;
+import kr.co.bootSample.domain.board.dto.CommentResponse;
+import kr.co.bootSample.domain.board.dto.FileResponse;
+import kr.co.bootSample.global.common.CacheStatsResponse;
+import kr.co.bootSample.global.common.TransactionUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * 게시글 상세 응답(BoardDetailResponse)을 보관하는 Read-through 캐시입니다.
+ * Caffeine(W-TinyLFU)으로 자주 조회되는 게시글을 우선 유지하며, 응답의 대략적인 메모리 크기를 가중치로 사용해
+ * 전체 용량을 제한합니다. 게시글/첨부파일/댓글이 변경되면 해당 게시글 항목만 커밋 이후에 무효화됩니다.
+ */
+@Component
+public class BoardDetailCache {
+
+    private static final int OBJECT_OVERHEAD = 64;
+
+    private final Cache<Long, BoardDetailResponse> cache;
+
+    public BoardDetailCache(
+            @Value("${app.board.detail-cache.max-bytes:67108864}") long maxBytes,
+            @Value("${app.board.detail-cache.expire-after-write:PT10M}") Duration expireAfterWrite) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((Long id, BoardDetailResponse response) -> weigh(response))
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 캐시된 상세 응답을 반환하고, 없으면 loader로 생성한 응답을 저장 후 반환합니다.
+     */
+    public BoardDetailResponse get(Long boardId, Function<Long, BoardDetailResponse> loader) {
+        return cache.get(boardId, loader);
+    }
+
+    /**
+     * 캐시된 상세 응답을 반환합니다. 없으면 null을 반환합니다.
+     */
+    public BoardDetailResponse getIfPresent(Long boardId) {
+        return cache.getIfPresent(boardId);
+    }
+
+    /**
+     * 게시글의 캐시 항목을 무효화합니다. 트랜잭션 안에서 호출되면 커밋 이후에 반영됩니다.
+     */
+    public void invalidate(Long boardId) {
+        TransactionUtils.afterCommit(() -> cache.invalidate(boardId));
+    }
+
+    /**
+     * 모든 캐시 항목을 무효화합니다. (카운터 일괄 보정 등)
+     */
+    public void invalidateAll() {
+        TransactionUtils.afterCommit(cache::invalidateAll);
+    }
+
+    public CacheStatsResponse stats() {
+        return CacheStatsResponse.of("boardDetail", cache);
+    }
+
+    /**
+     * 응답 객체의 대략적인 힙 사용량(byte)을 계산합니다. 문자열은 UTF-16 기준으로 추정합니다.
+     */
+    private static int weigh(BoardDetailResponse response) {
+        long size = OBJECT_OVERHEAD
+                + length(response.title())
+                + length(response.content())
+                + length(response.nickname())
+                + length(response.username());
+        if (response.fileList() != null) {
+            for (FileResponse file : response.fileList()) {
+                size += OBJECT_OVERHEAD + length(file.originName()) + length(file.storedName());
+            }
+        }
+        if (response.commentList() != null) {
+            for (CommentResponse comment : response.commentList()) {
+                size += OBJECT_OVERHEAD + length(comment.content()) + length(comment.nickname())
+                        + length(comment.username());
+            }
+        }
+        return (int) Math.min(size, Integer.MAX_VALUE);
+    }
+
+    private static long length(String value) {
+        return value != null ? 2L * value.length() : 0L;
+    }
+}
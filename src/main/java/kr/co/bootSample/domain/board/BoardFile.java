@@ -50,19 +50,32 @@ public class BoardFile {
     @Column(nullable = false)
     private String fileType; // MIME 타입
 
+    @Column(length = 64)
+    private String checksum; // SHA-256 체크섬 (업로드 시 계산, 기존 파일은 null)
+
     @CreatedDate
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
     @Builder
     public BoardFile(Board board, String originName, String storedName, String filePath, Long fileSize,
-            String fileType) {
+            String fileType, String checksum) {
         this.board = board;
         this.originName = originName;
         this.storedName = storedName;
         this.filePath = filePath;
         this.fileSize = fileSize;
         this.fileType = fileType;
+        this.checksum = checksum;
+    }
+
+    /**
+     * 저장 위치를 변경합니다. (내용 주소 기반 저장소로 마이그레이션 시 사용)
+     */
+    public void relocate(String storedName, String filePath, String checksum) {
+        this.storedName = storedName;
+        this.filePath = filePath;
+        this.checksum = checksum;
     }
 
     /**
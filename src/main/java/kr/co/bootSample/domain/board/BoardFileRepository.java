@@ -1,12 +1,25 @@
 package kr.co.bootSample.domain.board;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * BoardFile 엔티티를 위한 Repository 인터페이스입니다.
  */
 public interface BoardFileRepository extends JpaRepository<BoardFile, Long> {
     List<BoardFile> findAllByBoard_BoardId(Long boardId);
+
+    Optional<BoardFile> findFirstByStoredName(String storedName);
+
+    List<BoardFile> findByFileIdGreaterThanOrderByFileIdAsc(Long fileId, Pageable pageable);
+
+    /**
+     * 저장 경로별 첨부파일 수를 조회합니다. ([저장 경로, 개수], 미사용 파일 정리의 Mark 단계용)
+     */
+    @Query("SELECT f.storedName, COUNT(f) FROM BoardFile f GROUP BY f.storedName")
+    List<Object[]> countByStoredName();
 }
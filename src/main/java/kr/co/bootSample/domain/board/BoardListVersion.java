@@ -0,0 +1,32 @@
+package kr.co.bootSample.domain.board;
+
+import kr.co.bootSample.global.common.TransactionUtils;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 게시글 목록 응답의 ETag 계산에 사용하는 전역 버전입니다.
+ * 목록에 표시되는 데이터(게시글, 댓글 수, 첨부파일 수)가 변경될 때마다 커밋 이후 증가하며,
+ * 재기동 시 이전 ETag와 겹치지 않도록 기동 시각을 함께 사용합니다. (조회수 변경은 포함하지 않습니다)
+ */
+@Component
+public class BoardListVersion {
+
+    private final long epoch = System.currentTimeMillis();
+    private final AtomicLong version = new AtomicLong();
+
+    /**
+     * 목록 버전을 올립니다. 트랜잭션 안에서 호출되면 커밋 이후에 반영됩니다.
+     */
+    public void bump() {
+        TransactionUtils.afterCommit(version::incrementAndGet);
+    }
+
+    /**
+     * 목록 요청(검색어, 페이징 방식 및 페이지 정보)별 강한(Strong) ETag 값을 반환합니다.
+     */
+    public String eTag(String requestKey) {
+        return "\"l" + epoch + "-" + version.get() + "-" + Integer.toHexString(requestKey.hashCode()) + "\"";
+    }
+}
@@ -0,0 +1,31 @@
+package kr.co.bootSample.domain.board;
+
+import org.springframework.util.StringUtils;
+
+import java.util.Locale;
+
+/**
+ * 게시글 목록 조회 시 사용할 페이징 방식을 정의하는 Enum 클래스입니다.
+ */
+public enum BoardPagingMode {
+    /** 전체 개수를 포함한 Page 응답 (count 쿼리 실행, 검색어별 캐시 사용) */
+    PAGE,
+    /** 다음 페이지 존재 여부만 포함한 Slice 응답 (count 쿼리 생략) */
+    SLICE,
+    /** 검색어가 없거나 개수가 캐시되어 있으면 PAGE, 비용이 큰 검색이면 SLICE */
+    AUTO;
+
+    /**
+     * 요청 파라미터 문자열을 대소문자 구분 없이 변환합니다.
+     */
+    public static BoardPagingMode from(String value) {
+        if (!StringUtils.hasText(value)) {
+            return PAGE;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("지원하지 않는 페이징 방식입니다: " + value);
+        }
+    }
+}
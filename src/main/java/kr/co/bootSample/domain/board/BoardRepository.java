@@ -1,10 +1,105 @@
 package kr.co.bootSample.domain.board;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 /**
  * Board 엔티티를 위한 Repository 인터페이스입니다.
  */
 public interface BoardRepository extends JpaRepository<Board, Long>, BoardRepositoryCustom {
 
+    /**
+     * 상세 조회용으로 작성자와 첨부파일 목록을 한 번의 쿼리로 함께 조회합니다.
+     */
+    @EntityGraph(attributePaths = { "member", "boardFileList" })
+    Optional<Board> findDetailByBoardId(Long boardId);
+
+    /**
+     * 전체 게시글 ID를 조회합니다. (검색 색인 보정용)
+     */
+    @Query("SELECT b.boardId FROM Board b")
+    List<Long> findAllBoardIds();
+
+    /**
+     * 특정 시점 이후 수정된 게시글 ID를 조회합니다. (검색 색인 보정용)
+     */
+    @Query("SELECT b.boardId FROM Board b WHERE b.modifiedAt >= :since")
+    List<Long> findBoardIdsModifiedSince(@Param("since") LocalDateTime since);
+
+    /**
+     * 작성자 정보와 함께 게시글 목록을 조회합니다. (검색 색인 재구성용)
+     */
+    @Query("SELECT b FROM Board b JOIN FETCH b.member WHERE b.boardId IN :ids")
+    List<Board> findAllWithMemberByBoardIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 댓글 수를 상대값으로 증감하고 게시글 버전을 올립니다. (조회 후 수정 없이 원자적으로 반영)
+     */
+    @Modifying
+    @Query("UPDATE Board b SET b.commentCount = b.commentCount + :delta, b.revision = b.revision + 1"
+            + " WHERE b.boardId = :boardId")
+    int addCommentCount(@Param("boardId") Long boardId, @Param("delta") long delta);
+
+    /**
+     * 첨부파일 수를 상대값으로 증감하고 게시글 버전을 올립니다. (조회 후 수정 없이 원자적으로 반영)
+     */
+    @Modifying
+    @Query("UPDATE Board b SET b.fileCount = b.fileCount + :delta, b.revision = b.revision + 1"
+            + " WHERE b.boardId = :boardId")
+    int addFileCount(@Param("boardId") Long boardId, @Param("delta") long delta);
+
+    /**
+     * 조건부 요청(ETag) 검증을 위해 게시글의 버전 정보만 조회합니다.
+     */
+    @Query("SELECT new kr.co.bootSample.domain.board.BoardVersion(b.boardId, b.modifiedAt, b.revision)"
+            + " FROM Board b WHERE b.boardId = :boardId")
+    Optional<BoardVersion> findVersionByBoardId(@Param("boardId") Long boardId);
+
+    /**
+     * 게시글 ID 순으로 일정 개수씩 조회합니다. (전체 게시글 일괄 처리용)
+     */
+    List<Board> findByBoardIdGreaterThanOrderByBoardIdAsc(Long boardId, Pageable pageable);
+
+    /**
+     * 검색용 텍스트가 없는 게시글을 ID 순으로 일정 개수씩 조회합니다. (검색용 텍스트 채우기용)
+     */
+    List<Board> findBySearchTextIsNullAndBoardIdGreaterThanOrderByBoardIdAsc(Long boardId, Pageable pageable);
+
+    /**
+     * 검색용 텍스트를 채웁니다. 수정 시각이 바뀌지 않도록 벌크 UPDATE로 실행하며, 그 사이 수정된 게시글은 건너뜁니다.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Board b SET b.searchText = :searchText WHERE b.boardId = :boardId AND b.searchText IS NULL")
+    int fillSearchText(@Param("boardId") Long boardId, @Param("searchText") String searchText);
+
+    @Query("SELECT MAX(b.boardId) FROM Board b")
+    Long findMaxBoardId();
+
+    /**
+     * 지정한 ID 범위의 댓글/첨부파일 수를 실제 데이터 기준으로 다시 계산합니다. (카운터 보정용)
+     * 값이 달라지는 게시글은 버전도 함께 올립니다. (MariaDB는 SET 절을 왼쪽부터 평가하므로 revision을 먼저 계산)
+     * 
+     * @return 처리한 게시글 수
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE board b SET"
+            + " b.revision = b.revision + IF("
+            + "b.comment_count <> (SELECT COUNT(*) FROM comment c WHERE c.board_id = b.board_id)"
+            + " OR b.file_count <> (SELECT COUNT(*) FROM board_file f WHERE f.board_id = b.board_id), 1, 0),"
+            + " b.comment_count = (SELECT COUNT(*) FROM comment c WHERE c.board_id = b.board_id),"
+            + " b.file_count = (SELECT COUNT(*) FROM board_file f WHERE f.board_id = b.board_id)"
+            + " WHERE b.board_id BETWEEN :fromId AND :toId", nativeQuery = true)
+    int recalculateCounters(@Param("fromId") long fromId, @Param("toId") long toId);
 }
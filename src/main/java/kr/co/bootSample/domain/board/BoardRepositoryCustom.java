@@ -1,7 +1,11 @@
 package kr.co.bootSample.domain.board;
 
-import org.springframework.data.domain.Page;
+import kr.co.bootSample.domain.board.dto.BoardResponse;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.Collection;
+import java.util.List;
 
 /**
  * Querydsl을 사용한 커스텀 쿼리 메서드를 정의하는 인터페이스입니다.
@@ -9,11 +13,45 @@ import org.springframework.data.domain.Pageable;
 public interface BoardRepositoryCustom {
 
     /**
-     * 키워드 기반 동적 검색 및 페이징을 수행합니다.
+     * 키워드 기반 동적 검색으로 요청한 페이지의 게시글을 조회합니다. (전체 개수는 countByKeyword로 별도 조회)
+     * 본문(LONGTEXT)을 조회하지 않고 목록에 필요한 컬럼만 BoardResponse로 프로젝션합니다.
+     * 
+     * @param keyword      검색어 (제목, 내용, 닉네임 대상)
+     * @param candidateIds 검색 색인에서 얻은 후보 게시글 ID (null이면 전체 테이블 대상)
+     * @param pageable     페이징 정보
+     * @return 해당 페이지의 게시글 목록 응답
+     */
+    List<BoardResponse> findAllByKeywordCustom(String keyword, Collection<Long> candidateIds, Pageable pageable);
+
+    /**
+     * 검색 조건에 해당하는 전체 게시글 수를 조회합니다.
+     * 
+     * @param keyword      검색어 (제목, 내용, 닉네임 대상)
+     * @param candidateIds 검색 색인에서 얻은 후보 게시글 ID (null이면 전체 테이블 대상)
+     * @return 전체 게시글 수
+     */
+    long countByKeyword(String keyword, Collection<Long> candidateIds);
+
+    /**
+     * 키워드 기반 동적 검색을 전체 개수 조회 없이 수행합니다.
+     * size + 1건을 조회하여 다음 페이지 존재 여부만 판단하므로 count 쿼리가 실행되지 않습니다.
+     * 
+     * @param keyword      검색어 (제목, 내용, 닉네임 대상)
+     * @param candidateIds 검색 색인에서 얻은 후보 게시글 ID (null이면 전체 테이블 대상)
+     * @param pageable     페이징 정보
+     * @return 다음 페이지 존재 여부를 포함한 게시글 목록
+     */
+    Slice<BoardResponse> findSliceByKeyword(String keyword, Collection<Long> candidateIds, Pageable pageable);
+
+    /**
+     * 키워드 기반 동적 검색을 커서(Keyset) 방식으로 수행합니다.
+     * OFFSET 대신 boardId 범위 조건을 사용하므로 깊은 페이지에서도 조회 비용이 일정합니다.
      * 
-     * @param keyword  검색어 (제목, 내용, 닉네임 대상)
-     * @param pageable 페이징 정보
-     * @return 페이징 처리된 게시글 목록
+     * @param keyword      검색어 (제목, 내용, 닉네임 대상)
+     * @param candidateIds 검색 색인에서 얻은 후보 게시글 ID (null이면 전체 테이블 대상)
+     * @param afterBoardId 이전 페이지의 마지막 게시글 ID (null이면 첫 페이지)
+     * @param size         조회할 게시글 수
+     * @return 다음 페이지 존재 여부를 포함한 게시글 목록
      */
-    Page<Board> findAllByKeywordCustom(String keyword, Pageable pageable);
+    Slice<BoardResponse> findAllByKeywordAfter(String keyword, Collection<Long> candidateIds, Long afterBoardId, int size);
 }
@@ -1,14 +1,21 @@
 package kr.co.bootSample.domain.board;
 
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import kr.co.bootSample.domain.board.dto.BoardResponse;
 import kr.co.bootSample.domain.member.QMember;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.util.StringUtils;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 import static kr.co.bootSample.domain.board.QBoard.board;
@@ -23,44 +30,142 @@ public class BoardRepositoryImpl implements BoardRepositoryCustom {
     private final JPAQueryFactory queryFactory;
 
     @Override
-    public Page<Board> findAllByKeywordCustom(String keyword, Pageable pageable) {
-        // [1] 데이터 조회 쿼리 (페이징 및 패치 조인 적용)
-        List<Board> content = queryFactory
-                .selectFrom(board)
-                .leftJoin(board.member, QMember.member).fetchJoin() // 작성자 정보까지 한 번에 조회 (N+1 방지)
-                .where(searchCondition(keyword))
+    public List<BoardResponse> findAllByKeywordCustom(String keyword, Collection<Long> candidateIds,
+            Pageable pageable) {
+        // ID 선조회 후 목록 컬럼만 프로젝션
+        List<Long> ids = selectBoardIds(keyword, candidateIds)
                 .orderBy(board.boardId.desc())
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .fetch();
+        return fetchResponses(ids);
+    }
+
+    @Override
+    public Slice<BoardResponse> findSliceByKeyword(String keyword, Collection<Long> candidateIds,
+            Pageable pageable) {
+        // 다음 페이지 존재 여부 확인을 위해 size + 1건 조회 (count 쿼리 생략)
+        List<Long> ids = selectBoardIds(keyword, candidateIds)
+                .orderBy(board.boardId.desc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize() + 1L)
+                .fetch();
 
-        if (content == null) {
-            content = new java.util.ArrayList<Board>();
+        boolean hasNext = ids.size() > pageable.getPageSize();
+        if (hasNext) {
+            ids = ids.subList(0, pageable.getPageSize());
         }
 
-        // [2] 전체 개수 조회 쿼리 (최적화 가능)
-        Long total = queryFactory
+        return new SliceImpl<BoardResponse>(fetchResponses(ids), pageable, hasNext);
+    }
+
+    /**
+     * 검색어가 없으면 작성자 조인 없이 게시글 테이블만 대상으로 집계합니다.
+     */
+    @Override
+    public long countByKeyword(String keyword, Collection<Long> candidateIds) {
+        JPAQuery<Long> query = queryFactory
                 .select(board.count())
+                .from(board);
+        if (StringUtils.hasText(keyword)) {
+            query.leftJoin(board.member, QMember.member);
+        }
+        Long total = query
+                .where(searchCondition(keyword, candidateIds))
+                .fetchOne();
+
+        return (total != null) ? total : 0L;
+    }
+
+    @Override
+    public Slice<BoardResponse> findAllByKeywordAfter(String keyword, Collection<Long> candidateIds,
+            Long afterBoardId, int size) {
+        // 시작 위치를 PK로 바로 탐색하므로 ID 선조회 없이 목록 컬럼만 프로젝션
+        // 작성자는 필수 값이므로 LEFT JOIN도 결과가 같으며, 게시글을 기준 테이블로 고정해 PK 역순으로 읽다가 LIMIT에서 멈추게 함
+        // (INNER JOIN이면 검색 조건이 있을 때 작성자부터 읽고 전체 결과를 정렬하는 계획이 선택될 수 있음)
+        List<BoardResponse> content = queryFactory
+                .select(boardResponse())
                 .from(board)
                 .leftJoin(board.member, QMember.member)
-                .where(searchCondition(keyword))
-                .fetchOne();
+                .where(
+                        searchCondition(keyword, candidateIds),
+                        boardIdLessThan(afterBoardId))
+                .orderBy(board.boardId.desc())
+                .limit(size + 1L)
+                .fetch();
 
-        long totalCount = (total != null) ? total : 0L;
+        boolean hasNext = content.size() > size;
+        if (hasNext) {
+            content = content.subList(0, size);
+        }
+
+        return new SliceImpl<BoardResponse>(content, PageRequest.of(0, size), hasNext);
+    }
+
+    /**
+     * 정렬/페이징 대상 게시글 ID만 조회하는 쿼리를 생성합니다. (Deferred Join)
+     * OFFSET으로 건너뛰는 행에 대해서는 작성자 조인과 컬럼 조회가 일어나지 않도록 PK만 선택합니다.
+     */
+    private JPAQuery<Long> selectBoardIds(String keyword, Collection<Long> candidateIds) {
+        JPAQuery<Long> query = queryFactory
+                .select(board.boardId)
+                .from(board);
+        if (StringUtils.hasText(keyword)) {
+            query.leftJoin(board.member, QMember.member);
+        }
+        return query.where(searchCondition(keyword, candidateIds));
+    }
+
+    /**
+     * 선조회한 ID에 해당하는 게시글을 목록 응답 형태로 조회합니다.
+     * LONGTEXT 본문을 포함한 엔티티를 로딩하지 않고 필요한 컬럼만 DTO로 직접 매핑합니다.
+     */
+    private List<BoardResponse> fetchResponses(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return new ArrayList<BoardResponse>();
+        }
+        return queryFactory
+                .select(boardResponse())
+                .from(board)
+                .join(board.member, QMember.member)
+                .where(board.boardId.in(ids))
+                .orderBy(board.boardId.desc())
+                .fetch();
+    }
+
+    private ConstructorExpression<BoardResponse> boardResponse() {
+        return Projections.constructor(BoardResponse.class,
+                board.boardId,
+                board.title,
+                QMember.member.nickname,
+                board.createdAt,
+                board.viewCount,
+                board.commentCount,
+                board.fileCount);
+    }
 
-        return new PageImpl<Board>(content, pageable, totalCount);
+    /**
+     * 커서 조건 설정 (Seek Predicate)
+     * 이전 페이지의 마지막 ID보다 작은 게시글만 조회하여 PK 인덱스를 바로 탐색합니다.
+     */
+    private BooleanExpression boardIdLessThan(Long afterBoardId) {
+        return afterBoardId != null ? board.boardId.lt(afterBoardId) : null;
     }
 
     /**
      * 검색 조건 설정 (동적 쿼리)
      * 키워드가 있을 경우 제목, 내용, 닉네임에서 포함 여부를 체크합니다.
+     * 내용은 검색 색인과 같이 HTML 태그를 제거하고 엔티티를 복원한 검색용 텍스트를 대상으로 합니다. (BoardSearchText)
+     * 검색 색인의 후보 ID가 주어지면 PK 조건으로 대상을 먼저 좁힌 뒤 후보 안에서만 포함 여부를 확인합니다.
      */
-    private BooleanExpression searchCondition(String keyword) {
+    private BooleanExpression searchCondition(String keyword, Collection<Long> candidateIds) {
         if (!StringUtils.hasText(keyword)) {
             return null; // 조건이 없으면 전체 조회
         }
-        return board.title.containsIgnoreCase(keyword)
-                .or(board.content.containsIgnoreCase(keyword))
-                .or(QMember.member.nickname.containsIgnoreCase(keyword));
+        String normalized = BoardSearchText.keyword(keyword);
+        BooleanExpression contains = board.title.containsIgnoreCase(normalized)
+                .or(board.searchText.coalesce(board.content).containsIgnoreCase(normalized))
+                .or(QMember.member.nickname.containsIgnoreCase(normalized));
+        return candidateIds != null ? board.boardId.in(candidateIds).and(contains) : contains;
     }
 }
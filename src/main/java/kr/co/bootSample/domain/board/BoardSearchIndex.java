@@ -0,0 +1,396 @@
+package kr.co.bootSample.domain.board;
+
+import jakarta.annotation.PreDestroy;
+import kr.co.bootSample.global.common.TransactionUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 게시글 검색을 위한 인메모리 역색인(Inverted Index)입니다.
+ * 제목, 본문(검색용 텍스트, BoardSearchText), 작성자 닉네임을 2-gram(Bigram)으로 분해하여 색인하므로
+ * 띄어쓰기나 조사에 영향을 받는 한글 검색에서도 LIKE '%검색어%'와 동일한 후보군을 빠르게 찾을 수 있습니다.
+ * 색인은 주기적으로 로컬 디스크에 스냅샷으로 저장되며, 재기동 시 스냅샷 이후 변경분만 다시 색인합니다.
+ * 문서마다 색인한 게시글의 수정 시각을 함께 보관하여, 늦게 도착한 이전 내용이 최신 색인을 덮어쓰지 않도록 합니다.
+ */
+@Component
+public class BoardSearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(BoardSearchIndex.class);
+
+    private static final int GRAM_SIZE = 2;
+    private static final int SNAPSHOT_MAGIC = 0x42534958; // "BSIX"
+    private static final int SNAPSHOT_VERSION = 1;
+    private static final int REINDEX_CHUNK_SIZE = 500;
+    private static final long SNAPSHOT_SLACK_SECONDS = 60;
+
+    @Value("${app.search.index-file:./search-index/board.idx}")
+    private String indexFile;
+
+    @Value("${app.search.max-candidates:5000}")
+    private int maxCandidates;
+
+    private final BoardRepository boardRepository;
+
+    private final Map<String, Set<Long>> postings = new HashMap<String, Set<Long>>();
+    private final Map<Long, Document> documents = new HashMap<Long, Document>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicBoolean dirty = new AtomicBoolean(false);
+    private volatile boolean ready = false;
+
+    public BoardSearchIndex(BoardRepository boardRepository) {
+        this.boardRepository = boardRepository;
+    }
+
+    /**
+     * 검색어에 해당하는 게시글 후보 ID를 반환합니다.
+     * 색인이 준비되지 않았거나, 검색어가 너무 짧거나, 후보가 너무 많아 색인이 이점을 주지 못하면 null을 반환하며
+     * 이 경우 호출 측은 기존 LIKE 검색으로 대체해야 합니다.
+     */
+    public Set<Long> search(String keyword) {
+        if (!ready || !StringUtils.hasText(keyword)) {
+            return null;
+        }
+        Set<String> grams = tokenize(keyword);
+        if (grams.isEmpty()) {
+            return null;
+        }
+
+        lock.readLock().lock();
+        try {
+            // 가장 희소한 토큰부터 교집합을 구해 중간 결과 크기를 최소화
+            List<Set<Long>> lists = new ArrayList<Set<Long>>(grams.size());
+            for (String gram : grams) {
+                Set<Long> ids = postings.get(gram);
+                if (ids == null) {
+                    return Collections.emptySet();
+                }
+                lists.add(ids);
+            }
+            lists.sort((a, b) -> Integer.compare(a.size(), b.size()));
+
+            Set<Long> result = new HashSet<Long>(lists.get(0));
+            for (int i = 1; i < lists.size() && !result.isEmpty(); i++) {
+                result.retainAll(lists.get(i));
+            }
+            return result.size() > maxCandidates ? null : result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 게시글을 색인합니다. 트랜잭션 안에서 호출되면 커밋 이후에 반영됩니다.
+     * 수정 시각은 커밋 시점(flush)에 정해지므로 커밋 이후에 엔티티에서 읽습니다.
+     */
+    public void index(Board board, String nickname) {
+        TransactionUtils.afterCommit(() -> put(board.getBoardId(), board.getTitle(), board.getSearchText(), nickname,
+                board.getModifiedAt()));
+    }
+
+    /**
+     * 게시글을 색인에서 제거합니다. 트랜잭션 안에서 호출되면 커밋 이후에 반영됩니다.
+     */
+    public void remove(Long boardId) {
+        TransactionUtils.afterCommit(() -> delete(boardId));
+    }
+
+    /**
+     * 애플리케이션 기동 완료 후 스냅샷을 불러오고 DB와의 차이를 보정합니다.
+     * 보정이 끝나기 전까지는 search()가 null을 반환하여 기존 검색 방식으로 동작합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        long start = System.currentTimeMillis();
+        LocalDateTime savedAt = loadSnapshot();
+        try {
+            reconcile(savedAt);
+            ready = true;
+            log.info("게시글 검색 색인 준비 완료: 문서 {}건, 토큰 {}개 ({}ms)",
+                    documentCount(), tokenCount(), System.currentTimeMillis() - start);
+        } catch (RuntimeException e) {
+            log.error("게시글 검색 색인 초기화 실패, LIKE 검색으로 동작합니다.", e);
+        }
+    }
+
+    /**
+     * 변경 사항이 있으면 색인 스냅샷을 디스크에 저장합니다.
+     */
+    @Scheduled(fixedDelayString = "${app.search.snapshot-interval-ms:60000}")
+    public void saveSnapshotIfDirty() {
+        if (ready && dirty.compareAndSet(true, false)) {
+            saveSnapshot();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        saveSnapshotIfDirty();
+    }
+
+    public int documentCount() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int tokenCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 문서를 색인합니다. 이미 더 최근 수정 시각으로 색인된 문서는 덮어쓰지 않습니다.
+     * (기동 시 보정이 DB에서 읽은 내용을 반영하기 전에 실시간 수정이 먼저 색인된 경우 등)
+     */
+    private void put(Long boardId, String title, String searchText, String nickname, LocalDateTime modifiedAt) {
+        Set<String> grams = new HashSet<String>();
+        grams.addAll(tokenize(title));
+        grams.addAll(tokenize(searchText));
+        grams.addAll(tokenize(nickname));
+
+        lock.writeLock().lock();
+        try {
+            Document current = documents.get(boardId);
+            if (current != null && current.modifiedAt() != null && modifiedAt != null
+                    && current.modifiedAt().isAfter(modifiedAt)) {
+                log.debug("더 최근 내용이 색인되어 있어 건너뜀: boardId={}", boardId);
+                return;
+            }
+            unlink(boardId);
+            documents.put(boardId, new Document(grams, modifiedAt));
+            for (String gram : grams) {
+                postings.computeIfAbsent(gram, k -> new HashSet<Long>()).add(boardId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        dirty.set(true);
+    }
+
+    private void delete(Long boardId) {
+        lock.writeLock().lock();
+        try {
+            unlink(boardId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        dirty.set(true);
+    }
+
+    /**
+     * 쓰기 락을 보유한 상태에서 호출해야 합니다.
+     */
+    private void unlink(Long boardId) {
+        Document previous = documents.remove(boardId);
+        if (previous == null) {
+            return;
+        }
+        for (String gram : previous.grams()) {
+            Set<Long> ids = postings.get(gram);
+            if (ids != null) {
+                ids.remove(boardId);
+                if (ids.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    /**
+     * 스냅샷 이후 변경되었거나 누락된 게시글을 다시 색인하고, 삭제된 게시글을 색인에서 제거합니다.
+     */
+    private void reconcile(LocalDateTime savedAt) {
+        Set<Long> existingIds = new HashSet<Long>(boardRepository.findAllBoardIds());
+
+        Set<Long> staleIds = new HashSet<Long>();
+        lock.writeLock().lock();
+        try {
+            // 수정 시각이 있는 문서는 ID 조회 이후 실시간으로 색인된 게시글이므로 제거하지 않음
+            for (Map.Entry<Long, Document> entry : new ArrayList<Map.Entry<Long, Document>>(documents.entrySet())) {
+                if (!existingIds.contains(entry.getKey()) && entry.getValue().modifiedAt() == null) {
+                    unlink(entry.getKey());
+                }
+            }
+            for (Long id : existingIds) {
+                if (!documents.containsKey(id)) {
+                    staleIds.add(id);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        if (savedAt != null) {
+            staleIds.addAll(boardRepository.findBoardIdsModifiedSince(savedAt.minusSeconds(SNAPSHOT_SLACK_SECONDS)));
+        }
+
+        List<Long> ids = new ArrayList<Long>(staleIds);
+        for (int from = 0; from < ids.size(); from += REINDEX_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + REINDEX_CHUNK_SIZE, ids.size()));
+            for (Board board : boardRepository.findAllWithMemberByBoardIdIn(chunk)) {
+                // 검색용 텍스트가 아직 채워지지 않은 기존 게시글은 본문에서 변환
+                String searchText = board.getSearchText() != null
+                        ? board.getSearchText()
+                        : BoardSearchText.fromHtml(board.getContent());
+                put(board.getBoardId(), board.getTitle(), searchText, board.getMember().getNickname(),
+                        board.getModifiedAt());
+            }
+        }
+        if (!ids.isEmpty()) {
+            log.info("게시글 검색 색인 보정: {}건 재색인", ids.size());
+        }
+    }
+
+    private LocalDateTime loadSnapshot() {
+        Path path = Paths.get(indexFile);
+        if (!Files.exists(path)) {
+            log.info("검색 색인 스냅샷이 없어 전체 색인을 수행합니다: {}", path.toAbsolutePath());
+            return null;
+        }
+
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(new GZIPInputStream(Files.newInputStream(path))))) {
+            if (in.readInt() != SNAPSHOT_MAGIC || in.readInt() != SNAPSHOT_VERSION) {
+                log.warn("검색 색인 스냅샷 형식이 맞지 않아 무시합니다: {}", path);
+                return null;
+            }
+            long savedAtMillis = in.readLong();
+            int docCount = in.readInt();
+
+            Map<Long, Set<String>> loaded = new HashMap<Long, Set<String>>(docCount * 2);
+            for (int i = 0; i < docCount; i++) {
+                long boardId = in.readLong();
+                int gramCount = in.readInt();
+                Set<String> grams = new HashSet<String>(gramCount * 2);
+                for (int j = 0; j < gramCount; j++) {
+                    grams.add(in.readUTF());
+                }
+                loaded.put(boardId, grams);
+            }
+
+            // 기동 직후 이미 실시간으로 색인된 게시글은 스냅샷보다 최신이므로 유지
+            // 스냅샷에는 수정 시각이 없으므로 이후 보정 시 DB 내용으로 갱신될 수 있음
+            lock.writeLock().lock();
+            try {
+                for (Map.Entry<Long, Set<String>> entry : loaded.entrySet()) {
+                    if (documents.putIfAbsent(entry.getKey(), new Document(entry.getValue(), null)) != null) {
+                        continue;
+                    }
+                    for (String gram : entry.getValue()) {
+                        postings.computeIfAbsent(gram, k -> new HashSet<Long>()).add(entry.getKey());
+                    }
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            log.info("검색 색인 스냅샷 로드 완료: 문서 {}건", docCount);
+            return LocalDateTime.ofInstant(Instant.ofEpochMilli(savedAtMillis), ZoneId.systemDefault());
+        } catch (IOException e) {
+            log.warn("검색 색인 스냅샷 로드 실패, 전체 색인을 수행합니다: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void saveSnapshot() {
+        Path path = Paths.get(indexFile);
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        long savedAt = System.currentTimeMillis();
+
+        // 락 보유 시간을 줄이기 위해 문서별 토큰 집합의 참조만 복사 (토큰 집합은 교체만 되고 수정되지 않음)
+        Map<Long, Document> copy;
+        lock.readLock().lock();
+        try {
+            copy = new HashMap<Long, Document>(documents);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(new GZIPOutputStream(Files.newOutputStream(temp))))) {
+                out.writeInt(SNAPSHOT_MAGIC);
+                out.writeInt(SNAPSHOT_VERSION);
+                out.writeLong(savedAt);
+                out.writeInt(copy.size());
+                for (Map.Entry<Long, Document> entry : copy.entrySet()) {
+                    out.writeLong(entry.getKey());
+                    out.writeInt(entry.getValue().grams().size());
+                    for (String gram : entry.getValue().grams()) {
+                        out.writeUTF(gram);
+                    }
+                }
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.debug("검색 색인 스냅샷 저장 완료: 문서 {}건", copy.size());
+        } catch (IOException e) {
+            dirty.set(true);
+            log.error("검색 색인 스냅샷 저장 실패: {}", path, e);
+        }
+    }
+
+    /**
+     * 문자열을 소문자로 정규화하고 공백을 하나로 합친 뒤 2-gram 집합으로 분해합니다.
+     * LIKE 검색과 동일하게 공백을 포함한 부분 문자열도 찾을 수 있도록 공백 역시 토큰에 포함합니다.
+     */
+    static Set<String> tokenize(String text) {
+        Set<String> grams = new HashSet<String>();
+        if (!StringUtils.hasText(text)) {
+            return grams;
+        }
+        String normalized = text.toLowerCase(Locale.ROOT).trim().replaceAll("\\s+", " ");
+        int[] codePoints = normalized.codePoints().toArray();
+        for (int i = 0; i + GRAM_SIZE <= codePoints.length; i++) {
+            grams.add(new String(codePoints, i, GRAM_SIZE));
+        }
+        return grams;
+    }
+
+    /**
+     * 색인된 문서의 토큰 집합과 색인한 게시글의 수정 시각입니다. (스냅샷에서 불러온 문서는 수정 시각 없음)
+     */
+    private record Document(Set<String> grams, LocalDateTime modifiedAt) {
+    }
+}
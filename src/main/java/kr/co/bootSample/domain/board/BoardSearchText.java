@@ -0,0 +1,32 @@
+package kr.co.bootSample.domain.board;
+
+import org.jsoup.Jsoup;
+import org.springframework.util.StringUtils;
+
+/**
+ * 게시글 검색 대상 텍스트의 정규화 규칙입니다.
+ * 검색 색인(BoardSearchIndex)과 색인을 쓸 수 없을 때의 LIKE 검색이 같은 텍스트를 대상으로 하도록
+ * 본문은 HTML 태그를 제거하고 엔티티(&amp;amp; 등)를 복원한 텍스트로, 검색어는 공백만 정리한 문자열로 비교합니다.
+ */
+final class BoardSearchText {
+
+    private BoardSearchText() {
+    }
+
+    /**
+     * 에디터 HTML 본문을 검색용 텍스트로 변환합니다. (태그 제거, 엔티티 복원, 연속 공백 하나로 합침)
+     */
+    static String fromHtml(String html) {
+        if (!StringUtils.hasText(html)) {
+            return "";
+        }
+        return Jsoup.parse(html).text();
+    }
+
+    /**
+     * 검색어의 앞뒤 공백을 제거하고 연속된 공백을 하나로 합칩니다. (색인 토큰화와 같은 규칙)
+     */
+    static String keyword(String keyword) {
+        return keyword == null ? null : keyword.trim().replaceAll("\\s+", " ");
+    }
+}
@@ -0,0 +1,76 @@
+package kr.co.bootSample.domain.board;
+
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 검색용 텍스트(search_text) 컬럼 추가 이전에 작성된 게시글의 값을 채우는 작업입니다.
+ * 애플리케이션 시작 후 백그라운드에서 게시글 ID 순으로 나누어 처리하며, 채워진 게시글은 다시 조회되지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BoardSearchTextBackfill {
+
+    private static final Logger log = LoggerFactory.getLogger(BoardSearchTextBackfill.class);
+
+    @Value("${app.search.backfill-chunk-size:500}")
+    private int chunkSize;
+
+    private final BoardRepository boardRepository;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    /**
+     * 애플리케이션 시작 후 백그라운드에서 실행합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void startInBackground() {
+        Thread thread = new Thread(() -> {
+            try {
+                backfill();
+            } catch (RuntimeException e) {
+                log.error("게시글 검색용 텍스트 채우기 실패", e);
+            }
+        }, "board-search-text-backfill");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * 검색용 텍스트가 없는 게시글을 채우고 처리한 게시글 수를 반환합니다. 이미 실행 중이면 -1을 반환합니다.
+     */
+    public long backfill() {
+        if (!running.compareAndSet(false, true)) {
+            return -1;
+        }
+        try {
+            long start = System.currentTimeMillis();
+            long filled = 0;
+            Long lastId = 0L;
+            while (lastId != null) {
+                List<Board> chunk = boardRepository.findBySearchTextIsNullAndBoardIdGreaterThanOrderByBoardIdAsc(
+                        lastId, PageRequest.of(0, chunkSize));
+                for (Board board : chunk) {
+                    filled += boardRepository.fillSearchText(board.getBoardId(),
+                            BoardSearchText.fromHtml(board.getContent()));
+                }
+                lastId = chunk.size() < chunkSize ? null : chunk.get(chunk.size() - 1).getBoardId();
+            }
+            if (filled > 0) {
+                log.info("게시글 검색용 텍스트 채우기 완료: {}건 ({}ms)", filled, System.currentTimeMillis() - start);
+            }
+            return filled;
+        } finally {
+            running.set(false);
+        }
+    }
+}
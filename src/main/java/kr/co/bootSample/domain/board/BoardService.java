@@ -1,27 +1,29 @@
 package kr.co.bootSample.domain.board;
 
+import kr.co.bootSample.domain.board.dto.BoardCursorResponse;
 import kr.co.bootSample.domain.board.dto.BoardDetailResponse;
 import kr.co.bootSample.domain.board.dto.BoardResponse;
 import kr.co.bootSample.domain.board.dto.BoardSaveRequest;
-import kr.co.bootSample.domain.board.dto.CommentResponse;
+import kr.co.bootSample.domain.board.dto.CommentSliceResponse;
 import kr.co.bootSample.domain.board.dto.FileResponse;
 import kr.co.bootSample.domain.member.Member;
 import kr.co.bootSample.domain.member.MemberRepository;
 import kr.co.bootSample.global.file.FileService;
+import kr.co.bootSample.global.file.StagedUploads;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.jsoup.Jsoup;
-import org.jsoup.nodes.Document;
-import org.jsoup.select.Elements;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.multipart.MultipartFile;
+import org.springframework.util.StringUtils;
 
-import java.io.File;
-import java.io.IOException;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
@@ -38,39 +40,163 @@ public class BoardService {
 
     private static final Logger log = LoggerFactory.getLogger(BoardService.class);
 
+    @Value("${app.board.detail-comment-limit:20}")
+    private int detailCommentLimit;
+
     private final BoardRepository boardRepository;
     private final MemberRepository memberRepository;
     private final BoardFileRepository boardFileRepository;
     private final FileService fileService;
     private final CommentService commentService;
+    private final BoardSearchIndex boardSearchIndex;
+    private final BoardCountCache boardCountCache;
+    private final BoardDetailCache boardDetailCache;
+    private final BoardViewCounter boardViewCounter;
+    private final BoardListVersion boardListVersion;
 
     /**
      * 게시글을 페이징 및 검색 조건으로 조회합니다.
      */
     @Transactional(readOnly = true)
     public Page<BoardResponse> findAll(String keyword, Pageable pageable) {
-        return boardRepository.findAllByKeywordCustom(keyword, pageable)
-                .map(board -> new BoardResponse(
-                        board.getBoardId(),
-                        board.getTitle(),
-                        board.getMember().getNickname(),
-                        board.getCreatedAt()));
+        Set<Long> candidateIds = boardSearchIndex.search(keyword);
+        if (candidateIds != null && candidateIds.isEmpty()) {
+            return Page.empty(pageable);
+        }
+        List<BoardResponse> content = boardRepository.findAllByKeywordCustom(keyword, candidateIds, pageable);
+        // 마지막 페이지처럼 개수를 추론할 수 있으면 count 쿼리를 생략하고, 필요한 경우에도 검색어별 캐시를 우선 사용
+        return PageableExecutionUtils.getPage(content, pageable,
+                () -> boardCountCache.get(keyword, () -> boardRepository.countByKeyword(keyword, candidateIds)))
+                .map(this::withPendingViews);
     }
 
     /**
-     * 특정 게시글의 상세 정보를 조회합니다.
+     * 게시글을 지정한 페이징 방식으로 조회합니다. SLICE 방식은 전체 개수를 조회하지 않습니다.
+     */
+    @Transactional(readOnly = true)
+    public Slice<BoardResponse> findAll(String keyword, Pageable pageable, BoardPagingMode mode) {
+        if (resolvePagingMode(keyword, mode) != BoardPagingMode.SLICE) {
+            return findAll(keyword, pageable);
+        }
+
+        Set<Long> candidateIds = boardSearchIndex.search(keyword);
+        if (candidateIds != null && candidateIds.isEmpty()) {
+            return new SliceImpl<BoardResponse>(List.of(), pageable, false);
+        }
+        return boardRepository.findSliceByKeyword(keyword, candidateIds, pageable)
+                .map(this::withPendingViews);
+    }
+
+    /**
+     * AUTO 방식을 실제 페이징 방식으로 결정합니다.
+     * 검색어가 없거나 검색어별 개수가 이미 캐시되어 있으면 PAGE, 그 외 검색은 SLICE로 처리합니다.
+     */
+    public BoardPagingMode resolvePagingMode(String keyword, BoardPagingMode mode) {
+        if (mode != BoardPagingMode.AUTO) {
+            return mode;
+        }
+        if (!StringUtils.hasText(keyword) || boardCountCache.contains(keyword)) {
+            return BoardPagingMode.PAGE;
+        }
+        return BoardPagingMode.SLICE;
+    }
+
+    /**
+     * 게시글을 커서(Keyset) 방식으로 조회합니다. 깊은 페이지에서도 OFFSET 스캔 비용이 발생하지 않습니다.
      */
     @Transactional(readOnly = true)
+    public BoardCursorResponse findAllByCursor(String keyword, String cursor, int size) {
+        Set<Long> candidateIds = boardSearchIndex.search(keyword);
+        if (candidateIds != null && candidateIds.isEmpty()) {
+            return new BoardCursorResponse(List.of(), null, false);
+        }
+        Slice<BoardResponse> slice = boardRepository
+                .findAllByKeywordAfter(keyword, candidateIds, BoardCursor.decode(cursor), size)
+                .map(this::withPendingViews);
+
+        List<BoardResponse> content = slice.getContent();
+        String nextCursor = slice.hasNext()
+                ? BoardCursor.encode(content.get(content.size() - 1).boardId())
+                : null;
+
+        return new BoardCursorResponse(content, nextCursor, slice.hasNext());
+    }
+
+    /**
+     * DB에 저장된 조회수에 아직 반영되지 않은 증가분을 합산합니다.
+     */
+    private BoardResponse withPendingViews(BoardResponse response) {
+        long pending = boardViewCounter.pending(response.boardId());
+        return pending > 0 ? response.withViewCount(response.viewCount() + pending) : response;
+    }
+
+    /**
+     * 특정 게시글의 상세 정보를 조회합니다.
+     * 상세 응답 캐시를 먼저 확인하며, 캐시 적중 시에는 트랜잭션(DB 커넥션)을 시작하지 않습니다.
+     * 조회수는 메모리에 누적되며, 응답에는 캐시된 기준값에 이 인스턴스의 반영분과 미반영 증가분을 합산한 값이 담깁니다.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public BoardDetailResponse findById(Long id) {
-        Board board = boardRepository.findById(Objects.requireNonNull(id))
+        BoardDetailResponse detail = boardDetailCache.get(Objects.requireNonNull(id), this::loadCachedDetail);
+        boardViewCounter.increment(id);
+        return detail.withViewCount(detail.viewCount() + boardViewCounter.flushed(id) + boardViewCounter.pending(id));
+    }
+
+    /**
+     * 조건부 요청(ETag/Last-Modified) 검증을 위해 게시글의 버전 정보만 조회합니다.
+     * 상세 응답이 캐시되어 있으면 DB를 조회하지 않고 캐시된 응답의 버전을 사용합니다.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public BoardVersion findVersion(Long id) {
+        BoardDetailResponse cached = boardDetailCache.getIfPresent(Objects.requireNonNull(id));
+        if (cached != null) {
+            return cached.version();
+        }
+        return boardRepository.findVersionByBoardId(id)
+                .orElseThrow(() -> new RuntimeException("게시글을 찾을 수 없습니다."));
+    }
+
+    /**
+     * 상세 응답 본문 없이 조회수만 증가시킵니다. (304 Not Modified 응답 시 사용)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public void recordView(Long id) {
+        boardViewCounter.increment(Objects.requireNonNull(id));
+    }
+
+    /**
+     * 게시글 목록 요청에 대한 ETag 값을 반환합니다.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public String listETag(String requestKey) {
+        return boardListVersion.eTag(requestKey);
+    }
+
+    /**
+     * 캐시에 저장할 상세 응답을 생성합니다. (캐시 미스 시 호출)
+     * 조회수는 DB 값에서 이 인스턴스의 반영분을 뺀 기준값으로 저장하므로, 이후의 반영과 관계없이 캐시 항목을 유지할 수 있습니다.
+     */
+    private BoardDetailResponse loadCachedDetail(Long id) {
+        return boardViewCounter.readConsistent(() -> {
+            BoardDetailResponse detail = loadDetail(id);
+            return detail.withViewCount(detail.viewCount() - boardViewCounter.flushed(id));
+        });
+    }
+
+    /**
+     * DB에서 게시글, 첨부파일, 댓글을 조회하여 상세 응답을 생성합니다.
+     * 게시글+작성자+첨부파일 조회 1회, 댓글+댓글 작성자 조회 1회로 총 2개의 SQL만 실행됩니다.
+     */
+    private BoardDetailResponse loadDetail(Long id) {
+        Board board = boardRepository.findDetailByBoardId(Objects.requireNonNull(id))
                 .orElseThrow(() -> new RuntimeException("게시글을 찾을 수 없습니다."));
 
         List<FileResponse> fileList = board.getBoardFileList().stream()
                 .map(file -> new FileResponse(file.getFileId(), file.getOriginName(), file.getStoredName()))
                 .collect(Collectors.toList());
 
-        // 댓글 목록 조회 추가
-        List<CommentResponse> commentList = commentService.findAll(id);
+        // 최신 댓글 일부만 조회 (작성자 JOIN FETCH), 나머지는 댓글 목록 API로 이어서 조회
+        CommentSliceResponse comments = commentService.findPage(id, null, detailCommentLimit);
 
         return new BoardDetailResponse(
                 board.getBoardId(),
@@ -80,14 +206,18 @@ public class BoardService {
                 board.getMember().getUsername(),
                 board.getCreatedAt(),
                 board.getModifiedAt(),
+                board.getViewCount(),
                 fileList,
-                commentList);
+                comments.content(),
+                board.getCommentCount(),
+                comments.nextCursor(),
+                board.getRevision());
     }
 
     /**
-     * 새로운 게시글을 작성합니다.
+     * 새로운 게시글을 작성합니다. 첨부파일은 트랜잭션 시작 전에 기록을 마친 상태로 전달됩니다.
      */
-    public Long save(BoardSaveRequest request, List<MultipartFile> files, String username) throws IOException {
+    public Long save(BoardSaveRequest request, StagedUploads files, String username) {
         Member member = memberRepository.findByUsername(username)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
 
@@ -98,8 +228,13 @@ public class BoardService {
                 .build();
 
         Board savedBoard = boardRepository.save(Objects.requireNonNull(board));
+        // 본문 이미지 참조 등록 (업로드 시점의 임시 보호를 게시글 참조로 전환)
+        fileService.acquireImages(fileService.contentImages(request.content()));
+        boardSearchIndex.index(savedBoard, member.getNickname());
+        boardCountCache.invalidateAll();
+        boardListVersion.bump();
 
-        // 파일 업로드 처리
+        // 파일 첨부 처리
         if (files != null && !files.isEmpty()) {
             fileService.uploadFiles(files, savedBoard);
         }
@@ -107,22 +242,34 @@ public class BoardService {
         return Objects.requireNonNull(savedBoard).getBoardId();
     }
 
+    /**
+     * 게시글 작성자인지 확인합니다. 작성자가 아니면 예외를 던집니다.
+     * 수정 요청의 첨부파일을 읽기(기록) 전에 호출해 권한 없는 요청이 기록 차례와 디스크를 쓰지 않도록 합니다.
+     */
+    @Transactional(readOnly = true)
+    public void assertOwner(Long id, String username) {
+        checkOwner(boardRepository.findById(Objects.requireNonNull(id))
+                .orElseThrow(() -> new RuntimeException("게시글을 찾을 수 없습니다.")), username);
+    }
+
     /**
      * 게시글을 수정합니다. 작성자 확인이 필요합니다.
      */
-    public void update(Long id, BoardSaveRequest request, List<MultipartFile> files, String username)
-            throws IOException {
+    public void update(Long id, BoardSaveRequest request, StagedUploads files, String username) {
         Board board = boardRepository.findById(Objects.requireNonNull(id))
                 .orElseThrow(() -> new RuntimeException("게시글을 찾을 수 없습니다."));
 
-        if (!board.getMember().getUsername().equals(username)) {
-            throw new RuntimeException("수정 권한이 없습니다.");
-        }
+        // 컨트롤러에서 확인했더라도 서비스를 직접 호출하는 경우에 대비해 다시 확인
+        checkOwner(board, username);
 
-        // [추가] 에디터에서 삭제된 이미지 물리 파일 정리
-        cleanupUnusedImages(board.getContent(), request.content());
+        // 본문 이미지 참조 갱신: 새로 추가된 이미지는 참조 등록, 빠진 이미지는 참조 해제
+        updateContentImages(board.getContent(), request.content());
 
         board.update(request.title(), request.content());
+        boardSearchIndex.index(board, board.getMember().getNickname());
+        boardCountCache.invalidateAll();
+        boardDetailCache.invalidate(id);
+        boardListVersion.bump();
 
         // 파일 업로드 처리 (기존 파일은 유지하고 추가하는 방식으로 구현)
         if (files != null && !files.isEmpty()) {
@@ -130,45 +277,29 @@ public class BoardService {
         }
     }
 
-    /**
-     * 본문 내용 비교를 통해 에디터에서 제거된 이미지를 서버에서 삭제합니다.
-     */
-    private void cleanupUnusedImages(String oldContent, String newContent) {
-        if (oldContent == null || oldContent.isEmpty())
-            return;
-
-        Set<String> oldImages = getImagesFromContent(oldContent);
-        Set<String> newImages = getImagesFromContent(newContent);
-
-        // 이전에는 있었지만 새 내용에는 없는 이미지 필터링
-        oldImages.removeAll(newImages);
-
-        for (String imageUrl : oldImages) {
-            // URL 형식: /uploads/editor/uuid.ext -> 실제 삭제를 위해 'editor/uuid.ext'로 변환
-            if (imageUrl.startsWith("/uploads/")) {
-                String relativePath = imageUrl.replace("/uploads/", "")
-                        .replace("/", File.separator);
-                fileService.deleteFile(relativePath);
-                log.info("에디터 본문에서 삭제된 이미지 파일 정리 완료: {}", relativePath);
-            }
+    private void checkOwner(Board board, String username) {
+        if (!board.getMember().getUsername().equals(username)) {
+            throw new RuntimeException("수정 권한이 없습니다.");
         }
     }
 
     /**
-     * HTML 본문에서 서버에 저장된 이미지 경로(/uploads/editor/...)를 추출합니다.
+     * 수정 전후 본문을 비교해 추가된 이미지의 참조를 등록하고 제거된 이미지의 참조를 해제합니다.
+     * 다른 게시글에서 복사해 붙여 넣은 이미지도 이 게시글의 참조로 함께 계산됩니다.
      */
-    private Set<String> getImagesFromContent(String content) {
-        Set<String> images = new HashSet<String>();
-        if (content == null || content.isEmpty())
-            return images;
+    private void updateContentImages(String oldContent, String newContent) {
+        Set<String> oldImages = fileService.contentImages(oldContent);
+        Set<String> newImages = fileService.contentImages(newContent);
 
-        Document doc = Jsoup.parse(content);
-        Elements imgs = doc.select("img[src^='/uploads/editor/']");
+        Set<String> added = new HashSet<String>(newImages);
+        added.removeAll(oldImages);
+        oldImages.removeAll(newImages);
 
-        for (org.jsoup.nodes.Element img : imgs) {
-            images.add(img.attr("src"));
+        fileService.acquireImages(added);
+        fileService.releaseImages(oldImages);
+        if (!oldImages.isEmpty()) {
+            log.info("에디터 본문에서 삭제된 이미지 참조 해제: {}", oldImages);
         }
-        return images;
     }
 
     /**
@@ -184,7 +315,15 @@ public class BoardService {
             throw new RuntimeException("삭제 권한이 없습니다.");
         }
 
+        // 첨부파일과 본문 이미지의 참조 해제 (마지막 참조인 경우에만 커밋 후 백그라운드에서 물리 파일 삭제)
+        board.getBoardFileList().forEach(file -> fileService.deleteFile(file.getStoredName()));
+        fileService.releaseImages(fileService.contentImages(board.getContent()));
+
         boardRepository.delete(board);
+        boardSearchIndex.remove(id);
+        boardCountCache.invalidateAll();
+        boardDetailCache.invalidate(id);
+        boardListVersion.bump();
     }
 
     /**
@@ -199,10 +338,14 @@ public class BoardService {
             throw new RuntimeException("파일 삭제 권한이 없습니다.");
         }
 
-        // 물리 파일 삭제
+        // 파일 참조 해제 (마지막 참조인 경우에만 커밋 후 백그라운드에서 물리 파일 삭제)
         fileService.deleteFile(boardFile.getStoredName());
 
         // 데이터베이스 레코드 삭제
+        Long boardId = boardFile.getBoard().getBoardId();
         boardFileRepository.delete(boardFile);
+        boardRepository.addFileCount(boardId, -1);
+        boardDetailCache.invalidate(boardId);
+        boardListVersion.bump();
     }
 }
@@ -0,0 +1,25 @@
+package kr.co.bootSample.domain.board;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 게시글 상세 응답의 조건부 요청(ETag/Last-Modified) 검증에 사용하는 버전 정보입니다.
+ * 본문 수정은 modifiedAt, 댓글/첨부파일 변경은 revision으로 반영됩니다. (조회수는 포함하지 않습니다)
+ */
+public record BoardVersion(
+        Long boardId,
+        LocalDateTime modifiedAt,
+        long revision) {
+
+    /**
+     * 강한(Strong) ETag 값을 반환합니다.
+     */
+    public String eTag() {
+        return "\"b" + boardId + "-" + lastModifiedMillis() + "-" + revision + "\"";
+    }
+
+    public long lastModifiedMillis() {
+        return modifiedAt != null ? modifiedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : -1L;
+    }
+}
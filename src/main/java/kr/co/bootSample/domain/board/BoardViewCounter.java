@@ -0,0 +1,157 @@
+package kr.co.bootSample.domain.board;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * 게시글 조회수를 메모리에 누적했다가 주기적으로 DB에 일괄 반영(Write-behind)하는 컴포넌트입니다.
+ * 조회 트랜잭션마다 UPDATE를 실행하면 인기 게시글의 행 잠금이 직렬화되므로, 게시글별 LongAdder(스트라이프 카운터)에
+ * 증가분만 모아 두고 하나의 JDBC 배치 UPDATE로 반영합니다.
+ *
+ * 누적 맵은 current → retired → flushing 순서로 교체됩니다. 교체 직후의 맵에는 교체 전에 참조를 얻은 스레드가
+ * 아직 증가시키고 있을 수 있으므로, 한 주기 동안 retired 상태로 두었다가 다음 주기에 반영합니다.
+ *
+ * 반영한 증가분은 게시글별로 flushed에 누적합니다. 캐시된 상세 응답은 로딩 시점의 반영분을 뺀 기준값을 담고
+ * 조회 시 반영분과 미반영분을 더하므로, 반영 때문에 캐시 항목을 무효화할 필요가 없습니다.
+ * 기준값이 정확하려면 DB 조회와 반영분 확인 사이에 반영이 커밋되지 않아야 하므로,
+ * 로딩은 읽기 잠금(readConsistent), 반영(UPDATE 커밋과 flushed 갱신)은 쓰기 잠금 안에서 수행합니다.
+ */
+@Component
+public class BoardViewCounter {
+
+    private static final Logger log = LoggerFactory.getLogger(BoardViewCounter.class);
+
+    private static final String FLUSH_SQL = "UPDATE board SET view_count = view_count + ? WHERE board_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private volatile Map<Long, LongAdder> current = new ConcurrentHashMap<Long, LongAdder>();
+    private volatile Map<Long, LongAdder> retired = new ConcurrentHashMap<Long, LongAdder>();
+    private volatile Map<Long, Long> flushing = Map.of();
+
+    // 애플리케이션 시작 이후 이 인스턴스가 DB에 반영한 게시글별 증가분 (조회된 게시글당 1개)
+    private final Map<Long, Long> flushed = new ConcurrentHashMap<Long, Long>();
+    private final ReadWriteLock flushLock = new ReentrantReadWriteLock();
+
+    public BoardViewCounter(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 게시글 조회수를 1 증가시킵니다. DB에는 다음 반영 주기에 기록됩니다.
+     */
+    public void increment(Long boardId) {
+        current.computeIfAbsent(boardId, id -> new LongAdder()).increment();
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 조회수 증가분을 반환합니다.
+     */
+    public long pending(Long boardId) {
+        return sum(current, boardId) + sum(retired, boardId) + flushing.getOrDefault(boardId, 0L);
+    }
+
+    /**
+     * 이 인스턴스가 DB에 반영한 조회수 증가분을 반환합니다.
+     */
+    public long flushed(Long boardId) {
+        return flushed.getOrDefault(boardId, 0L);
+    }
+
+    /**
+     * 조회수 반영이 커밋되지 않는 동안 loader를 실행합니다. (캐시할 상세 응답의 조회수 기준값 계산용)
+     * loader 안에서 읽은 DB 조회수와 flushed 값은 같은 반영 시점을 기준으로 합니다.
+     */
+    public <T> T readConsistent(Supplier<T> loader) {
+        flushLock.readLock().lock();
+        try {
+            return loader.get();
+        } finally {
+            flushLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 한 주기 전에 교체된 누적분을 DB에 반영합니다.
+     */
+    @Scheduled(fixedDelayString = "${app.board.view-count.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        Map<Long, LongAdder> toFlush = retired;
+        retired = current;
+        current = new ConcurrentHashMap<Long, LongAdder>();
+        write(toFlush);
+    }
+
+    /**
+     * 애플리케이션 종료 시 남아 있는 모든 누적분을 DB에 반영합니다.
+     */
+    @PreDestroy
+    public synchronized void flushAll() {
+        Map<Long, LongAdder> toFlush = new ConcurrentHashMap<Long, LongAdder>(retired);
+        current.forEach((id, adder) -> toFlush.computeIfAbsent(id, k -> new LongAdder()).add(adder.sum()));
+        retired = new ConcurrentHashMap<Long, LongAdder>();
+        current = new ConcurrentHashMap<Long, LongAdder>();
+        write(toFlush);
+        log.info("종료 전 조회수 반영 완료: 게시글 {}건", toFlush.size());
+    }
+
+    private void write(Map<Long, LongAdder> toFlush) {
+        if (toFlush.isEmpty()) {
+            return;
+        }
+
+        // 게시글 ID 순으로 정렬하여 다른 트랜잭션과의 교착 상태 가능성을 줄임
+        Map<Long, Long> deltas = new TreeMap<Long, Long>();
+        toFlush.forEach((id, adder) -> {
+            long delta = adder.sum();
+            if (delta > 0) {
+                deltas.put(id, delta);
+            }
+        });
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> batchArgs = new ArrayList<Object[]>(deltas.size());
+        deltas.forEach((id, delta) -> batchArgs.add(new Object[] { delta, id }));
+
+        flushing = deltas;
+        flushLock.writeLock().lock();
+        try {
+            // 하나의 트랜잭션으로 반영하여, 일부만 반영된 뒤 실패해도 모두 롤백되고 재시도 시 이중으로 더해지지 않음
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(FLUSH_SQL, batchArgs));
+            deltas.forEach((id, delta) -> flushed.merge(id, delta, Long::sum));
+            log.debug("조회수 반영 완료: 게시글 {}건", deltas.size());
+        } catch (RuntimeException e) {
+            // 반영 실패 시 다음 주기에 다시 시도하도록 누적분을 되돌림
+            deltas.forEach((id, delta) -> current.computeIfAbsent(id, k -> new LongAdder()).add(delta));
+            log.error("조회수 반영 실패, 다음 주기에 재시도합니다: 게시글 {}건", deltas.size(), e);
+        } finally {
+            flushing = Map.of();
+            flushLock.writeLock().unlock();
+        }
+    }
+
+    private static long sum(Map<Long, LongAdder> counters, Long boardId) {
+        LongAdder adder = counters.get(boardId);
+        return adder != null ? adder.sum() : 0L;
+    }
+}
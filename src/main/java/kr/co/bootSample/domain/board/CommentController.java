@@ -1,16 +1,19 @@
 package kr.co.bootSample.domain.board;
 
 import kr.co.bootSample.domain.board.dto.CommentRequest;
+import kr.co.bootSample.domain.board.dto.CommentSliceResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import jakarta.validation.Valid;
@@ -24,8 +27,23 @@ import jakarta.validation.Valid;
 @RequiredArgsConstructor
 public class CommentController {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final CommentService commentService;
 
+    /**
+     * 댓글 목록 커서 조회 API
+     */
+    @Operation(summary = "댓글 목록 조회", description = "특정 게시글의 댓글을 최신순으로 조회합니다. 이전 응답의 nextCursor를 after로 전달해 다음 목록을 조회합니다.")
+    @GetMapping("/{boardId}")
+    public ResponseEntity<CommentSliceResponse> list(
+            @PathVariable Long boardId,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        return ResponseEntity.ok(commentService.findPage(boardId, after, pageSize));
+    }
+
     /**
      * 댓글 작성 API
      */
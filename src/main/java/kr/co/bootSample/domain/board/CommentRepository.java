@@ -1,10 +1,15 @@
 package kr.co.bootSample.domain.board;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Comment 엔티티를 위한 Repository 인터페이스입니다.
@@ -16,4 +21,25 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
      */
     @Query("SELECT c FROM Comment c JOIN FETCH c.member WHERE c.board.boardId = :boardId ORDER BY c.commentId DESC")
     List<Comment> findAllByBoardId(@Param("boardId") Long boardId);
+
+    /**
+     * 특정 게시글의 댓글을 작성자 정보와 함께 커서(Keyset) 방식으로 최신순 조회합니다.
+     * afterCommentId가 null이면 첫 페이지를 조회하며, 조회 개수는 pageable의 size로 제한합니다.
+     */
+    @Query("SELECT c FROM Comment c JOIN FETCH c.member WHERE c.board.boardId = :boardId"
+            + " AND (:afterCommentId IS NULL OR c.commentId < :afterCommentId) ORDER BY c.commentId DESC")
+    List<Comment> findPageByBoardId(@Param("boardId") Long boardId,
+            @Param("afterCommentId") Long afterCommentId,
+            Pageable pageable);
+
+    /**
+     * 특정 게시글의 모든 댓글을 작성순으로 스트리밍 조회합니다. (관리자 내보내기용)
+     * 결과 전체를 메모리에 올리지 않도록 JDBC fetch size를 지정하며, 트랜잭션 안에서 소비 후 반드시 닫아야 합니다.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT c FROM Comment c JOIN FETCH c.member WHERE c.board.boardId = :boardId ORDER BY c.commentId ASC")
+    Stream<Comment> streamAllByBoardId(@Param("boardId") Long boardId);
 }
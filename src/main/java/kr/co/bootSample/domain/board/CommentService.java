@@ -2,15 +2,21 @@ package kr.co.bootSample.domain.board;
 
 import kr.co.bootSample.domain.board.dto.CommentRequest;
 import kr.co.bootSample.domain.board.dto.CommentResponse;
+import kr.co.bootSample.domain.board.dto.CommentSliceResponse;
+import jakarta.persistence.EntityManager;
 import kr.co.bootSample.domain.member.Member;
 import kr.co.bootSample.domain.member.MemberRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * 댓글 관련 비즈니스 로직을 처리하는 서비스 클래스입니다.
@@ -23,6 +29,9 @@ public class CommentService {
         private final CommentRepository commentRepository;
         private final BoardRepository boardRepository;
         private final MemberRepository memberRepository;
+        private final BoardDetailCache boardDetailCache;
+        private final BoardListVersion boardListVersion;
+        private final EntityManager entityManager;
 
         /**
          * 댓글을 작성합니다.
@@ -40,7 +49,13 @@ public class CommentService {
                                 .member(member)
                                 .build();
 
-                return Objects.requireNonNull(commentRepository.save(Objects.requireNonNull(comment))).getCommentId();
+                Long commentId = Objects.requireNonNull(commentRepository.save(Objects.requireNonNull(comment)))
+                                .getCommentId();
+                boardRepository.addCommentCount(boardId, 1);
+                boardDetailCache.invalidate(boardId);
+                boardListVersion.bump();
+
+                return commentId;
         }
 
         /**
@@ -49,15 +64,59 @@ public class CommentService {
         @Transactional(readOnly = true)
         public List<CommentResponse> findAll(Long boardId) {
                 return commentRepository.findAllByBoardId(Objects.requireNonNull(boardId)).stream()
-                                .map(comment -> new CommentResponse(
-                                                comment.getCommentId(),
-                                                comment.getContent(),
-                                                comment.getMember().getNickname(),
-                                                comment.getMember().getUsername(),
-                                                comment.getCreatedAt()))
+                                .map(this::toResponse)
                                 .collect(Collectors.toList());
         }
 
+        /**
+         * 특정 게시글의 댓글을 커서 방식으로 최신순 조회합니다.
+         * size + 1건을 조회하여 다음 페이지 존재 여부를 판단합니다.
+         */
+        @Transactional(readOnly = true)
+        public CommentSliceResponse findPage(Long boardId, String cursor, int size) {
+                List<Comment> comments = commentRepository.findPageByBoardId(
+                                Objects.requireNonNull(boardId), BoardCursor.decode(cursor), PageRequest.of(0, size + 1));
+
+                boolean hasNext = comments.size() > size;
+                List<CommentResponse> content = comments.stream()
+                                .limit(size)
+                                .map(this::toResponse)
+                                .collect(Collectors.toList());
+                String nextCursor = hasNext
+                                ? BoardCursor.encode(content.get(content.size() - 1).commentId())
+                                : null;
+
+                return new CommentSliceResponse(content, nextCursor, hasNext);
+        }
+
+        /**
+         * 특정 게시글의 모든 댓글을 작성순으로 스트리밍하며 consumer에 전달합니다. (관리자 내보내기용)
+         * 처리한 엔티티는 즉시 영속성 컨텍스트에서 분리하여 댓글 수와 관계없이 힙 사용량을 일정하게 유지합니다.
+         */
+        @Transactional(readOnly = true)
+        public long export(Long boardId, Consumer<CommentResponse> consumer) {
+                long exported = 0;
+                try (Stream<Comment> stream = commentRepository.streamAllByBoardId(Objects.requireNonNull(boardId))) {
+                        Iterator<Comment> iterator = stream.iterator();
+                        while (iterator.hasNext()) {
+                                Comment comment = iterator.next();
+                                consumer.accept(toResponse(comment));
+                                entityManager.detach(comment);
+                                exported++;
+                        }
+                }
+                return exported;
+        }
+
+        private CommentResponse toResponse(Comment comment) {
+                return new CommentResponse(
+                                comment.getCommentId(),
+                                comment.getContent(),
+                                comment.getMember().getNickname(),
+                                comment.getMember().getUsername(),
+                                comment.getCreatedAt());
+        }
+
         /**
          * 댓글을 삭제합니다. 작성자 확인이 필요합니다.
          */
@@ -69,6 +128,10 @@ public class CommentService {
                         throw new RuntimeException("삭제 권한이 없습니다.");
                 }
 
+                Long boardId = comment.getBoard().getBoardId();
                 commentRepository.delete(comment);
+                boardRepository.addCommentCount(boardId, -1);
+                boardDetailCache.invalidate(boardId);
+                boardListVersion.bump();
         }
 }
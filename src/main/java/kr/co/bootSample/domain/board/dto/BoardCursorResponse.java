@@ -0,0 +1,12 @@
+package kr.co.bootSample.domain.board.dto;
+
+import java.util.List;
+
+/**
+ * 커서 기반 게시글 목록 조회를 위한 Response DTO입니다.
+ */
+public record BoardCursorResponse(
+        List<BoardResponse> content,
+        String nextCursor,
+        boolean hasNext) {
+}
@@ -1,9 +1,13 @@
 package kr.co.bootSample.domain.board.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import kr.co.bootSample.domain.board.BoardVersion;
+
 import java.time.LocalDateTime;
 
 /**
  * 게시글 상세 조회를 위한 Response DTO입니다.
+ * 댓글은 최신 일부만 포함되며, 나머지는 nextCommentCursor로 댓글 목록 API를 통해 조회합니다.
  */
 public record BoardDetailResponse(
         Long boardId,
@@ -13,6 +17,25 @@ public record BoardDetailResponse(
         String username,
         LocalDateTime createdAt,
         LocalDateTime modifiedAt,
+        long viewCount,
         java.util.List<FileResponse> fileList,
-        java.util.List<CommentResponse> commentList) {
+        java.util.List<CommentResponse> commentList,
+        long commentCount,
+        String nextCommentCursor,
+        @JsonIgnore long revision) {
+
+    /**
+     * 조회수만 변경한 새 응답 객체를 반환합니다.
+     */
+    public BoardDetailResponse withViewCount(long viewCount) {
+        return new BoardDetailResponse(boardId, title, content, nickname, username, createdAt, modifiedAt,
+                viewCount, fileList, commentList, commentCount, nextCommentCursor, revision);
+    }
+
+    /**
+     * 응답이 생성된 시점의 게시글 버전을 반환합니다. (ETag 계산용)
+     */
+    public BoardVersion version() {
+        return new BoardVersion(boardId, modifiedAt, revision);
+    }
 }
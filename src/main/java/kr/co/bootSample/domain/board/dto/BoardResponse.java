@@ -9,5 +9,15 @@ public record BoardResponse(
         Long boardId,
         String title,
         String nickname,
-        LocalDateTime createdAt) {
+        LocalDateTime createdAt,
+        long viewCount,
+        long commentCount,
+        long fileCount) {
+
+    /**
+     * 조회수만 변경한 새 응답 객체를 반환합니다.
+     */
+    public BoardResponse withViewCount(long viewCount) {
+        return new BoardResponse(boardId, title, nickname, createdAt, viewCount, commentCount, fileCount);
+    }
 }
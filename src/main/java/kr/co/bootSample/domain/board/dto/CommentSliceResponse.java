@@ -0,0 +1,12 @@
+package kr.co.bootSample.domain.board.dto;
+
+import java.util.List;
+
+/**
+ * 커서 기반 댓글 목록 조회를 위한 응답 DTO입니다.
+ */
+public record CommentSliceResponse(
+        List<CommentResponse> content,
+        String nextCursor,
+        boolean hasNext) {
+}
@@ -1,6 +1,10 @@
 package kr.co.bootSample.domain.member;
 
 import kr.co.bootSample.domain.member.dto.MemberResponse;
+import kr.co.bootSample.global.security.PasswordHashingExecutor;
+import kr.co.bootSample.global.security.PasswordHashingStats;
+import kr.co.bootSample.global.security.RateLimitStats;
+import kr.co.bootSample.global.security.RateLimiter;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -28,6 +32,8 @@ public class AdminController {
 
     private final MemberRepository memberRepository;
     private final MemberService memberService;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final RateLimiter rateLimiter;
 
     /**
      * 전체 사용자 목록 조회 API (ADMIN 전용)
@@ -57,4 +63,32 @@ public class AdminController {
         memberService.updateRole(memberId, Role.valueOf(cleanRole));
         return ResponseEntity.ok().build();
     }
+
+    /**
+     * 사용자 강제 로그아웃 API (ADMIN 전용)
+     */
+    @Operation(summary = "사용자 강제 로그아웃", description = "특정 사용자의 리프레시 토큰을 모두 폐기하고 발급된 액세스 토큰을 무효화합니다. (관리자 권한 필요)")
+    @PostMapping("/members/{id}/logout")
+    public ResponseEntity<Void> forceLogout(@PathVariable("id") Long memberId) {
+        memberService.forceLogout(memberId);
+        return ResponseEntity.ok().build();
+    }
+
+    /**
+     * 비밀번호 해싱 풀 현황 조회 API (ADMIN 전용)
+     */
+    @Operation(summary = "비밀번호 해싱 현황 조회", description = "로그인/회원가입 해싱 풀의 대기 수, 거부 수, 대기 시간과 해싱 시간을 조회합니다. (관리자 권한 필요)")
+    @GetMapping("/password-hashing/stats")
+    public ResponseEntity<PasswordHashingStats> passwordHashingStats() {
+        return ResponseEntity.ok(passwordHashingExecutor.stats());
+    }
+
+    /**
+     * 요청 빈도 제한 현황 조회 API (ADMIN 전용)
+     */
+    @Operation(summary = "요청 빈도 제한 현황 조회", description = "검색/업로드/로그인 경로별 제한 설정, 추적 중인 키 수, 허용/거부 수를 조회합니다. (관리자 권한 필요)")
+    @GetMapping("/rate-limit/stats")
+    public ResponseEntity<List<RateLimitStats>> rateLimitStats() {
+        return ResponseEntity.ok(rateLimiter.stats());
+    }
 }
@@ -1,16 +1,19 @@
 package kr.co.bootSample.domain.member;
 
 import kr.co.bootSample.domain.member.dto.LoginRequest;
+import kr.co.bootSample.domain.member.dto.RefreshRequest;
 import kr.co.bootSample.domain.member.dto.SignupRequest;
 import kr.co.bootSample.domain.member.dto.TokenResponse;
 import kr.co.bootSample.global.security.JwtTokenProvider;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -21,7 +24,7 @@ import jakarta.validation.Valid;
 /**
  * 인증 관련 API를 제공하는 컨트롤러입니다.
  */
-@Tag(name = "Authentication", description = "인증 관련 API (회원가입, 로그인)")
+@Tag(name = "Authentication", description = "인증 관련 API (회원가입, 로그인, 토큰 재발급, 로그아웃)")
 @RestController
 @RequestMapping("/api/auth")
 @RequiredArgsConstructor
@@ -29,6 +32,8 @@ public class AuthController {
 
     private final MemberService memberService;
     private final JwtTokenProvider jwtTokenProvider;
+    private final MemberSecurityVersionCache memberSecurityVersionCache;
+    private final RefreshTokenService refreshTokenService;
     private final AuthenticationManagerBuilder authenticationManagerBuilder;
 
     /**
@@ -53,8 +58,47 @@ public class AuthController {
 
         // 아이디와 권한(Role) 정보를 추출하여 토큰 생성
         String role = authentication.getAuthorities().iterator().next().getAuthority();
-        String token = jwtTokenProvider.createToken(authentication.getName(), role);
+        String token = createAccessToken(authentication.getName(), role);
 
-        return ResponseEntity.ok(TokenResponse.of(token));
+        return ResponseEntity.ok(TokenResponse.of(token, refreshTokenService.issue(authentication.getName()),
+                jwtTokenProvider.getValiditySeconds()));
+    }
+
+    /**
+     * 토큰 재발급 API
+     */
+    @Operation(summary = "토큰 재발급", description = "리프레시 토큰으로 새 액세스 토큰과 리프레시 토큰을 발급합니다. 사용한 리프레시 토큰은 폐기됩니다.")
+    @PostMapping("/refresh")
+    public ResponseEntity<TokenResponse> refresh(@Valid @RequestBody RefreshRequest request) {
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(request.refreshToken());
+
+        // 권한이 바뀌었을 수 있으므로 현재 회원 정보로 액세스 토큰 생성
+        UserDetails user = memberService.loadUserByUsername(rotation.username());
+        String role = user.getAuthorities().iterator().next().getAuthority();
+        String token = createAccessToken(user.getUsername(), role);
+
+        return ResponseEntity.ok(TokenResponse.of(token, rotation.refreshToken(),
+                jwtTokenProvider.getValiditySeconds()));
+    }
+
+    /**
+     * 로그아웃 API
+     */
+    @Operation(summary = "로그아웃", description = "현재 액세스 토큰과 리프레시 토큰을 만료 전에 폐기합니다.")
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@RequestBody(required = false) RefreshRequest request,
+            HttpServletRequest httpRequest) {
+        String accessToken = jwtTokenProvider.resolveToken(httpRequest);
+        if (accessToken != null) {
+            jwtTokenProvider.revoke(accessToken);
+        }
+        if (request != null && request.refreshToken() != null) {
+            refreshTokenService.revoke(request.refreshToken());
+        }
+        return ResponseEntity.noContent().build();
+    }
+
+    private String createAccessToken(String username, String role) {
+        return jwtTokenProvider.createToken(username, role, memberSecurityVersionCache.currentVersion(username));
     }
 }
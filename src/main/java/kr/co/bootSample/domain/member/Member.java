@@ -12,6 +12,7 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 /**
  * 회원 정보를 담는 엔티티 클래스입니다.
@@ -38,6 +39,11 @@ public class Member extends BaseTimeEntity {
     @Column(nullable = false)
     private Role role;
 
+    // 권한 변경 등으로 기존 토큰을 무효화해야 할 때마다 증가 (토큰의 sv 클레임과 비교)
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long securityVersion;
+
     @Builder
     public Member(String username, String password, String nickname, Role role) {
         this.username = username;
@@ -50,7 +56,17 @@ public class Member extends BaseTimeEntity {
      * 닉네임과 권한을 수정하는 비즈니스 메서드입니다.
      */
     public void update(String nickname, Role role) {
+        if (this.role != role) {
+            this.securityVersion++; // 권한이 바뀌면 이전 권한이 담긴 토큰을 무효화
+        }
         this.nickname = nickname;
         this.role = role;
     }
+
+    /**
+     * 보안 버전을 증가시켜 이미 발급된 모든 토큰을 무효화합니다. (강제 로그아웃)
+     */
+    public void increaseSecurityVersion() {
+        this.securityVersion++;
+    }
 }
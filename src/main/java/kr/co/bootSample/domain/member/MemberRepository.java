@@ -1,6 +1,8 @@
 package kr.co.bootSample.domain.member;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
@@ -12,4 +14,10 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     Optional<Member> findByUsername(String username);
 
     boolean existsByUsername(String username);
+
+    /**
+     * 회원의 보안 버전만 조회합니다. (토큰 검증용)
+     */
+    @Query("SELECT m.securityVersion FROM Member m WHERE m.username = :username")
+    Optional<Long> findSecurityVersionByUsername(@Param("username") String username);
 }
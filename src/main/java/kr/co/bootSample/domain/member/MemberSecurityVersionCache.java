@@ -0,0 +1,46 @@
+package kr.co.bootSample.domain.member;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import kr.co.bootSample.global.common.TransactionUtils;
+import kr.co.bootSample.global.security.SecurityVersionProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 회원별 보안 버전을 짧은 기간 동안 보관하는 캐시입니다.
+ * 요청마다 회원 정보를 조회하지 않고 토큰의 버전만 비교할 수 있도록 하며,
+ * 권한이 변경되면 커밋 이후 해당 회원 항목을 무효화합니다.
+ * 다른 서버 인스턴스의 항목은 보관 기간(ttl)이 지나면 다시 조회되므로, 권한 변경은 최대 ttl 안에 모든 서버에 반영됩니다.
+ */
+@Component
+public class MemberSecurityVersionCache implements SecurityVersionProvider {
+
+    private final MemberRepository memberRepository;
+    private final Cache<String, Optional<Long>> cache;
+
+    public MemberSecurityVersionCache(MemberRepository memberRepository,
+            @Value("${jwt.security-version-cache.max-size:10000}") long maxSize,
+            @Value("${jwt.security-version-cache.ttl:PT30S}") Duration ttl) {
+        this.memberRepository = memberRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    @Override
+    public Long currentVersion(String username) {
+        return cache.get(username, memberRepository::findSecurityVersionByUsername).orElse(null);
+    }
+
+    /**
+     * 회원의 캐시 항목을 무효화합니다. 트랜잭션 안에서 호출되면 커밋 이후에 반영됩니다.
+     */
+    public void invalidate(String username) {
+        TransactionUtils.afterCommit(() -> cache.invalidate(username));
+    }
+}
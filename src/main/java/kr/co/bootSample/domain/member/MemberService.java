@@ -23,6 +23,8 @@ public class MemberService implements UserDetailsService {
 
     private final MemberRepository memberRepository;
     private final PasswordEncoder passwordEncoder;
+    private final MemberSecurityVersionCache memberSecurityVersionCache;
+    private final RefreshTokenService refreshTokenService;
 
     @Override
     @Transactional(readOnly = true)
@@ -57,10 +59,24 @@ public class MemberService implements UserDetailsService {
 
     /**
      * 사용자의 권한을 변경합니다. (관리자 전용)
+     * 보안 버전이 증가하므로 이전 권한으로 발급된 토큰은 더 이상 인증되지 않습니다.
      */
     public void updateRole(Long memberId, Role role) {
         Member member = memberRepository.findById(Objects.requireNonNull(memberId))
                 .orElseThrow(() -> new RuntimeException("해당 사용자를 찾을 수 없습니다."));
         member.update(member.getNickname(), role);
+        memberSecurityVersionCache.invalidate(member.getUsername());
+    }
+
+    /**
+     * 사용자를 강제로 로그아웃시킵니다. (관리자 전용)
+     * 리프레시 토큰을 모두 폐기하고 보안 버전을 증가시켜, 발급된 액세스 토큰도 보안 버전 캐시 보관 기간 안에 거부됩니다.
+     */
+    public void forceLogout(Long memberId) {
+        Member member = memberRepository.findById(Objects.requireNonNull(memberId))
+                .orElseThrow(() -> new RuntimeException("해당 사용자를 찾을 수 없습니다."));
+        member.increaseSecurityVersion();
+        refreshTokenService.revokeAll(member.getUsername());
+        memberSecurityVersionCache.invalidate(member.getUsername());
     }
 }
@@ -0,0 +1,79 @@
+package kr.co.bootSample.domain.member;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 리프레시 토큰 정보를 담는 엔티티입니다.
+ * 토큰 원문은 저장하지 않고 SHA-256 해시만 보관합니다.
+ * 재발급할 때마다 새 토큰으로 교체(Rotation)되며, 같은 로그인에서 이어진 토큰은 familyId를 공유합니다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@EntityListeners(AuditingEntityListener.class)
+@Table(name = "refresh_token", indexes = {
+        @Index(columnList = "family_id"),
+        @Index(columnList = "username") })
+public class RefreshToken {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long refreshTokenId;
+
+    @Column(nullable = false, unique = true, length = 64)
+    private String tokenHash;
+
+    @Column(nullable = false, length = 50)
+    private String username;
+
+    @Column(name = "family_id", nullable = false, length = 36)
+    private String familyId;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    private LocalDateTime usedAt; // 새 토큰으로 교체된 시각 (교체 전에는 null)
+
+    @Column(nullable = false)
+    private boolean revoked;
+
+    @CreatedDate
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public RefreshToken(String tokenHash, String username, String familyId, LocalDateTime expiresAt) {
+        this.tokenHash = tokenHash;
+        this.username = username;
+        this.familyId = familyId;
+        this.expiresAt = expiresAt;
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return !expiresAt.isAfter(now);
+    }
+
+    public boolean isUsed() {
+        return usedAt != null;
+    }
+
+    /**
+     * 새 토큰으로 교체되었음을 기록합니다.
+     */
+    public void markUsed(LocalDateTime now) {
+        this.usedAt = now;
+    }
+}
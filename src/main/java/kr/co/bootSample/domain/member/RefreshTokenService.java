@@ -0,0 +1,127 @@
+package kr.co.bootSample.domain.member;
+
+import kr.co.bootSample.global.error.UnauthorizedException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * 리프레시 토큰의 발급, 교체(Rotation), 폐기를 처리하는 서비스입니다.
+ * 리프레시 토큰은 한 번만 사용할 수 있으며, 이미 교체된 토큰이 다시 사용되면 탈취된 것으로 보고
+ * 같은 로그인에서 이어진 토큰(family)을 모두 폐기합니다.
+ * 여러 탭에서 거의 동시에 재발급을 요청하는 경우는 탈취로 보지 않도록 짧은 유예 시간을 둡니다.
+ */
+@Service
+@Transactional
+public class RefreshTokenService {
+
+    private static final Logger log = LoggerFactory.getLogger(RefreshTokenService.class);
+
+    private static final int TOKEN_BYTES = 32;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final Duration validity;
+    private final Duration reuseGrace;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository,
+            @Value("${jwt.refresh-token.validity:P14D}") Duration validity,
+            @Value("${jwt.refresh-token.reuse-grace:PT10S}") Duration reuseGrace) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.validity = validity;
+        this.reuseGrace = reuseGrace;
+    }
+
+    /**
+     * 로그인한 사용자에게 새 리프레시 토큰을 발급하고 원문을 반환합니다.
+     */
+    public String issue(String username) {
+        return issue(username, UUID.randomUUID().toString());
+    }
+
+    /**
+     * 리프레시 토큰을 새 토큰으로 교체합니다. 유효하지 않으면 UnauthorizedException을 던집니다.
+     * 재사용으로 인한 폐기는 예외가 발생해도 커밋되어야 하므로 롤백하지 않습니다.
+     */
+    @Transactional(noRollbackFor = UnauthorizedException.class)
+    public Rotation rotate(String rawToken) {
+        LocalDateTime now = LocalDateTime.now();
+        RefreshToken token = refreshTokenRepository.findByTokenHashForUpdate(hash(rawToken))
+                .orElseThrow(() -> new UnauthorizedException("유효하지 않은 리프레시 토큰입니다."));
+
+        if (token.isRevoked() || token.isExpired(now)) {
+            throw new UnauthorizedException("만료되었거나 폐기된 리프레시 토큰입니다. 다시 로그인해 주세요.");
+        }
+        if (token.isUsed()) {
+            if (token.getUsedAt().plus(reuseGrace).isBefore(now)) {
+                // 교체된 토큰의 재사용: 탈취 가능성이 있으므로 이어진 토큰을 모두 폐기
+                refreshTokenRepository.revokeFamily(token.getFamilyId());
+                log.warn("이미 사용된 리프레시 토큰이 다시 사용되어 로그인을 폐기합니다: {}", token.getUsername());
+            }
+            throw new UnauthorizedException("이미 사용된 리프레시 토큰입니다.");
+        }
+
+        token.markUsed(now);
+        return new Rotation(token.getUsername(), issue(token.getUsername(), token.getFamilyId()));
+    }
+
+    /**
+     * 리프레시 토큰과 같은 로그인에서 이어진 토큰을 모두 폐기합니다. (로그아웃)
+     */
+    public void revoke(String rawToken) {
+        refreshTokenRepository.findByTokenHash(hash(rawToken))
+                .ifPresent(token -> refreshTokenRepository.revokeFamily(token.getFamilyId()));
+    }
+
+    /**
+     * 사용자의 모든 리프레시 토큰을 폐기합니다. (강제 로그아웃)
+     */
+    public void revokeAll(String username) {
+        refreshTokenRepository.revokeAllByUsername(username);
+    }
+
+    /**
+     * 만료된 리프레시 토큰 정보를 삭제합니다.
+     */
+    @Scheduled(cron = "${jwt.refresh-token.cleanup-cron:0 15 4 * * *}")
+    public void deleteExpired() {
+        int deleted = refreshTokenRepository.deleteExpired(LocalDateTime.now());
+        log.info("만료된 리프레시 토큰 삭제: {}건", deleted);
+    }
+
+    private String issue(String username, String familyId) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        refreshTokenRepository.save(new RefreshToken(hash(rawToken), username, familyId,
+                LocalDateTime.now().plus(validity)));
+        return rawToken;
+    }
+
+    private static String hash(String rawToken) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(rawToken.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 교체 결과 (토큰 소유자와 새 리프레시 토큰 원문)
+     */
+    public record Rotation(String username, String refreshToken) {
+    }
+}
@@ -0,0 +1,11 @@
+package kr.co.bootSample.domain.member.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+
+/**
+ * 토큰 재발급/로그아웃 요청을 위한 DTO입니다.
+ */
+public record RefreshRequest(
+                @Schema(description = "리프레시 토큰") @NotBlank(message = "리프레시 토큰이 필요합니다.") String refreshToken) {
+}
@@ -2,11 +2,14 @@ package kr.co.bootSample.domain.member.dto;
 
 /**
  * 토큰 응답을 처리하기 위한 DTO입니다.
+ * expiresIn은 액세스 토큰의 유효 기간(초)이며, 만료되면 refreshToken으로 재발급받습니다.
  */
 public record TokenResponse(
         String accessToken,
-        String tokenType) {
-    public static TokenResponse of(String accessToken) {
-        return new TokenResponse(accessToken, "Bearer");
+        String refreshToken,
+        String tokenType,
+        long expiresIn) {
+    public static TokenResponse of(String accessToken, String refreshToken, long expiresIn) {
+        return new TokenResponse(accessToken, refreshToken, "Bearer", expiresIn);
     }
 }
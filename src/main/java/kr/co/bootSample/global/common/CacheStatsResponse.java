@@ -0,0 +1,36 @@
+package kr.co.bootSample.global.common;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+/**
+ * 인메모리 캐시의 적중/미스/제거 통계를 반환하기 위한 DTO입니다.
+ */
+public record CacheStatsResponse(
+        String name,
+        long estimatedSize,
+        long weightedSize,
+        long hitCount,
+        long missCount,
+        double hitRate,
+        long evictionCount,
+        long evictionWeight,
+        double averageLoadPenaltyMillis) {
+
+    public static CacheStatsResponse of(String name, Cache<?, ?> cache) {
+        CacheStats stats = cache.stats();
+        long weightedSize = cache.policy().eviction()
+                .map(eviction -> eviction.weightedSize().orElse(-1L))
+                .orElse(-1L);
+        return new CacheStatsResponse(
+                name,
+                cache.estimatedSize(),
+                weightedSize,
+                stats.hitCount(),
+                stats.missCount(),
+                stats.hitRate(),
+                stats.evictionCount(),
+                stats.evictionWeight(),
+                stats.averageLoadPenalty() / 1_000_000.0);
+    }
+}
@@ -0,0 +1,48 @@
+package kr.co.bootSample.global.common;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 경계와 관련된 공통 유틸리티 클래스입니다.
+ */
+public final class TransactionUtils {
+
+    private TransactionUtils() {
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 이후에 작업을 실행합니다.
+     * 활성화된 트랜잭션이 없으면 즉시 실행하며, 롤백된 경우에는 실행하지 않습니다.
+     */
+    public static void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    /**
+     * 현재 트랜잭션이 롤백된 이후에 작업을 실행합니다. (보상 처리용)
+     * 활성화된 트랜잭션이 없으면 롤백될 작업도 없으므로 실행하지 않습니다.
+     */
+    public static void afterRollback(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    task.run();
+                }
+            }
+        });
+    }
+}
@@ -1,5 +1,7 @@
 package kr.co.bootSample.global.config;
 
+import kr.co.bootSample.global.security.BoundedPasswordEncoder;
+import kr.co.bootSample.global.security.PasswordHashingExecutor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -8,12 +10,13 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 /**
  * 애플리케이션 공통 설정을 위한 클래스입니다.
  * 순환 참조를 방지하기 위해 PasswordEncoder 설정을 SecurityConfig에서 분리했습니다.
+ * BCrypt 해싱은 요청 스레드가 아닌 전용 풀(PasswordHashingExecutor)에서 실행됩니다.
  */
 @Configuration
 public class AppConfig {
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(PasswordHashingExecutor passwordHashingExecutor) {
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(), passwordHashingExecutor);
     }
 }
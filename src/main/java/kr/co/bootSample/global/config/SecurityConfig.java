@@ -3,6 +3,7 @@ package kr.co.bootSample.global.config;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
@@ -10,14 +11,19 @@ import org.springframework.security.config.annotation.web.configurers.AbstractHt
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.CorsUtils;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import kr.co.bootSample.domain.board.BoardController;
+import kr.co.bootSample.global.security.ClientIpResolver;
 import kr.co.bootSample.global.security.JwtAuthenticationFilter;
 import kr.co.bootSample.global.security.JwtTokenProvider;
+import kr.co.bootSample.global.security.RateLimitFilter;
+import kr.co.bootSample.global.security.RateLimiter;
 
 /**
  * Spring Security 6.x 보안 설정 클래스입니다.
@@ -29,10 +35,15 @@ public class SecurityConfig {
 
     private final JwtTokenProvider jwtTokenProvider;
     private final UserDetailsService userDetailsService;
+    private final RateLimiter rateLimiter;
+    private final ClientIpResolver clientIpResolver;
 
-    public SecurityConfig(JwtTokenProvider jwtTokenProvider, UserDetailsService userDetailsService) {
+    public SecurityConfig(JwtTokenProvider jwtTokenProvider, UserDetailsService userDetailsService,
+            RateLimiter rateLimiter, ClientIpResolver clientIpResolver) {
         this.jwtTokenProvider = jwtTokenProvider;
         this.userDetailsService = userDetailsService;
+        this.rateLimiter = rateLimiter;
+        this.clientIpResolver = clientIpResolver;
     }
 
     @Bean
@@ -41,6 +52,9 @@ public class SecurityConfig {
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .csrf(AbstractHttpConfigurer::disable)
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                // 토큰이 없거나 만료/폐기된 경우 401로 응답하여 클라이언트가 토큰을 재발급받도록 함
+                .exceptionHandling(exception -> exception
+                        .authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED)))
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers(CorsUtils::isPreFlightRequest).permitAll() // 1. Preflight 우선 허용
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll() // 2. OPTIONS 메서드 강제 허용
@@ -51,7 +65,9 @@ public class SecurityConfig {
                         .permitAll()
                         .anyRequest().authenticated())
                 .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider, userDetailsService),
-                        UsernamePasswordAuthenticationFilter.class);
+                        UsernamePasswordAuthenticationFilter.class)
+                // 인증 정보(사용자 아이디)를 키로 사용하므로 JWT 필터 다음에 실행
+                .addFilterAfter(new RateLimitFilter(rateLimiter, clientIpResolver), JwtAuthenticationFilter.class);
 
         return http.build();
     }
@@ -65,6 +81,7 @@ public class SecurityConfig {
         configuration.addAllowedOriginPattern("*");
         configuration.addAllowedMethod("*"); // GET, POST, OPTIONS, PUT, DELETE 등 모두 허용
         configuration.addAllowedHeader("*"); // 모든 헤더 허용
+        configuration.addExposedHeader(BoardController.PAGING_MODE_HEADER); // 목록 페이징 방식 헤더 노출
         configuration.setAllowCredentials(true);
         configuration.setMaxAge(3600L); // Preflight 요청 캐싱 (1시간)
 
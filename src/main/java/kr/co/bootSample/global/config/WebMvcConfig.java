@@ -1,23 +1,54 @@
 package kr.co.bootSample.global.config;
 
+import kr.co.bootSample.global.file.FileStorage;
+import kr.co.bootSample.global.file.HotFileCache;
+import kr.co.bootSample.global.file.ImageDerivativeService;
+import kr.co.bootSample.global.file.ImageVariantResourceResolver;
+import kr.co.bootSample.global.file.StorageResourceResolver;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+
+import java.time.Duration;
+import java.util.List;
 
 /**
  * 정적 자원 매핑 설정을 위한 설정 클래스입니다.
  */
 @Configuration
+@RequiredArgsConstructor
 public class WebMvcConfig implements WebMvcConfigurer {
 
     @Value("${app.file.upload-dir:./uploads}")
     private String uploadDir;
 
+    @Value("${app.file.static.max-age:P365D}")
+    private Duration staticMaxAge;
+
+    private final ImageDerivativeService imageDerivativeService;
+    private final FileStorage fileStorage;
+    private final HotFileCache hotFileCache;
+
     @Override
     public void addResourceHandlers(@org.springframework.lang.NonNull ResourceHandlerRegistry registry) {
+        // 업로드 파일은 체크섬/UUID 이름으로 저장되어 같은 URL의 내용이 바뀌지 않으므로 브라우저가 재검증 없이 캐시하도록 지정
+        EncodedResourceResolver encodedResourceResolver = new EncodedResourceResolver();
+        encodedResourceResolver.setContentCodings(List.of("gzip"));
+
         // /uploads/** 경로로 들어오는 요청을 외부 업로드 디렉토리로 매핑
+        // Accept-Encoding에 gzip이 있으면 미리 압축해 둔 사본(.gz)을 우선 제공
+        // ?w= 파라미터가 있는 이미지 요청은 파생본을 우선 제공하고, 없으면 원본을 제공
+        // 요청 경로는 저장 키로 해석하여 저장소의 분산 경로(예: cas/3f/a9/...)에서 찾음
         registry.addResourceHandler("/uploads/**")
-                .addResourceLocations("file:" + uploadDir + "/");
+                .addResourceLocations("file:" + uploadDir + "/")
+                .setCacheControl(CacheControl.maxAge(staticMaxAge).cachePublic().immutable())
+                .resourceChain(false)
+                .addResolver(encodedResourceResolver)
+                .addResolver(new ImageVariantResourceResolver(imageDerivativeService, fileStorage, hotFileCache))
+                .addResolver(new StorageResourceResolver(fileStorage, hotFileCache));
     }
 }
@@ -4,6 +4,8 @@ import lombok.Builder;
 import lombok.Getter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -41,6 +43,32 @@ public class GlobalExceptionHandler {
                         .build());
     }
 
+    /**
+     * 처리 용량 초과 예외를 처리합니다. 클라이언트가 다시 시도할 시점을 Retry-After 헤더로 알려줍니다.
+     */
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ErrorResponse> handleTooManyRequestsException(TooManyRequestsException e) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(ErrorResponse.builder()
+                        .message(e.getMessage())
+                        .status(429)
+                        .build());
+    }
+
+    /**
+     * 인증 정보 오류를 처리합니다. 클라이언트는 다시 로그인해야 합니다.
+     */
+    @ExceptionHandler(UnauthorizedException.class)
+    public ResponseEntity<ErrorResponse> handleUnauthorizedException(UnauthorizedException e) {
+        log.warn("인증 실패: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                .body(ErrorResponse.builder()
+                        .message(e.getMessage())
+                        .status(401)
+                        .build());
+    }
+
     /**
      * 비즈니스 로직 예외 (RuntimeException)를 처리합니다.
      */
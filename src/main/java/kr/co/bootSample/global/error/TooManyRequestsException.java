@@ -0,0 +1,19 @@
+package kr.co.bootSample.global.error;
+
+/**
+ * 처리 용량을 초과하여 요청을 받을 수 없을 때 발생하는 예외입니다.
+ * GlobalExceptionHandler가 429 Too Many Requests와 Retry-After 헤더로 응답합니다.
+ */
+public class TooManyRequestsException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
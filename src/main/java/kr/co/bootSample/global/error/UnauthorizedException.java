@@ -0,0 +1,12 @@
+package kr.co.bootSample.global.error;
+
+/**
+ * 인증 정보(리프레시 토큰 등)가 유효하지 않을 때 발생하는 예외입니다.
+ * GlobalExceptionHandler가 401 Unauthorized로 응답합니다.
+ */
+public class UnauthorizedException extends RuntimeException {
+
+    public UnauthorizedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,107 @@
+package kr.co.bootSample.global.file;
+
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+
+/**
+ * HotFileCache에 보관된 파일 내용을 정적 자원 응답에 사용하기 위한 Resource입니다.
+ * 파일명(미디어 타입 판별)과 최종 수정 시각(Last-Modified)은 원본 파일 기준으로 제공합니다.
+ */
+public class CachedFileResource extends AbstractResource {
+
+    private final Path path;
+    private final ByteBuffer content;
+    private final long lastModified;
+
+    public CachedFileResource(Path path, ByteBuffer content, long lastModified) {
+        this.path = path;
+        this.content = content;
+        this.lastModified = lastModified;
+    }
+
+    @Override
+    public InputStream getInputStream() {
+        return new ByteBufferInputStream(content.duplicate());
+    }
+
+    @Override
+    public boolean exists() {
+        return true;
+    }
+
+    @Override
+    public long contentLength() {
+        return content.remaining();
+    }
+
+    @Override
+    public long lastModified() {
+        return lastModified;
+    }
+
+    @Override
+    public String getFilename() {
+        return path.getFileName().toString();
+    }
+
+    /**
+     * 같은 디렉토리의 다른 파일(예: 미리 압축된 .gz)은 디스크에서 직접 제공합니다.
+     */
+    @Override
+    public Resource createRelative(String relativePath) {
+        return new FileSystemResource(path.resolveSibling(relativePath));
+    }
+
+    @Override
+    public String getDescription() {
+        return "cached file [" + path + "]";
+    }
+
+    int size() {
+        return content.remaining();
+    }
+
+    private static class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        private ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, count);
+            return count;
+        }
+
+        @Override
+        public long skip(long n) {
+            int count = (int) Math.max(0, Math.min(n, buffer.remaining()));
+            buffer.position(buffer.position() + count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package kr.co.bootSample.global.file;
+
+import java.nio.file.Path;
+
+/**
+ * 다운로드 응답에 필요한 파일 정보입니다. (물리 경로 및 DB에 저장된 메타데이터)
+ *
+ * @param path         물리 파일 경로
+ * @param length       파일 크기 (bytes)
+ * @param contentType  MIME 타입
+ * @param originName   원본 파일명 (Content-Disposition용)
+ * @param eTag         강한(Strong) ETag 값
+ * @param lastModified 최종 수정 시각 (epoch millis)
+ */
+public record DownloadFile(
+        Path path,
+        long length,
+        String contentType,
+        String originName,
+        String eTag,
+        long lastModified) {
+}
@@ -0,0 +1,85 @@
+package kr.co.bootSample.global.file;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import kr.co.bootSample.global.common.CacheStatsResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 관리자 전용 파일 저장소 운영 API를 제공하는 컨트롤러입니다.
+ */
+@Tag(name = "File Admin", description = "관리자 전용 API (파일 저장소 운영)")
+@RestController
+@RequestMapping("/api/admin/files")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class FileAdminController {
+
+    private final FileDedupMigration fileDedupMigration;
+    private final ImageDerivativeService imageDerivativeService;
+    private final FileGarbageCollector fileGarbageCollector;
+    private final FileShardMigration fileShardMigration;
+    private final HotFileCache hotFileCache;
+    private final UploadAdmission uploadAdmission;
+
+    /**
+     * 기존 업로드 파일 중복 제거 마이그레이션 API (ADMIN 전용)
+     */
+    @Operation(summary = "파일 중복 제거 마이그레이션", description = "기존 board/editor 디렉토리의 파일을 내용 주소 기반 저장소로 옮기고 중복을 제거합니다. (관리자 권한 필요)")
+    @PostMapping("/dedup")
+    public ResponseEntity<FileDedupReport> dedup() {
+        return ResponseEntity.ok(fileDedupMigration.migrate());
+    }
+
+    /**
+     * 업로드 파일 디렉토리 분산 마이그레이션 API (ADMIN 전용)
+     */
+    @Operation(summary = "업로드 파일 디렉토리 분산", description = "평면 디렉토리에 남아 있는 업로드 파일을 분산 경로(예: cas/ab/cd/...)로 옮깁니다. (관리자 권한 필요)")
+    @PostMapping("/shard")
+    public ResponseEntity<FileShardReport> shard() {
+        return ResponseEntity.ok(fileShardMigration.migrate());
+    }
+
+    /**
+     * 미사용 업로드 파일 정리 API (ADMIN 전용)
+     */
+    @Operation(summary = "미사용 파일 정리", description = "첨부파일과 게시글 본문에서 참조하지 않는 업로드 파일을 찾아 삭제합니다. dryRun이면 대상만 집계합니다. (관리자 권한 필요)")
+    @PostMapping("/gc")
+    public ResponseEntity<FileGcReport> gc(@RequestParam(defaultValue = "true") boolean dryRun) {
+        return ResponseEntity.ok(fileGarbageCollector.collect(dryRun));
+    }
+
+    /**
+     * 이미지 파생본 생성 현황 조회 API (ADMIN 전용)
+     */
+    @Operation(summary = "이미지 파생본 생성 현황", description = "대기열 길이, 처리 건수, 대기/처리 시간을 조회합니다. (관리자 권한 필요)")
+    @GetMapping("/images/stats")
+    public ResponseEntity<ImageDerivativeStats> imageStats() {
+        return ResponseEntity.ok(imageDerivativeService.stats());
+    }
+
+    /**
+     * 업로드 수용 제어 현황 조회 API (ADMIN 전용)
+     */
+    @Operation(summary = "업로드 수용 제어 현황", description = "업로드 대기열 길이, 대기 시간, 거부 건수, 초당 기록량을 조회합니다. (관리자 권한 필요)")
+    @GetMapping("/uploads/stats")
+    public ResponseEntity<UploadAdmissionStats> uploadStats() {
+        return ResponseEntity.ok(uploadAdmission.stats());
+    }
+
+    /**
+     * 업로드 파일 메모리 캐시 통계 조회 API (ADMIN 전용)
+     */
+    @Operation(summary = "업로드 파일 메모리 캐시 통계", description = "/uploads 응답에 사용하는 메모리 캐시의 적중률과 사용량을 조회합니다. (관리자 권한 필요)")
+    @GetMapping("/hot-cache/stats")
+    public ResponseEntity<CacheStatsResponse> hotCacheStats() {
+        return ResponseEntity.ok(hotFileCache.stats());
+    }
+}
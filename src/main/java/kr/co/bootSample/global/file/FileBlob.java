@@ -0,0 +1,47 @@
+package kr.co.bootSample.global.file;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+
+import java.time.LocalDateTime;
+
+/**
+ * 내용 주소 기반(Content-addressed) 저장소의 물리 파일 정보를 담는 엔티티입니다.
+ * 같은 내용의 파일은 SHA-256 체크섬을 키로 한 번만 저장되며,
+ * 첨부파일(BoardFile)과 에디터 이미지가 참조할 때마다 refCount가 증가하고 마지막 참조가 사라지면 삭제됩니다.
+ * 참조 수는 동시 업로드에도 안전하도록 항상 Repository의 상대값 쿼리로만 변경합니다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "file_blob", uniqueConstraints = @UniqueConstraint(columnNames = "stored_name"))
+public class FileBlob {
+
+    @Id
+    @Column(length = 64)
+    private String hash; // SHA-256 체크섬 (16진수 소문자)
+
+    @Column(name = "stored_name", nullable = false, length = 500)
+    private String storedName; // 업로드 디렉토리 기준 상대 경로
+
+    @Column(nullable = false)
+    private Long fileSize;
+
+    @Column(nullable = false)
+    private long refCount;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    // 마지막으로 참조가 등록된 시각 (미사용 파일 정리의 유예 기간 기준, 같은 내용을 다시 올리면 갱신)
+    @ColumnDefault("CURRENT_TIMESTAMP(6)")
+    @Column(name = "acquired_at", nullable = false, updatable = false)
+    private LocalDateTime acquiredAt;
+}
@@ -0,0 +1,89 @@
+package kr.co.bootSample.global.file;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * FileBlob 엔티티를 위한 Repository 인터페이스입니다.
+ */
+public interface FileBlobRepository extends JpaRepository<FileBlob, String> {
+
+    Optional<FileBlob> findByStoredName(String storedName);
+
+    /**
+     * 파일 참조를 1 증가시킵니다. 처음 저장되는 내용이면 참조 수 1로 새로 등록합니다.
+     * 동시에 같은 내용이 업로드되어도 중복 키 충돌 없이 원자적으로 처리됩니다. (MariaDB 전용 구문)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO file_blob (hash, stored_name, file_size, ref_count, created_at, acquired_at)"
+            + " VALUES (:hash, :storedName, :fileSize, 1, NOW(), NOW(6))"
+            + " ON DUPLICATE KEY UPDATE ref_count = ref_count + 1, acquired_at = NOW(6)", nativeQuery = true)
+    int acquire(@Param("hash") String hash, @Param("storedName") String storedName,
+            @Param("fileSize") long fileSize);
+
+    /**
+     * 파일을 참조 수 변경 없이 등록합니다. (에디터 이미지 업로드 시 임시 보호)
+     * 처음 저장되는 내용이면 참조 수 0으로 새로 등록하고, 이미 있으면 등록 시각만 갱신합니다.
+     * 게시글에 저장되지 않은 채 유예 기간이 지나면 미사용 파일 정리에서 삭제됩니다. (MariaDB 전용 구문)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO file_blob (hash, stored_name, file_size, ref_count, created_at, acquired_at)"
+            + " VALUES (:hash, :storedName, :fileSize, 0, NOW(), NOW(6))"
+            + " ON DUPLICATE KEY UPDATE acquired_at = NOW(6)", nativeQuery = true)
+    int pin(@Param("hash") String hash, @Param("storedName") String storedName,
+            @Param("fileSize") long fileSize);
+
+    /**
+     * 저장 경로에 해당하는 파일 참조를 1 증가시키고 변경 건수를 반환합니다. (게시글 본문 이미지)
+     */
+    @Modifying
+    @Query("UPDATE FileBlob b SET b.refCount = b.refCount + 1 WHERE b.storedName = :storedName")
+    int acquireByStoredName(@Param("storedName") String storedName);
+
+    /**
+     * 파일 정보 행을 잠그고 존재하면 해시를 반환합니다. (SELECT ... FOR UPDATE)
+     * 행이 없으면 InnoDB(REPEATABLE READ)가 해당 키 구간을 잠그므로, 트랜잭션이 끝날 때까지
+     * 같은 내용의 참조 등록(acquire)이 대기합니다. 물리 파일 삭제 여부를 판단할 때 사용하며,
+     * 삭제 대기 정보 하나를 처리하는 짧은 트랜잭션에서만 잠급니다.
+     */
+    @Query(value = "SELECT hash FROM file_blob WHERE hash = :hash FOR UPDATE", nativeQuery = true)
+    Optional<String> lockByHash(@Param("hash") String hash);
+
+    /**
+     * 파일 참조를 1 감소시킵니다.
+     */
+    @Modifying
+    @Query("UPDATE FileBlob b SET b.refCount = b.refCount - 1 WHERE b.hash = :hash AND b.refCount > 0")
+    int release(@Param("hash") String hash);
+
+    /**
+     * 더 이상 참조되지 않고 유예 기간 안에 업로드(임시 보호)되지 않은 파일 정보를 삭제하고 삭제 건수를 반환합니다.
+     * 아직 저장되지 않은 게시글에 방금 올린 같은 내용의 이미지가 있으면 미사용 파일 정리에 맡깁니다.
+     */
+    @Modifying
+    @Query("DELETE FROM FileBlob b WHERE b.hash = :hash AND b.refCount = 0 AND b.acquiredAt < :acquiredBefore")
+    int deleteIfUnreferenced(@Param("hash") String hash, @Param("acquiredBefore") LocalDateTime acquiredBefore);
+
+    /**
+     * 참조 수가 기대값과 같고 유예 기간 안에 참조가 등록되지 않았을 때만 파일 정보를 삭제합니다.
+     * (미사용 파일 정리 중 새 참조가 생겼거나, 아직 저장되지 않은 게시글에 방금 다시 붙여 넣은 경우 보호)
+     */
+    @Modifying
+    @Query("DELETE FROM FileBlob b WHERE b.hash = :hash AND b.refCount = :refCount"
+            + " AND b.acquiredAt < :acquiredBefore")
+    int deleteIfRefCount(@Param("hash") String hash, @Param("refCount") long refCount,
+            @Param("acquiredBefore") LocalDateTime acquiredBefore);
+
+    /**
+     * 참조 수가 기대값과 같을 때만 새 값으로 변경합니다. (미사용 파일 정리의 참조 수 보정)
+     */
+    @Modifying
+    @Query("UPDATE FileBlob b SET b.refCount = :refCount WHERE b.hash = :hash AND b.refCount = :expected")
+    int updateRefCount(@Param("hash") String hash, @Param("expected") long expected,
+            @Param("refCount") long refCount);
+}
@@ -0,0 +1,166 @@
+package kr.co.bootSample.global.file;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import kr.co.bootSample.global.common.TransactionUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 압축 효과가 있는 업로드 파일(SVG, 텍스트 등)의 gzip 사본({저장 키}.gz)을 미리 만들어 두는 서비스입니다.
+ * /uploads/** 요청은 EncodedResourceResolver가 Accept-Encoding에 따라 사본을 선택하므로,
+ * 요청마다 압축하지 않고도 전송량을 줄일 수 있습니다.
+ * JPEG/PNG처럼 이미 압축된 형식은 대상이 아니며, 압축해도 충분히 줄지 않으면 사본을 남기지 않습니다.
+ */
+@Service
+public class FileCompressionService {
+
+    private static final Logger log = LoggerFactory.getLogger(FileCompressionService.class);
+
+    private static final String GZIP_SUFFIX = ".gz";
+
+    @Value("${app.file.upload-dir:./uploads}")
+    private String uploadDir;
+
+    @Value("${app.file.paths.cas:cas}")
+    private String casPath;
+
+    @Value("${app.file.precompress.extensions:svg,bmp,txt,csv,json,xml}")
+    private List<String> extensions;
+
+    @Value("${app.file.precompress.min-size:1024}")
+    private long minSize;
+
+    @Value("${app.file.precompress.max-ratio:0.9}")
+    private double maxRatio;
+
+    @Value("${app.file.precompress.queue-capacity:100}")
+    private int queueCapacity;
+
+    private final FileStorage fileStorage;
+
+    private ThreadPoolExecutor executor;
+
+    public FileCompressionService(FileStorage fileStorage) {
+        this.fileStorage = fileStorage;
+    }
+
+    @PostConstruct
+    void start() {
+        executor = new ThreadPoolExecutor(1, 1, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<Runnable>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "file-compression");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (runnable, pool) -> log.warn("파일 압축 대기열이 가득 차 작업을 건너뜁니다. (대기 {}건)",
+                        pool.getQueue().size()));
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 파일의 gzip 사본 생성을 요청합니다. 트랜잭션 안에서 호출되면 커밋 이후에 대기열에 등록됩니다.
+     */
+    public void requestCompression(String storedName) {
+        if (!isCompressible(storedName)) {
+            return;
+        }
+        TransactionUtils.afterCommit(() -> executor.execute(() -> {
+            try {
+                compress(storedName);
+            } catch (IOException | RuntimeException e) {
+                log.warn("파일 압축 사본 생성 실패: {}", storedName, e);
+            }
+        }));
+    }
+
+    /**
+     * 파일의 gzip 사본을 삭제합니다. (원본 파일 삭제 시 호출)
+     */
+    public void deleteCompressed(String storedName) {
+        if (!isCompressible(storedName)) {
+            return;
+        }
+        try {
+            fileStorage.delete(storedName + GZIP_SUFFIX);
+        } catch (IOException e) {
+            log.warn("파일 압축 사본 삭제 실패: {}", storedName, e);
+        }
+    }
+
+    /**
+     * gzip 사본의 저장 키이면 원본 저장 키를, 아니면 null을 반환합니다. (미사용 파일 정리용)
+     */
+    public String originalOf(String key) {
+        return key.endsWith(GZIP_SUFFIX) ? key.substring(0, key.length() - GZIP_SUFFIX.length()) : null;
+    }
+
+    private void compress(String storedName) throws IOException {
+        String target = storedName + GZIP_SUFFIX;
+        Path source = fileStorage.localPath(storedName);
+        if (source == null || fileStorage.exists(target)) {
+            return;
+        }
+        long size = Files.size(source);
+        if (size < minSize) {
+            return;
+        }
+
+        Path temp = Paths.get(uploadDir, casPath).resolve(UUID.randomUUID() + ".part");
+        Files.createDirectories(temp.getParent());
+        try {
+            try (InputStream in = Files.newInputStream(source);
+                    OutputStream out = new BestCompressionGzipOutputStream(Files.newOutputStream(temp))) {
+                in.transferTo(out);
+            }
+            long compressed = Files.size(temp);
+            if (compressed > size * maxRatio) {
+                log.debug("압축 효과가 작아 사본을 만들지 않습니다: {} ({} → {} bytes)", storedName, size, compressed);
+                return;
+            }
+            fileStorage.put(temp, target);
+            log.debug("파일 압축 사본 생성: {} ({} → {} bytes)", storedName, size, compressed);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private boolean isCompressible(String storedName) {
+        int dot = storedName.lastIndexOf('.');
+        return dot != -1 && extensions.contains(storedName.substring(dot + 1).toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * 사본은 한 번만 만들고 여러 번 제공하므로 압축 시간보다 압축률을 우선합니다.
+     */
+    private static class BestCompressionGzipOutputStream extends GZIPOutputStream {
+
+        private BestCompressionGzipOutputStream(OutputStream out) throws IOException {
+            super(out, 65536);
+            def.setLevel(Deflater.BEST_COMPRESSION);
+        }
+    }
+}
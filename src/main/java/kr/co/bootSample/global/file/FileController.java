@@ -3,8 +3,9 @@ package kr.co.bootSample.global.file;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.core.io.Resource;
-import org.springframework.core.io.UrlResource;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -13,12 +14,9 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
-import org.springframework.web.multipart.MultipartFile;
-import org.springframework.web.util.UriUtils;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import java.io.IOException;
-import java.net.MalformedURLException;
-import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -34,19 +32,36 @@ public class FileController {
     private static final Logger log = LoggerFactory.getLogger(FileController.class);
 
     private final FileService fileService;
+    private final FileDownloadWriter fileDownloadWriter;
+    private final ImageDerivativeService imageDerivativeService;
+    private final MultipartUploadReader multipartUploadReader;
 
     /**
-     * 위지윅 에디터(Quill) 전용 이미지 업로드 핸들러
+     * 위지윅 에디터(Quill) 전용 이미지 업로드 핸들러 (multipart: image)
      */
     @PostMapping("/upload/image")
-    public ResponseEntity<Map<String, String>> uploadEditorImage(@RequestParam("image") MultipartFile image) {
+    public ResponseEntity<Map<String, String>> uploadEditorImage(HttpServletRequest request) {
+        // 기록 차례를 기다려 임시 파일로 스트리밍 기록한 뒤(트랜잭션 밖) 저장소에 등록
+        MultipartUpload upload;
         try {
-            String storedName = fileService.storeEditorFile(image);
+            upload = multipartUploadReader.read(request, "image");
+        } catch (IOException e) {
+            log.error("에디터 이미지 업로드 실패", e);
+            return ResponseEntity.internalServerError().build();
+        }
+
+        try (upload) {
+            if (upload.files().isEmpty()) {
+                throw new RuntimeException("업로드할 이미지가 없습니다.");
+            }
+            String storedName = fileService.storeEditorFile(upload.files().list().get(0));
             // 브라우저에서 접근 가능한 URL 반환 (하위 경로 포함)
             String imageUrl = "/uploads/" + storedName.replace("\\", "/");
 
+            // url: 본문 표시용 (큰 이미지는 축소 파생본, 생성 전에는 원본으로 제공), original: 원본
             Map<String, String> response = new HashMap<String, String>();
-            response.put("url", imageUrl);
+            response.put("url", imageDerivativeService.displayUrl(storedName));
+            response.put("original", imageUrl);
             return ResponseEntity.ok(response);
         } catch (IOException e) {
             log.error("에디터 이미지 업로드 실패", e);
@@ -55,21 +70,29 @@ public class FileController {
     }
 
     /**
-     * 일반 파일 다운로드
+     * 첨부파일 다운로드 (Range/If-Range 및 조건부 요청 지원)
      */
-    @GetMapping("/download/{storedName}")
-    public ResponseEntity<Resource> downloadFile(@PathVariable String storedName, @RequestParam String originName)
-            throws MalformedURLException {
-        String fullPath = fileService.getFullPath(storedName);
-        UrlResource resource = new UrlResource("file:" + fullPath);
+    @GetMapping("/{fileId}/download")
+    public void download(@PathVariable Long fileId, ServletWebRequest webRequest) throws IOException {
+        writeDownload(fileService.getDownloadFile(fileId), webRequest);
+    }
 
-        String encodedOriginName = originName != null
-                ? UriUtils.encode(originName, Objects.requireNonNull(StandardCharsets.UTF_8))
-                : "file";
-        String contentDisposition = "attachment; filename=\"" + encodedOriginName + "\"";
+    /**
+     * 일반 파일 다운로드 (저장 파일명 기반, 기존 링크 호환용)
+     */
+    @GetMapping("/download/{storedName}")
+    public void downloadFile(@PathVariable String storedName, @RequestParam String originName,
+            ServletWebRequest webRequest) throws IOException {
+        writeDownload(fileService.getDownloadFile(storedName, originName), webRequest);
+    }
 
-        return ResponseEntity.ok()
-                .header(HttpHeaders.CONTENT_DISPOSITION, contentDisposition)
-                .body(resource);
+    private void writeDownload(DownloadFile file, ServletWebRequest webRequest) throws IOException {
+        HttpServletResponse response = Objects.requireNonNull(webRequest.getResponse());
+        // 304 응답에도 적용되도록 검증 전에 설정 (Spring Security 기본값 no-store 방지)
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().cachePrivate().getHeaderValue());
+        if (webRequest.checkNotModified(file.eTag(), file.lastModified())) {
+            return;
+        }
+        fileDownloadWriter.write(webRequest.getRequest(), response, file);
     }
 }
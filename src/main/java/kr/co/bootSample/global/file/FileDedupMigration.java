@@ -0,0 +1,271 @@
+package kr.co.bootSample.global.file;
+
+import kr.co.bootSample.domain.board.Board;
+import kr.co.bootSample.domain.board.BoardDetailCache;
+import kr.co.bootSample.domain.board.BoardFile;
+import kr.co.bootSample.domain.board.BoardFileRepository;
+import kr.co.bootSample.domain.board.BoardRepository;
+import lombok.RequiredArgsConstructor;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Element;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 기존 방식(UUID 파일명)으로 저장된 첨부파일과 에디터 이미지를 내용 주소 기반 저장소로 옮기는 마이그레이션 작업입니다.
+ * 첨부파일은 BoardFile의 저장 경로를, 에디터 이미지는 게시글 본문의 이미지 URL을 새 경로로 변경하며,
+ * 같은 내용의 파일은 하나로 합쳐지고 참조 수만 증가합니다.
+ *
+ * 일정 개수 단위로 별도 트랜잭션에서 처리하며, 저장소에는 하드 링크(지원하지 않으면 복사)로 등록한 뒤
+ * 커밋 이후에 기존 파일을 삭제하므로 중간에 실패해도 다시 실행할 수 있습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class FileDedupMigration {
+
+    private static final Logger log = LoggerFactory.getLogger(FileDedupMigration.class);
+
+    private static final String UPLOAD_URL_PREFIX = "/uploads/";
+
+    @Value("${app.file.upload-dir:./uploads}")
+    private String uploadDir;
+
+    @Value("${app.file.paths.cas:cas}")
+    private String casPath;
+
+    @Value("${app.file.paths.editor:editor}")
+    private String editorPath;
+
+    @Value("${app.file.dedup-migration.chunk-size:200}")
+    private int chunkSize;
+
+    private final BoardFileRepository boardFileRepository;
+    private final BoardRepository boardRepository;
+    private final BoardDetailCache boardDetailCache;
+    private final FileService fileService;
+    private final FileStreamWriter fileStreamWriter;
+    private final FileStorage fileStorage;
+    private final PlatformTransactionManager transactionManager;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    /**
+     * 마이그레이션을 실행하고 결과를 반환합니다.
+     */
+    public FileDedupReport migrate() {
+        if (!running.compareAndSet(false, true)) {
+            throw new RuntimeException("파일 중복 제거 마이그레이션이 이미 실행 중입니다.");
+        }
+        try {
+            long start = System.currentTimeMillis();
+            Progress progress = new Progress();
+            TransactionTemplate tx = new TransactionTemplate(transactionManager);
+
+            migrateBoardFiles(tx, progress);
+            migrateEditorImages(tx, progress);
+            boardDetailCache.invalidateAll();
+
+            FileDedupReport report = new FileDedupReport(progress.migratedFiles, progress.migratedImages,
+                    progress.missingFiles, progress.removedLegacyFiles,
+                    progress.legacyBytes - progress.storedBytes);
+            log.info("파일 중복 제거 마이그레이션 완료: {} ({}ms)", report, System.currentTimeMillis() - start);
+            return report;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 마이그레이션이 실행 중인지 확인합니다.
+     */
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    /**
+     * 첨부파일을 저장소로 옮기고 BoardFile의 저장 경로를 변경합니다.
+     */
+    private void migrateBoardFiles(TransactionTemplate tx, Progress progress) {
+        Long lastId = 0L;
+        while (lastId != null) {
+            Long afterId = lastId;
+            List<Path> legacyFiles = new ArrayList<Path>();
+            lastId = tx.execute(status -> {
+                List<BoardFile> chunk = boardFileRepository.findByFileIdGreaterThanOrderByFileIdAsc(afterId,
+                        PageRequest.of(0, chunkSize));
+                for (BoardFile boardFile : chunk) {
+                    migrateBoardFile(boardFile, legacyFiles, progress);
+                }
+                return chunk.size() < chunkSize ? null : chunk.get(chunk.size() - 1).getFileId();
+            });
+            // 커밋된 이후에만 기존 파일 삭제
+            legacyFiles.forEach(path -> removeLegacy(path, progress));
+        }
+    }
+
+    private void migrateBoardFile(BoardFile boardFile, List<Path> legacyFiles, Progress progress) {
+        if (isStored(boardFile.getStoredName())) {
+            return;
+        }
+        Path legacy = fileStorage.localPath(boardFile.getStoredName());
+        if (legacy == null) {
+            progress.missingFiles++;
+            return;
+        }
+
+        try {
+            String checksum = boardFile.getChecksum() != null
+                    ? boardFile.getChecksum()
+                    : fileStreamWriter.checksum(legacy);
+            FileBlob blob = register(legacy, checksum, true, progress);
+            boardFile.relocate(blob.getStoredName(), fileService.getFullPath(blob.getStoredName()), checksum);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        legacyFiles.add(legacy);
+        progress.migratedFiles++;
+    }
+
+    /**
+     * 게시글 본문의 에디터 이미지를 저장소로 옮기고 이미지 URL을 변경합니다.
+     * 참조 수는 게시글 저장 시와 같이 변경 전후 본문에서 새로 포함된 저장소 이미지마다 1씩 추가되며,
+     * 기존 이미지 파일은 모든 게시글의 변경이 커밋된 이후에 삭제합니다.
+     */
+    private void migrateEditorImages(TransactionTemplate tx, Progress progress) {
+        Map<Path, String> checksums = new HashMap<Path, String>();
+        Set<Path> legacyFiles = new LinkedHashSet<Path>();
+
+        Long lastId = 0L;
+        while (lastId != null) {
+            Long afterId = lastId;
+            lastId = tx.execute(status -> {
+                List<Board> chunk = boardRepository.findByBoardIdGreaterThanOrderByBoardIdAsc(afterId,
+                        PageRequest.of(0, chunkSize));
+                for (Board board : chunk) {
+                    migrateContentImages(board, checksums, legacyFiles, progress);
+                }
+                return chunk.size() < chunkSize ? null : chunk.get(chunk.size() - 1).getBoardId();
+            });
+        }
+
+        legacyFiles.forEach(path -> removeLegacy(path, progress));
+    }
+
+    private void migrateContentImages(Board board, Map<Path, String> checksums, Set<Path> legacyFiles,
+            Progress progress) {
+        String content = board.getContent();
+        if (content == null || content.isEmpty()) {
+            return;
+        }
+
+        Set<String> sources = new LinkedHashSet<String>();
+        for (Element img : Jsoup.parse(content).select("img[src^='" + UPLOAD_URL_PREFIX + editorPath + "/']")) {
+            sources.add(img.attr("src"));
+        }
+
+        String migrated = content;
+        for (String src : sources) {
+            Path legacy = fileStorage.localPath(
+                    src.substring(UPLOAD_URL_PREFIX.length()).replace("/", File.separator));
+            if (legacy == null) {
+                progress.missingFiles++;
+                continue;
+            }
+
+            try {
+                String checksum = checksums.get(legacy);
+                if (checksum == null) {
+                    checksum = fileStreamWriter.checksum(legacy);
+                    checksums.put(legacy, checksum);
+                }
+                FileBlob blob = register(legacy, checksum, false, progress);
+                migrated = migrated.replace(src, UPLOAD_URL_PREFIX + blob.getStoredName().replace(File.separator, "/"));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            legacyFiles.add(legacy);
+            progress.migratedImages++;
+        }
+
+        if (!migrated.equals(content)) {
+            Set<String> added = fileService.contentImages(migrated);
+            added.removeAll(fileService.contentImages(content));
+            fileService.acquireImages(added);
+            board.update(board.getTitle(), migrated);
+        }
+    }
+
+    /**
+     * 기존 파일을 저장소에 등록합니다. acquire이면 참조를 1 증가시키고(첨부파일), 아니면 등록만 합니다.(본문 이미지)
+     * 기존 파일은 커밋 전까지 그대로 두어야 하므로, 하드 링크(또는 복사본)를 만들어 저장소로 옮깁니다.
+     */
+    private FileBlob register(Path legacy, String checksum, boolean acquire, Progress progress) throws IOException {
+        Path storeDir = Paths.get(uploadDir, casPath);
+        Files.createDirectories(storeDir);
+        Path link = storeDir.resolve(UUID.randomUUID() + ".part");
+        try {
+            Files.createLink(link, legacy);
+        } catch (IOException | UnsupportedOperationException e) {
+            Files.copy(legacy, link);
+        }
+
+        try {
+            long size = Files.size(link);
+            String extension = fileService.getExtension(legacy.getFileName().toString());
+            FileBlob blob = acquire
+                    ? fileService.acquireBlob(link, checksum, size, extension)
+                    : fileService.pinBlob(link, checksum, size, extension);
+            if (!Files.exists(link)) {
+                progress.storedBytes += size; // 새로 저장소에 등록된 파일
+            }
+            return blob;
+        } finally {
+            Files.deleteIfExists(link);
+        }
+    }
+
+    private void removeLegacy(Path legacy, Progress progress) {
+        try {
+            long size = Files.size(legacy);
+            if (Files.deleteIfExists(legacy)) {
+                progress.removedLegacyFiles++;
+                progress.legacyBytes += size;
+            }
+        } catch (IOException e) {
+            log.warn("기존 파일 삭제 실패: {}", legacy, e);
+        }
+    }
+
+    private boolean isStored(String storedName) {
+        return storedName.startsWith(casPath + File.separator);
+    }
+
+    private static class Progress {
+        private long migratedFiles;
+        private long migratedImages;
+        private long missingFiles;
+        private long removedLegacyFiles;
+        private long legacyBytes;
+        private long storedBytes;
+    }
+}
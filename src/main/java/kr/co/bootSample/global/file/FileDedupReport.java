@@ -0,0 +1,18 @@
+package kr.co.bootSample.global.file;
+
+/**
+ * 기존 업로드 파일의 중복 제거 마이그레이션 결과입니다.
+ *
+ * @param migratedFiles      내용 주소 기반 저장소로 옮긴 첨부파일 수
+ * @param migratedImages     경로를 변경한 본문 이미지 참조 수
+ * @param missingFiles       물리 파일이 없어 건너뛴 참조 수
+ * @param removedLegacyFiles 삭제한 기존 경로(board/editor) 파일 수
+ * @param reclaimedBytes     중복 제거로 확보한 용량 (bytes)
+ */
+public record FileDedupReport(
+        long migratedFiles,
+        long migratedImages,
+        long missingFiles,
+        long removedLegacyFiles,
+        long reclaimedBytes) {
+}
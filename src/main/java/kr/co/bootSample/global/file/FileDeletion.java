@@ -0,0 +1,71 @@
+package kr.co.bootSample.global.file;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 물리 파일 삭제 대기 정보를 담는 엔티티입니다. (Transactional Outbox)
+ * 파일 참조 해제와 같은 트랜잭션에 기록되므로 커밋된 삭제만 FileDeletionWorker가 처리합니다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@EntityListeners(AuditingEntityListener.class)
+@Table(name = "file_deletion", indexes = @Index(columnList = "next_attempt_at"))
+public class FileDeletion {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long deletionId;
+
+    @Column(nullable = false, length = 500)
+    private String storedName; // 업로드 디렉토리 기준 상대 경로
+
+    @Column(length = 64)
+    private String hash; // 내용 주소 기반 파일의 체크섬 (기존 방식 파일은 null)
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    @CreatedDate
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public FileDeletion(String storedName, String hash) {
+        this.storedName = storedName;
+        this.hash = hash;
+        this.nextAttemptAt = LocalDateTime.now();
+    }
+
+    /**
+     * 삭제 실패를 기록하고 다음 시도 시각을 지정합니다.
+     */
+    public void retryLater(String error, LocalDateTime nextAttemptAt) {
+        this.attempts++;
+        this.lastError = error != null && error.length() > MAX_ERROR_LENGTH
+                ? error.substring(0, MAX_ERROR_LENGTH)
+                : error;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+}
@@ -0,0 +1,39 @@
+package kr.co.bootSample.global.file;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * FileDeletion 엔티티를 위한 Repository 인터페이스입니다.
+ */
+public interface FileDeletionRepository extends JpaRepository<FileDeletion, Long> {
+
+    /**
+     * 처리 시각이 된 삭제 대기 정보를 잠금 없이 조회합니다.
+     * 각 행은 처리할 때 claim으로 다시 잠그므로, 조회 결과는 처리 후보로만 사용합니다.
+     */
+    @Query("SELECT d FROM FileDeletion d WHERE d.nextAttemptAt <= :now AND d.attempts < :maxAttempts"
+            + " ORDER BY d.deletionId")
+    List<FileDeletion> findDue(@Param("now") LocalDateTime now, @Param("maxAttempts") int maxAttempts,
+            Pageable pageable);
+
+    /**
+     * 처리 시각이 된 삭제 대기 정보 하나를 잠금과 함께 조회합니다.
+     * 다른 인스턴스가 처리 중인 행은 건너뛰므로(SKIP LOCKED) 여러 서버에서 동시에 실행해도 중복 처리되지 않으며,
+     * 이미 처리되었거나 재시도가 미뤄졌으면 빈 값을 반환합니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT d FROM FileDeletion d WHERE d.deletionId = :deletionId AND d.nextAttemptAt <= :now")
+    Optional<FileDeletion> claim(@Param("deletionId") Long deletionId, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,163 @@
+package kr.co.bootSample.global.file;
+
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 커밋된 파일 삭제 대기 정보(FileDeletion)를 주기적으로 일괄 처리하는 백그라운드 작업입니다.
+ * 삭제에 실패하면 지수 백오프로 다시 시도하고, 최대 시도 횟수를 넘기면 더 이상 처리하지 않고 남겨 둡니다.
+ *
+ * 삭제 대기 정보마다 짧은 트랜잭션에서 파일 정보 행(없으면 키 구간)을 잠그고 참조 여부를 다시 확인한 뒤,
+ * 원본 파일의 이름만 임시 파일로 바꾸고(detach) 커밋합니다. 실제 삭제와 파생본/압축 사본 삭제는 커밋 이후 잠금 없이 수행하므로
+ * NAS 지연이 같은 내용의 업로드를 오래 막지 않습니다. 커밋 이후 삭제에 실패한 파일은 미사용 파일 정리에서 처리됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class FileDeletionWorker {
+
+    private static final Logger log = LoggerFactory.getLogger(FileDeletionWorker.class);
+
+    @Value("${app.file.deletion.batch-size:100}")
+    private int batchSize;
+
+    @Value("${app.file.deletion.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${app.file.deletion.retry-backoff-ms:5000}")
+    private long retryBackoffMillis;
+
+    private final FileDeletionRepository fileDeletionRepository;
+    private final FileBlobRepository fileBlobRepository;
+    private final FileStorage fileStorage;
+    private final ImageDerivativeService imageDerivativeService;
+    private final FileCompressionService fileCompressionService;
+    private final PlatformTransactionManager transactionManager;
+
+    /**
+     * 처리 시각이 된 삭제 대기 정보를 배치 단위로 모두 처리합니다.
+     */
+    @Scheduled(fixedDelayString = "${app.file.deletion.poll-interval-ms:1000}")
+    public void drain() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        List<FileDeletion> due;
+        int completed;
+        do {
+            due = fileDeletionRepository.findDue(LocalDateTime.now(), maxAttempts, PageRequest.of(0, batchSize));
+            completed = 0;
+            for (FileDeletion deletion : due) {
+                if (process(deletion, tx)) {
+                    completed++;
+                }
+            }
+            if (!due.isEmpty()) {
+                log.debug("파일 삭제 처리: 완료 {}건, 재시도 또는 건너뜀 {}건", completed, due.size() - completed);
+            }
+            // 실패했거나 다른 인스턴스가 처리 중인 행이 있으면 다음 주기에 이어서 처리 (같은 행을 반복 조회하지 않도록)
+        } while (due.size() == batchSize && completed == due.size());
+    }
+
+    /**
+     * 삭제 대기 정보 하나를 처리하고 완료 여부를 반환합니다.
+     */
+    private boolean process(FileDeletion deletion, TransactionTemplate tx) {
+        Detached detached;
+        try {
+            detached = tx.execute(status -> detach(deletion.getDeletionId()));
+        } catch (RuntimeException e) {
+            retryLater(deletion, e, tx);
+            return false;
+        }
+        if (detached == null) {
+            return false; // 다른 인스턴스가 처리 중이거나 이미 처리됨
+        }
+        if (detached.deleted()) {
+            deleteDetached(deletion.getStoredName(), detached.key());
+        }
+        return true;
+    }
+
+    /**
+     * 삭제 대기 정보를 잠그고, 참조 여부를 다시 확인해 삭제할 파일이면 임시 파일로 이름을 바꾼 뒤 삭제 대기 정보를 제거합니다.
+     * (트랜잭션 안) 삭제가 예약된 이후 같은 내용이 다시 등록되었다면 파일을 유지합니다.
+     * 잠금은 이름 변경이 커밋될 때까지만 유지되므로, 같은 내용의 참조 등록은 커밋 이후 파일이 없음을 확인하고 새로 저장합니다.
+     * 삭제 대기 정보를 잠그지 못하면 null을 반환합니다.
+     */
+    private Detached detach(Long deletionId) {
+        FileDeletion deletion = fileDeletionRepository.claim(deletionId, LocalDateTime.now()).orElse(null);
+        if (deletion == null) {
+            return null;
+        }
+        Detached detached = Detached.KEPT;
+        if (deletion.getHash() == null || fileBlobRepository.lockByHash(deletion.getHash()).isEmpty()) {
+            try {
+                detached = new Detached(true, fileStorage.detach(deletion.getStoredName()));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        fileDeletionRepository.delete(deletion);
+        return detached;
+    }
+
+    /**
+     * 커밋 이후 임시 파일과 파생본, 압축 사본을 삭제합니다. 실패하면 미사용 파일 정리에서 처리됩니다.
+     */
+    private void deleteDetached(String storedName, String detachedKey) {
+        try {
+            if (detachedKey != null) {
+                fileStorage.delete(detachedKey);
+            }
+            imageDerivativeService.deleteDerivatives(storedName);
+            fileCompressionService.deleteCompressed(storedName);
+        } catch (IOException | RuntimeException e) {
+            log.warn("파일 삭제 실패, 미사용 파일 정리에서 처리됩니다: {}", storedName, e);
+        }
+    }
+
+    private void retryLater(FileDeletion deletion, RuntimeException cause, TransactionTemplate tx) {
+        Throwable error = cause instanceof UncheckedIOException ? cause.getCause() : cause;
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            tx.executeWithoutResult(status -> fileDeletionRepository.claim(deletion.getDeletionId(), now)
+                    .ifPresent(current -> current.retryLater(error.toString(),
+                            now.plus(Duration.ofMillis(backoffMillis(current.getAttempts()))))));
+        } catch (RuntimeException e) {
+            log.warn("파일 삭제 재시도 정보 저장 실패: {}", deletion.getStoredName(), e);
+            return;
+        }
+        if (deletion.getAttempts() + 1 >= maxAttempts) {
+            log.error("파일 삭제 재시도 횟수 초과, 수동 확인이 필요합니다: {}", deletion.getStoredName(), error);
+        } else {
+            log.warn("파일 삭제 실패, {}번째 재시도 예정: {}", deletion.getAttempts() + 1, deletion.getStoredName());
+        }
+    }
+
+    /**
+     * 재시도 간격을 시도 횟수에 따라 두 배씩 늘립니다. (최대 1시간)
+     */
+    private long backoffMillis(int attempts) {
+        return Math.min(retryBackoffMillis << Math.min(attempts, 20), 3_600_000L);
+    }
+
+    /**
+     * 트랜잭션 안에서 처리한 결과입니다. deleted가 true이면 커밋 이후 파일을 삭제하며,
+     * key는 이름을 바꾼 임시 파일의 키입니다. (원본이 이미 없으면 null)
+     */
+    private record Detached(boolean deleted, String key) {
+
+        private static final Detached KEPT = new Detached(false, null);
+    }
+}
@@ -0,0 +1,204 @@
+package kr.co.bootSample.global.file;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 파일 다운로드 응답 본문을 기록하는 컴포넌트입니다.
+ * Range/If-Range 요청에 대해 206 Partial Content(단일 구간, multipart/byteranges)로 응답하며,
+ * 본문은 JVM 힙을 거치지 않도록 Tomcat sendfile 또는 FileChannel.transferTo로 전송합니다.
+ * 조건부 요청(If-None-Match/If-Modified-Since) 검증은 호출하는 쪽에서 먼저 처리합니다.
+ */
+@Component
+public class FileDownloadWriter {
+
+    // Tomcat NIO 커넥터의 sendfile 요청 속성
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    /**
+     * 요청의 Range 헤더에 따라 파일 전체 또는 일부를 응답합니다.
+     */
+    public void write(HttpServletRequest request, HttpServletResponse response, DownloadFile file)
+            throws IOException {
+        String contentType = StringUtils.hasText(file.contentType())
+                ? file.contentType()
+                : MediaType.APPLICATION_OCTET_STREAM_VALUE;
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename(file.originName() != null ? file.originName() : "file", StandardCharsets.UTF_8)
+                .build()
+                .toString());
+
+        List<long[]> ranges = resolveRanges(request, file);
+        if (ranges == null) {
+            response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + file.length());
+            return;
+        }
+
+        boolean head = "HEAD".equals(request.getMethod());
+        if (ranges.isEmpty()) {
+            response.setStatus(HttpServletResponse.SC_OK);
+            response.setContentType(contentType);
+            response.setContentLengthLong(file.length());
+            if (!head) {
+                sendRegion(request, response, file, 0, file.length());
+            }
+            return;
+        }
+
+        response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+        if (ranges.size() == 1) {
+            long start = ranges.get(0)[0];
+            long end = ranges.get(0)[1];
+            response.setContentType(contentType);
+            response.setContentLengthLong(end - start + 1);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, contentRange(start, end, file.length()));
+            if (!head) {
+                sendRegion(request, response, file, start, end - start + 1);
+            }
+            return;
+        }
+
+        String boundary = MimeTypeUtils.generateMultipartBoundaryString();
+        response.setContentType("multipart/byteranges; boundary=" + boundary);
+        if (head) {
+            return;
+        }
+        ServletOutputStream out = response.getOutputStream();
+        try (FileChannel channel = FileChannel.open(file.path(), StandardOpenOption.READ)) {
+            WritableByteChannel target = Channels.newChannel(out);
+            for (long[] range : ranges) {
+                out.write(("\r\n--" + boundary + "\r\n"
+                        + HttpHeaders.CONTENT_TYPE + ": " + contentType + "\r\n"
+                        + HttpHeaders.CONTENT_RANGE + ": " + contentRange(range[0], range[1], file.length())
+                        + "\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+                transfer(channel, range[0], range[1] - range[0] + 1, target);
+            }
+            out.write(("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.US_ASCII));
+        }
+    }
+
+    /**
+     * 요청할 구간 목록을 반환합니다. (각 항목은 [시작, 끝] 위치, 끝 위치 포함)
+     * Range가 없거나 형식이 잘못되었거나 If-Range 조건이 맞지 않으면 빈 목록(전체 응답)을 반환합니다.
+     * 파일 범위를 벗어난 구간은 제외하고, 겹치거나 이어진 구간은 병합하여 전송량이 파일 크기를 넘지 않도록 합니다.
+     * 만족할 수 있는 구간이 하나도 없을 때만 null(416)을 반환합니다.
+     */
+    private List<long[]> resolveRanges(HttpServletRequest request, DownloadFile file) {
+        List<long[]> result = new ArrayList<long[]>();
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (!StringUtils.hasText(rangeHeader) || !ifRangeMatches(request, file)) {
+            return result;
+        }
+
+        List<HttpRange> ranges;
+        try {
+            ranges = HttpRange.parseRanges(rangeHeader);
+        } catch (IllegalArgumentException e) {
+            // 잘못된 형식의 Range 헤더는 무시하고 전체 응답 (RFC 9110 14.2)
+            return result;
+        }
+        if (ranges.isEmpty()) {
+            return result; // "bytes=" 처럼 구간이 없는 헤더
+        }
+
+        long length = file.length();
+        List<long[]> satisfiable = new ArrayList<long[]>();
+        for (HttpRange range : ranges) {
+            long start = range.getRangeStart(length);
+            long end = range.getRangeEnd(length);
+            if (start < length && start <= end) {
+                satisfiable.add(new long[] { start, end });
+            }
+        }
+        if (satisfiable.isEmpty()) {
+            return null;
+        }
+
+        satisfiable.sort(Comparator.comparingLong(range -> range[0]));
+        for (long[] range : satisfiable) {
+            long[] last = result.isEmpty() ? null : result.get(result.size() - 1);
+            if (last != null && range[0] <= last[1] + 1) {
+                last[1] = Math.max(last[1], range[1]);
+            } else {
+                result.add(range);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * If-Range 조건을 확인합니다. ETag는 강한 비교, 날짜는 초 단위로 비교합니다.
+     */
+    private boolean ifRangeMatches(HttpServletRequest request, DownloadFile file) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (!StringUtils.hasText(ifRange)) {
+            return true;
+        }
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            return ifRange.equals(file.eTag());
+        }
+        try {
+            long since = request.getDateHeader(HttpHeaders.IF_RANGE);
+            return since >= 0 && file.lastModified() / 1000 == since / 1000;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 파일의 한 구간을 응답 본문으로 전송합니다.
+     * sendfile을 지원하는 커넥터에서는 전송을 Tomcat에 위임하여 커널에서 바로 소켓으로 복사되도록 합니다.
+     */
+    private void sendRegion(HttpServletRequest request, HttpServletResponse response, DownloadFile file,
+            long start, long count) throws IOException {
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, file.path().toRealPath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, start + count);
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(file.path(), StandardOpenOption.READ)) {
+            transfer(channel, start, count, Channels.newChannel(response.getOutputStream()));
+        }
+    }
+
+    private void transfer(FileChannel channel, long position, long count, WritableByteChannel target)
+            throws IOException {
+        long remaining = count;
+        while (remaining > 0) {
+            long sent = channel.transferTo(position, remaining, target);
+            if (sent <= 0) {
+                throw new IOException("파일 전송이 중단되었습니다.");
+            }
+            position += sent;
+            remaining -= sent;
+        }
+    }
+
+    private static String contentRange(long start, long end, long length) {
+        return "bytes " + start + "-" + end + "/" + length;
+    }
+}
@@ -0,0 +1,366 @@
+package kr.co.bootSample.global.file;
+
+import kr.co.bootSample.domain.board.Board;
+import kr.co.bootSample.domain.board.BoardFileRepository;
+import kr.co.bootSample.domain.board.BoardRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * 어디에서도 참조하지 않는 업로드 파일을 찾아 삭제하는 Mark-and-Sweep 방식의 정리 작업입니다.
+ * 작성 도중 이탈한 게시글의 에디터 이미지, 롤백된 업로드, 중단된 임시 파일(.part) 등이 대상입니다.
+ *
+ * [Mark] 첨부파일(BoardFile)의 저장 경로와 게시글 본문의 이미지 경로를 참조 수와 함께 수집하고,
+ *        저장소 파일 정보의 참조 수가 실제보다 적으면 보정합니다. (참조 수가 먼저 0이 되어 사용 중인 파일이 삭제되는 것을 방지)
+ * [Walk] 업로드 하위 디렉토리를 병렬로 순회하며 참조되지 않고 유예 기간이 지난 파일을 찾습니다.
+ * [Sweep] 대상 파일을 초당 삭제 수 제한 안에서 삭제합니다. 한 번에 삭제하는 수에도 상한이 있어 나머지는 다음 실행에서 이어집니다.
+ *
+ * 순회와 삭제 모두 초당 처리량을 제한하여 서비스 중인 디스크 I/O와 경쟁하지 않도록 하며,
+ * dry-run으로 실행하면 삭제 없이 대상만 집계합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class FileGarbageCollector {
+
+    private static final Logger log = LoggerFactory.getLogger(FileGarbageCollector.class);
+
+    private static final String PART_SUFFIX = ".part";
+    private static final int SAMPLE_LIMIT = 100;
+
+    @Value("${app.file.paths.cas:cas}")
+    private String casPath;
+
+    @Value("${app.file.paths.derived:derived}")
+    private String derivedPath;
+
+    @Value("${app.file.gc.grace-period:PT24H}")
+    private Duration gracePeriod;
+
+    @Value("${app.file.gc.walkers:2}")
+    private int walkers;
+
+    @Value("${app.file.gc.max-files-per-second:2000}")
+    private int maxFilesPerSecond;
+
+    @Value("${app.file.gc.max-deletes-per-second:50}")
+    private int maxDeletesPerSecond;
+
+    @Value("${app.file.gc.max-deletes-per-run:10000}")
+    private int maxDeletesPerRun;
+
+    @Value("${app.file.gc.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${app.file.gc.dry-run:false}")
+    private boolean scheduledDryRun;
+
+    private final BoardFileRepository boardFileRepository;
+    private final BoardRepository boardRepository;
+    private final FileBlobRepository fileBlobRepository;
+    private final ImageDerivativeService imageDerivativeService;
+    private final FileCompressionService fileCompressionService;
+    private final FileStorage fileStorage;
+    private final FileDedupMigration fileDedupMigration;
+    private final FileService fileService;
+    private final PlatformTransactionManager transactionManager;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    @Scheduled(cron = "${app.file.gc.cron:0 0 5 * * *}")
+    public void scheduledCollect() {
+        collect(scheduledDryRun);
+    }
+
+    /**
+     * 미사용 파일 정리를 실행하고 결과를 반환합니다.
+     */
+    public FileGcReport collect(boolean dryRun) {
+        if (!running.compareAndSet(false, true)) {
+            throw new RuntimeException("미사용 파일 정리가 이미 실행 중입니다.");
+        }
+        try {
+            // 마이그레이션은 하드 링크로 옮긴 파일(수정 시각 유지)을 커밋 전까지 참조하지 않으므로 동시에 실행하지 않음
+            if (fileDedupMigration.isRunning()) {
+                throw new RuntimeException("파일 중복 제거 마이그레이션이 실행 중이어서 정리를 시작할 수 없습니다.");
+            }
+            long start = System.currentTimeMillis();
+            TransactionTemplate tx = new TransactionTemplate(transactionManager);
+
+            // [0] 참조 수 스냅샷 (정리 도중 새 참조가 생긴 파일은 삭제하지 않기 위해 Mark보다 먼저 수집)
+            Map<String, FileBlob> blobsByName = new HashMap<String, FileBlob>();
+            Set<String> blobHashes = new HashSet<String>();
+            for (FileBlob blob : fileBlobRepository.findAll()) {
+                blobsByName.put(blob.getStoredName(), blob);
+                blobHashes.add(blob.getHash());
+            }
+
+            // [1] Mark
+            Map<String, Long> references = mark(tx);
+            Set<String> referenced = references.keySet();
+            long underCounted = repairRefCounts(blobsByName, references, dryRun, tx);
+
+            // [2] Walk
+            Stats stats = new Stats();
+            List<Candidate> candidates = walk(referenced, blobHashes, stats);
+
+            // [3] Sweep
+            List<String> samples = new ArrayList<String>();
+            long orphanBytes = 0;
+            long deletedFiles = 0;
+            long deletedBytes = 0;
+            Throttle deleteThrottle = new Throttle(maxDeletesPerSecond);
+            // 파일 수정 시각과 별개로, 유예 기간 안에 같은 내용이 다시 등록된 파일은 유지
+            LocalDateTime acquiredBefore = LocalDateTime.now().minus(gracePeriod);
+            for (Candidate candidate : candidates) {
+                orphanBytes += candidate.size();
+                if (samples.size() < SAMPLE_LIMIT) {
+                    samples.add(candidate.relativePath());
+                }
+                if (dryRun || deletedFiles >= maxDeletesPerRun) {
+                    continue;
+                }
+                deleteThrottle.acquire();
+                if (sweep(candidate, blobsByName.get(candidate.relativePath()), acquiredBefore, tx)) {
+                    deletedFiles++;
+                    deletedBytes += candidate.size();
+                }
+            }
+
+            FileGcReport report = new FileGcReport(dryRun, referenced.size(), underCounted, stats.scanned.get(),
+                    stats.skippedRecent.get(), candidates.size(), orphanBytes, deletedFiles, deletedBytes, samples);
+            log.info("미사용 파일 정리 완료 (dryRun={}): 검사 {}건, 대상 {}건, 삭제 {}건 ({} bytes) ({}ms)", dryRun,
+                    report.scannedFiles(), report.orphanFiles(), deletedFiles, deletedBytes,
+                    System.currentTimeMillis() - start);
+            return report;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 첨부파일 저장 경로와 게시글 본문의 이미지 경로별 참조 수를 수집합니다. (게시글은 ID 순으로 나누어 조회)
+     * 참조 수는 첨부파일 1건당 1, 본문 이미지는 게시글당 이미지별 1로 게시글 저장 시의 계산 방식과 같습니다.
+     */
+    private Map<String, Long> mark(TransactionTemplate tx) {
+        Map<String, Long> referenced = new HashMap<String, Long>();
+        for (Object[] row : tx.execute(status -> boardFileRepository.countByStoredName())) {
+            referenced.merge((String) row[0], (Long) row[1], Long::sum);
+        }
+
+        Long lastId = 0L;
+        while (lastId != null) {
+            Long afterId = lastId;
+            lastId = tx.execute(status -> {
+                List<Board> chunk = boardRepository.findByBoardIdGreaterThanOrderByBoardIdAsc(afterId,
+                        PageRequest.of(0, chunkSize));
+                for (Board board : chunk) {
+                    fileService.contentImages(board.getContent())
+                            .forEach(storedName -> referenced.merge(storedName, 1L, Long::sum));
+                }
+                return chunk.size() < chunkSize ? null : chunk.get(chunk.size() - 1).getBoardId();
+            });
+        }
+        return referenced;
+    }
+
+    /**
+     * 스냅샷의 참조 수가 실제 참조보다 적은 파일 정보를 보정하고 그 수를 반환합니다. (dry-run이면 집계만)
+     * 스냅샷 이후 참조 수가 바뀐 파일은 다음 실행에서 다시 확인하며, 실제보다 많은 참조 수는 삭제를 늦출 뿐이므로 그대로 둡니다.
+     */
+    private long repairRefCounts(Map<String, FileBlob> blobsByName, Map<String, Long> references, boolean dryRun,
+            TransactionTemplate tx) {
+        long underCounted = 0;
+        for (Map.Entry<String, Long> reference : references.entrySet()) {
+            FileBlob blob = blobsByName.get(reference.getKey());
+            if (blob == null || blob.getRefCount() >= reference.getValue()) {
+                continue;
+            }
+            underCounted++;
+            log.warn("참조 수 보정: {} ({} -> {})", blob.getStoredName(), blob.getRefCount(), reference.getValue());
+            if (!dryRun) {
+                tx.execute(status -> fileBlobRepository.updateRefCount(blob.getHash(), blob.getRefCount(),
+                        reference.getValue()));
+            }
+        }
+        return underCounted;
+    }
+
+    /**
+     * 저장소의 최상위 디렉토리를 병렬로 순회하며 삭제 대상을 찾습니다.
+     */
+    private List<Candidate> walk(Set<String> referenced, Set<String> blobHashes, Stats stats) {
+        List<String> directories;
+        try (Stream<String> names = fileStorage.directories()) {
+            directories = names.toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (directories.isEmpty()) {
+            return new ArrayList<Candidate>();
+        }
+
+        long threshold = System.currentTimeMillis() - gracePeriod.toMillis();
+        Throttle scanThrottle = new Throttle(maxFilesPerSecond);
+        Queue<Candidate> candidates = new ConcurrentLinkedQueue<Candidate>();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(walkers, directories.size())));
+        try {
+            List<Future<?>> futures = new ArrayList<Future<?>>();
+            for (String directory : directories) {
+                futures.add(executor.submit(() -> {
+                    walkDirectory(directory, referenced, blobHashes, threshold, scanThrottle, candidates, stats);
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("미사용 파일 정리가 중단되었습니다.");
+        } catch (ExecutionException e) {
+            throw new RuntimeException("업로드 디렉토리 순회 실패: " + e.getCause().getMessage(), e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        return new ArrayList<Candidate>(candidates);
+    }
+
+    private void walkDirectory(String directory, Set<String> referenced, Set<String> blobHashes, long threshold,
+            Throttle throttle, Queue<Candidate> candidates, Stats stats) throws IOException {
+        boolean derived = directory.equals(derivedPath);
+        try (Stream<StorageEntry> entries = fileStorage.list(directory)) {
+            for (StorageEntry entry : (Iterable<StorageEntry>) entries::iterator) {
+                throttle.acquire();
+                stats.scanned.incrementAndGet();
+
+                if (!isOrphan(entry.key(), derived, referenced, blobHashes)) {
+                    continue;
+                }
+                if (entry.lastModified() > threshold) {
+                    stats.skippedRecent.incrementAndGet(); // 아직 게시글에 저장되지 않았을 수 있는 최근 파일
+                    continue;
+                }
+                candidates.add(new Candidate(entry.key(), entry.size()));
+            }
+        }
+    }
+
+    /**
+     * 미참조 여부를 판단합니다.
+     * 임시 파일은 항상, 이미지 파생본은 원본 파일 정보가 없을 때, 압축 사본(.gz)은 원본을 참조하지 않을 때,
+     * 그 외 파일은 어디에서도 참조하지 않을 때 대상입니다.
+     */
+    private boolean isOrphan(String key, boolean derived, Set<String> referenced, Set<String> blobHashes) {
+        String fileName = key.substring(key.lastIndexOf(File.separator) + 1);
+        if (fileName.endsWith(PART_SUFFIX)) {
+            return true;
+        }
+        if (derived) {
+            int suffix = fileName.lastIndexOf("-w");
+            return suffix == -1 || !blobHashes.contains(fileName.substring(0, suffix));
+        }
+        String original = fileCompressionService.originalOf(key);
+        return !referenced.contains(original != null ? original : key);
+    }
+
+    /**
+     * 대상 파일을 삭제합니다. 내용 주소 기반 파일은 스냅샷 이후 참조 수가 바뀌지 않은 경우에만 파일 정보와 함께 삭제합니다.
+     * 파일 정보 행의 잠금을 쥔 채로 파일을 지우므로, 같은 내용의 업로드는 삭제가 끝난 뒤 새 파일로 저장됩니다.
+     * 유예 기간 안에 참조가 등록된 파일(작성 중인 게시글에 다시 붙여 넣은 이미지 등)은 수정 시각이 오래되었어도 유지합니다.
+     */
+    private boolean sweep(Candidate candidate, FileBlob blob, LocalDateTime acquiredBefore, TransactionTemplate tx) {
+        if (blob == null) {
+            return deleteFile(candidate);
+        }
+        Boolean deleted = tx.execute(status -> {
+            if (fileBlobRepository.deleteIfRefCount(blob.getHash(), blob.getRefCount(), acquiredBefore) == 0) {
+                log.debug("정리 도중 또는 유예 기간 안에 참조가 등록되어 유지합니다: {}", candidate.relativePath());
+                return false;
+            }
+            return deleteFile(candidate);
+        });
+        return Boolean.TRUE.equals(deleted);
+    }
+
+    private boolean deleteFile(Candidate candidate) {
+        try {
+            boolean deleted = fileStorage.delete(candidate.relativePath());
+            if (candidate.relativePath().startsWith(casPath + File.separator)) {
+                imageDerivativeService.deleteDerivatives(candidate.relativePath());
+                fileCompressionService.deleteCompressed(candidate.relativePath());
+            }
+            return deleted;
+        } catch (IOException e) {
+            log.warn("미사용 파일 삭제 실패: {}", candidate.relativePath(), e);
+            return false;
+        }
+    }
+
+    private record Candidate(String relativePath, long size) {
+    }
+
+    private static class Stats {
+        private final AtomicLong scanned = new AtomicLong();
+        private final AtomicLong skippedRecent = new AtomicLong();
+    }
+
+    /**
+     * 초당 처리 수를 제한하는 단순한 속도 제한기입니다. (여러 스레드가 공유)
+     */
+    private static class Throttle {
+
+        private final long intervalNanos;
+        private long next = System.nanoTime();
+
+        private Throttle(int permitsPerSecond) {
+            this.intervalNanos = TimeUnit.SECONDS.toNanos(1) / Math.max(1, permitsPerSecond);
+        }
+
+        private void acquire() {
+            long waitNanos;
+            synchronized (this) {
+                long now = System.nanoTime();
+                long slot = Math.max(next, now);
+                next = slot + intervalNanos;
+                waitNanos = slot - now;
+            }
+            if (waitNanos > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(waitNanos);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeException("미사용 파일 정리가 중단되었습니다.");
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package kr.co.bootSample.global.file;
+
+import java.util.List;
+
+/**
+ * 미사용 업로드 파일 정리(GC) 결과입니다.
+ *
+ * @param dryRun            true이면 삭제하지 않고 대상만 집계
+ * @param referencedPaths   첨부파일과 게시글 본문에서 참조 중인 경로 수
+ * @param underCountedBlobs 참조 수가 실제보다 적어 보정한 저장소 파일 수 (dry-run이면 보정 대상 수)
+ * @param scannedFiles      검사한 파일 수
+ * @param skippedRecent     유예 기간 안에 생성되어 건너뛴 미참조 파일 수
+ * @param orphanFiles       삭제 대상 미참조 파일 수
+ * @param orphanBytes       삭제 대상 파일의 전체 크기
+ * @param deletedFiles      실제로 삭제한 파일 수
+ * @param deletedBytes      실제로 삭제한 파일의 전체 크기
+ * @param samples           삭제 대상 경로 일부 (최대 100건)
+ */
+public record FileGcReport(
+        boolean dryRun,
+        long referencedPaths,
+        long underCountedBlobs,
+        long scannedFiles,
+        long skippedRecent,
+        long orphanFiles,
+        long orphanBytes,
+        long deletedFiles,
+        long deletedBytes,
+        List<String> samples) {
+}
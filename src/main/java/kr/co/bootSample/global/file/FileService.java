@@ -3,20 +3,40 @@ package kr.co.bootSample.global.file;
 import kr.co.bootSample.domain.board.Board;
 import kr.co.bootSample.domain.board.BoardFile;
 import kr.co.bootSample.domain.board.BoardFileRepository;
+import kr.co.bootSample.domain.board.BoardRepository;
+import kr.co.bootSample.global.common.TransactionUtils;
 import lombok.RequiredArgsConstructor;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Element;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.multipart.MultipartFile;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
-import java.util.UUID;
+import java.util.Optional;
+import java.util.Set;
 
 /**
  * 파일 업로드 및 유틸리티 기능을 제공하는 서비스입니다.
@@ -27,113 +47,354 @@ public class FileService {
 
     private static final Logger log = LoggerFactory.getLogger(FileService.class);
 
+    // FileBlobRepository.acquire와 같은 구문 (여러 파일을 한 번에 등록하기 위해 JDBC 배치로 실행)
+    private static final String ACQUIRE_BLOB_SQL = "INSERT INTO file_blob"
+            + " (hash, stored_name, file_size, ref_count, created_at, acquired_at) VALUES (?, ?, ?, 1, NOW(), NOW(6))"
+            + " ON DUPLICATE KEY UPDATE ref_count = ref_count + 1, acquired_at = NOW(6)";
+
+    private static final String UPLOAD_URL_PREFIX = "/uploads/";
+
+    // BoardFile은 IDENTITY 전략이라 Hibernate 배치 INSERT가 불가능하므로 JDBC 배치로 직접 저장
+    private static final String INSERT_BOARD_FILE_SQL = "INSERT INTO board_file"
+            + " (board_id, origin_name, stored_name, file_path, file_size, file_type, checksum, created_at)"
+            + " VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
     @Value("${app.file.upload-dir:./uploads}")
     private String uploadDir;
 
     @Value("${app.file.paths.board:board}")
     private String boardPath;
 
-    @Value("${app.file.paths.editor:editor}")
-    private String editorPath;
+    @Value("${app.file.paths.cas:cas}")
+    private String casPath;
+
+    // 업로드 직후의 임시 보호 기간 (미사용 파일 정리의 유예 기간과 같음)
+    @Value("${app.file.gc.grace-period:PT24H}")
+    private Duration gracePeriod;
 
     private final BoardFileRepository boardFileRepository;
+    private final BoardRepository boardRepository;
+    private final FileBlobRepository fileBlobRepository;
+    private final ImageDerivativeService imageDerivativeService;
+    private final FileCompressionService fileCompressionService;
+    private final FileDeletionRepository fileDeletionRepository;
+    private final FileStorage fileStorage;
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
 
     /**
-     * 여러 파일을 업로드하고 정보를 저장합니다. (게시판용)
+     * 기록을 마친 파일들을 게시글에 첨부합니다. (게시판용)
+     * 참조 등록과 첨부파일 정보는 각각 하나의 JDBC 배치로 저장하며,
+     * 트랜잭션이 롤백되면 이번 요청에서 저장소에 새로 등록한 파일을 삭제합니다.
+     * 반환되는 BoardFile은 JDBC로 직접 저장되므로 식별자가 포함되지 않습니다.
      */
     @Transactional
-    public List<BoardFile> uploadFiles(List<MultipartFile> files, Board board) throws IOException {
+    public List<BoardFile> uploadFiles(StagedUploads staged, Board board) {
         List<BoardFile> boardFiles = new ArrayList<BoardFile>();
-        if (files == null || files.isEmpty())
+        if (staged == null || staged.isEmpty())
             return boardFiles;
 
-        for (MultipartFile file : files) {
-            if (!file.isEmpty()) {
-                boardFiles.add(uploadFile(file, board));
-            }
+        List<StagedUpload> uploads = staged.list();
+        log.debug("파일 {}건 첨부 시작, 게시글 ID: {}", uploads.size(), board.getBoardId());
+
+        // [1] 저장소 참조 일괄 등록 후 새 파일만 최종 경로로 이동
+        List<FileBlob> blobs = acquireBlobs(uploads);
+
+        // [2] 첨부파일 정보 일괄 저장
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < uploads.size(); i++) {
+            FileBlob blob = blobs.get(i);
+            boardFiles.add(BoardFile.builder()
+                    .board(board)
+                    .originName(uploads.get(i).originName())
+                    .storedName(blob.getStoredName())
+                    .filePath(getFullPath(blob.getStoredName()))
+                    .fileSize(blob.getFileSize())
+                    .fileType(uploads.get(i).contentType())
+                    .checksum(blob.getHash())
+                    .build());
+        }
+        List<Object[]> batchArgs = new ArrayList<Object[]>(boardFiles.size());
+        for (BoardFile boardFile : boardFiles) {
+            batchArgs.add(new Object[] { board.getBoardId(), boardFile.getOriginName(), boardFile.getStoredName(),
+                    boardFile.getFilePath(), boardFile.getFileSize(), boardFile.getFileType(),
+                    boardFile.getChecksum(), now });
         }
+        jdbcTemplate.batchUpdate(INSERT_BOARD_FILE_SQL, batchArgs);
+        boardRepository.addFileCount(board.getBoardId(), boardFiles.size());
         return boardFiles;
     }
 
     /**
-     * 단일 파일을 업로드하고 정보를 저장합니다. (게시판용)
+     * 임시 파일들의 저장소 참조를 하나의 JDBC 배치로 등록하고, 처음 등록되는 내용만 최종 경로로 옮깁니다.
+     * 트랜잭션이 롤백되면 이번에 옮긴 파일을 삭제 대기 정보로 등록하여, 다른 참조가 생기지 않은 경우에만 삭제되도록 합니다.
      */
-    @Transactional
-    public BoardFile uploadFile(MultipartFile file, Board board) throws IOException {
-        log.debug("파일 업로드 시작: {}, 게시글 ID: {}", file.getOriginalFilename(), board.getBoardId());
-        String originName = file.getOriginalFilename();
-        String storedName = generateStoredName(originName);
-        // 게시판 전용 경로 사용 (boardPath)
-        String subDirName = boardPath;
-        String relativeStoredName = subDirName + File.separator + storedName;
-        String fullPath = getFullPath(relativeStoredName);
-
-        // 디렉토리 생성
-        File dir = new File(uploadDir + File.separator + subDirName);
-        if (!dir.exists()) {
-            dir.mkdirs();
+    private List<FileBlob> acquireBlobs(List<StagedUpload> uploads) {
+        List<StoredFile> temps = uploads.stream().map(StagedUpload::temp).toList();
+        List<Object[]> batchArgs = new ArrayList<Object[]>(temps.size());
+        for (int i = 0; i < temps.size(); i++) {
+            StoredFile temp = temps.get(i);
+            String storedName = casPath + File.separator + temp.checksum() + "."
+                    + getExtension(uploads.get(i).originName());
+            batchArgs.add(new Object[] { temp.checksum(), storedName, temp.size() });
+        }
+        jdbcTemplate.batchUpdate(ACQUIRE_BLOB_SQL, batchArgs);
+
+        Map<String, FileBlob> blobsByHash = new HashMap<String, FileBlob>();
+        fileBlobRepository.findAllById(temps.stream().map(StoredFile::checksum).distinct().toList())
+                .forEach(blob -> blobsByHash.put(blob.getHash(), blob));
+
+        List<FileBlob> blobs = new ArrayList<FileBlob>();
+        List<FileBlob> moved = new ArrayList<FileBlob>();
+        TransactionUtils.afterRollback(() -> scheduleRollbackCleanup(moved));
+        for (StoredFile temp : temps) {
+            FileBlob blob = Objects.requireNonNull(blobsByHash.get(temp.checksum()));
+            if (!fileStorage.exists(blob.getStoredName())) {
+                try {
+                    fileStorage.put(temp.path(), blob.getStoredName());
+                } catch (IOException e) {
+                    // 참조 등록이 커밋되지 않도록 언체크 예외로 전환하여 롤백
+                    throw new UncheckedIOException(e);
+                }
+                moved.add(blob);
+            }
+            blobs.add(blob);
         }
+        return blobs;
+    }
 
-        // 파일 저장
-        file.transferTo(new File(fullPath));
+    /**
+     * 참조 등록이 롤백된 파일을 별도 트랜잭션에서 삭제 대기 정보(FileDeletion)로 등록합니다.
+     * FileDeletionWorker가 저장소 행을 잠근 채 참조가 없을 때만 삭제하므로, 같은 내용의 동시 등록과 경합하지 않습니다.
+     * 등록에 실패한 파일은 미사용 파일 정리 작업(FileGarbageCollector)에서 처리됩니다.
+     */
+    private void scheduleRollbackCleanup(List<FileBlob> moved) {
+        if (moved.isEmpty()) {
+            return;
+        }
+        try {
+            // 롤백 완료 콜백 안에서는 기존 트랜잭션 자원이 남아 있으므로 새 트랜잭션으로 실행
+            TransactionTemplate tx = new TransactionTemplate(transactionManager);
+            tx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+            tx.executeWithoutResult(status -> moved.forEach(blob ->
+                    fileDeletionRepository.save(new FileDeletion(blob.getStoredName(), blob.getHash()))));
+            log.info("롤백된 업로드 파일 삭제 예약: {}건", moved.size());
+        } catch (RuntimeException e) {
+            log.warn("롤백된 업로드 파일 삭제 예약 실패: {}건", moved.size(), e);
+        }
+    }
+
+    /**
+     * 기록을 마친 단일 파일을 게시글에 첨부합니다. (게시판용)
+     * 같은 내용의 파일이 이미 저장되어 있으면 새로 등록하지 않고 기존 파일의 참조만 추가합니다.
+     */
+    @Transactional
+    public BoardFile uploadFile(StagedUpload upload, Board board) throws IOException {
+        log.debug("파일 업로드 시작: {}, 게시글 ID: {}", upload.originName(), board.getBoardId());
+        String originName = upload.originName();
+        StoredFile temp = upload.temp();
+        FileBlob blob = acquireBlob(temp.path(), temp.checksum(), temp.size(), getExtension(originName));
 
         BoardFile boardFile = BoardFile.builder()
                 .board(board)
                 .originName(originName)
-                .storedName(relativeStoredName) // DB에는 상대 경로(경로+파일명) 저장
-                .filePath(fullPath)
-                .fileSize(file.getSize())
-                .fileType(file.getContentType())
+                .storedName(blob.getStoredName()) // DB에는 상대 경로(경로+파일명) 저장
+                .filePath(getFullPath(blob.getStoredName()))
+                .fileSize(blob.getFileSize())
+                .fileType(upload.contentType())
+                .checksum(blob.getHash())
                 .build();
 
-        return Objects.requireNonNull(boardFileRepository.save(Objects.requireNonNull(boardFile)));
+        BoardFile savedFile = Objects.requireNonNull(boardFileRepository.save(Objects.requireNonNull(boardFile)));
+        boardRepository.addFileCount(board.getBoardId(), 1);
+        return savedFile;
     }
 
     /**
-     * 단일 파일을 저장하고 저장된 상대 경로명을 반환합니다. (이미지 핸들러용)
+     * 기록을 마친 단일 파일을 저장소에 등록하고 저장된 상대 경로명을 반환합니다. (이미지 핸들러용)
+     * 같은 이미지를 여러 게시글에 붙여 넣어도 물리 파일은 하나만 저장되며,
+     * 축소된 파생본과 압축 사본(SVG 등)은 커밋 이후 백그라운드에서 생성됩니다.
+     * 참조는 업로드가 아니라 게시글 저장 시 본문 기준으로 등록되며(acquireImages), 업로드는 유예 기간 동안의 임시 보호만 합니다.
      */
-    public String storeEditorFile(MultipartFile file) throws IOException {
-        log.debug("에디터 이미지 저장 시작: {}", file.getOriginalFilename());
-        String originName = file.getOriginalFilename();
-        String storedName = generateStoredName(originName);
-        // 에디터 전용 경로 사용 (editorPath)
-        String subDirName = editorPath;
-        String relativeStoredName = subDirName + File.separator + storedName;
-        String fullPath = getFullPath(relativeStoredName);
+    @Transactional
+    public String storeEditorFile(StagedUpload upload) throws IOException {
+        log.debug("에디터 이미지 저장 시작: {}", upload.originName());
+        StoredFile temp = upload.temp();
+        String storedName = pinBlob(temp.path(), temp.checksum(), temp.size(), getExtension(upload.originName()))
+                .getStoredName();
+        imageDerivativeService.requestDerivatives(storedName);
+        fileCompressionService.requestCompression(storedName);
+        return storedName;
+    }
 
-        File dir = new File(uploadDir + File.separator + subDirName);
-        if (!dir.exists())
-            dir.mkdirs();
+    /**
+     * 체크섬에 해당하는 저장소 파일의 참조를 1 증가시킵니다.
+     * 처음 등록되는 내용이면 source 파일을 저장소 경로로 옮기고, 이미 있으면 source는 그대로 둡니다.
+     */
+    public FileBlob acquireBlob(Path source, String checksum, long size, String extension) throws IOException {
+        return storeBlob(source, checksum, size, extension, true);
+    }
 
-        file.transferTo(new File(fullPath));
-        return relativeStoredName;
+    /**
+     * 체크섬에 해당하는 저장소 파일을 참조 수 변경 없이 등록합니다. (에디터 이미지 업로드, 임시 보호)
+     * 처음 등록되는 내용이면 source 파일을 저장소 경로로 옮기고, 이미 있으면 source는 그대로 둡니다.
+     */
+    public FileBlob pinBlob(Path source, String checksum, long size, String extension) throws IOException {
+        return storeBlob(source, checksum, size, extension, false);
+    }
+
+    private FileBlob storeBlob(Path source, String checksum, long size, String extension, boolean acquire)
+            throws IOException {
+        String storedName = casPath + File.separator + checksum + "." + extension;
+        if (acquire) {
+            fileBlobRepository.acquire(checksum, storedName, size);
+        } else {
+            fileBlobRepository.pin(checksum, storedName, size);
+        }
+        FileBlob blob = fileBlobRepository.findById(checksum)
+                .orElseThrow(() -> new IllegalStateException("파일 정보를 찾을 수 없습니다: " + checksum));
+
+        if (!fileStorage.exists(blob.getStoredName())) {
+            fileStorage.put(source, blob.getStoredName());
+        }
+        return blob;
     }
 
     /**
-     * 파일 삭제
+     * 파일 참조를 해제합니다.
+     * 내용 주소 기반 파일은 마지막 참조가 사라질 때만, 기존 방식(UUID)으로 저장된 파일은 바로 삭제 대상이 됩니다.
+     * 물리 파일은 같은 트랜잭션에 삭제 대기 정보(FileDeletion)로만 기록되고, 커밋 이후 FileDeletionWorker가 삭제합니다.
+     * 따라서 롤백되면 삭제도 함께 취소되며, 요청 스레드는 파일 I/O를 기다리지 않습니다.
      */
+    @Transactional
     public void deleteFile(String relativeStoredName) {
-        log.info("물리 파일 삭제 시도: {}", relativeStoredName);
-        File file = new File(getFullPath(relativeStoredName));
-        if (file.exists()) {
-            file.delete();
+        Optional<FileBlob> blob = fileBlobRepository.findByStoredName(relativeStoredName);
+        if (blob.isPresent()) {
+            releaseBlob(blob.get());
+            return;
         }
+
+        fileDeletionRepository.save(new FileDeletion(relativeStoredName, null));
+        log.info("물리 파일 삭제 예약: {}", relativeStoredName);
     }
 
-    private String generateStoredName(String originName) {
-        String ext = getExtension(originName);
-        return UUID.randomUUID().toString() + "." + ext;
+    /**
+     * HTML 본문에서 서버에 저장된 이미지(/uploads/cas/..., 기존 /uploads/editor/...)의 저장 경로를 추출합니다.
+     * 같은 파일의 원본 URL과 파생본 URL(?w=)이 함께 있어도 하나로 취급하도록 저장 경로(cas/sha256.ext)로 정규화합니다.
+     */
+    public Set<String> contentImages(String content) {
+        Set<String> images = new LinkedHashSet<String>();
+        if (content == null || content.isEmpty()) {
+            return images;
+        }
+        for (Element img : Jsoup.parse(content).select("img[src^='" + UPLOAD_URL_PREFIX + "']")) {
+            String src = img.attr("src");
+            int query = src.indexOf('?');
+            images.add((query == -1 ? src : src.substring(0, query))
+                    .substring(UPLOAD_URL_PREFIX.length())
+                    .replace("/", File.separator));
+        }
+        return images;
+    }
+
+    /**
+     * 게시글 본문에 새로 포함된 이미지의 참조를 1씩 등록합니다. (게시글당 이미지별 1개)
+     * 기존 방식(editor/)으로 저장된 이미지는 참조 수를 관리하지 않으며 미사용 파일 정리에서 처리됩니다.
+     */
+    @Transactional
+    public void acquireImages(Collection<String> storedNames) {
+        for (String storedName : storedNames) {
+            if (fileBlobRepository.acquireByStoredName(storedName) == 0) {
+                log.debug("참조 수를 관리하지 않는 이미지입니다: {}", storedName);
+            }
+        }
+    }
+
+    /**
+     * 게시글 본문에서 빠진 이미지의 참조를 해제합니다. 다른 게시글이 같은 이미지를 참조하고 있으면 파일은 유지됩니다.
+     * 기존 방식(editor/)으로 저장된 이미지는 다른 게시글에 붙여 넣었을 수 있으므로 바로 삭제하지 않고 미사용 파일 정리에 맡깁니다.
+     */
+    @Transactional
+    public void releaseImages(Collection<String> storedNames) {
+        for (String storedName : storedNames) {
+            fileBlobRepository.findByStoredName(storedName).ifPresent(this::releaseBlob);
+        }
+    }
+
+    /**
+     * 저장소 파일의 참조를 1 감소시키고, 마지막 참조이며 임시 보호 기간이 지났으면 삭제를 예약합니다.
+     */
+    private void releaseBlob(FileBlob blob) {
+        fileBlobRepository.release(blob.getHash());
+        if (fileBlobRepository.deleteIfUnreferenced(blob.getHash(), LocalDateTime.now().minus(gracePeriod)) == 0) {
+            log.debug("다른 참조가 남아 있거나 최근 업로드되어 파일을 유지합니다: {}", blob.getStoredName());
+            return;
+        }
+        fileDeletionRepository.save(new FileDeletion(blob.getStoredName(), blob.getHash()));
+        log.info("물리 파일 삭제 예약: {}", blob.getStoredName());
+    }
+
+    /**
+     * 첨부파일 ID로 다운로드 응답에 필요한 정보를 조회합니다.
+     */
+    @Transactional(readOnly = true)
+    public DownloadFile getDownloadFile(Long fileId) {
+        BoardFile boardFile = boardFileRepository.findById(Objects.requireNonNull(fileId))
+                .orElseThrow(() -> new RuntimeException("파일을 찾을 수 없습니다."));
+        return toDownloadFile(boardFile, boardFile.getOriginName());
     }
 
-    private String getExtension(String fileName) {
+    /**
+     * 저장된 파일명(상대 경로)으로 다운로드 응답에 필요한 정보를 조회합니다.
+     */
+    @Transactional(readOnly = true)
+    public DownloadFile getDownloadFile(String storedName, String originName) {
+        // 경로 변수에는 하위 디렉토리가 빠진 파일명만 전달될 수 있으므로 게시판 경로로 한 번 더 조회
+        BoardFile boardFile = boardFileRepository.findFirstByStoredName(storedName)
+                .or(() -> boardFileRepository.findFirstByStoredName(boardPath + File.separator + storedName))
+                .orElseThrow(() -> new RuntimeException("파일을 찾을 수 없습니다."));
+        return toDownloadFile(boardFile, originName != null ? originName : boardFile.getOriginName());
+    }
+
+    /**
+     * 첨부파일은 저장 후 변경되지 않으므로 체크섬(없으면 ID/크기/등록 시각)으로 ETag를,
+     * 등록 시각으로 Last-Modified를 설정합니다.
+     */
+    private DownloadFile toDownloadFile(BoardFile boardFile, String originName) {
+        Path path = fileStorage.localPath(boardFile.getStoredName());
+        long length;
+        try {
+            if (path == null) {
+                throw new NoSuchFileException(boardFile.getStoredName());
+            }
+            length = Files.size(path); // Content-Length는 실제 파일 기준
+        } catch (IOException e) {
+            throw new RuntimeException("파일을 찾을 수 없습니다.");
+        }
+        long lastModified = boardFile.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        String eTag = boardFile.getChecksum() != null
+                ? "\"" + boardFile.getChecksum() + "\""
+                : "\"f" + boardFile.getFileId() + "-" + boardFile.getFileSize() + "-" + lastModified + "\"";
+        return new DownloadFile(path, length, boardFile.getFileType(), originName, eTag, lastModified);
+    }
+
+    /**
+     * 파일명에서 확장자를 추출합니다. 저장 경로에 사용되므로 영문/숫자로만 이루어진 확장자만 허용합니다.
+     */
+    public String getExtension(String fileName) {
         if (fileName == null)
             return "bin";
         int pos = fileName.lastIndexOf(".");
         if (pos == -1)
             return "bin";
-        return fileName.substring(pos + 1);
+        String ext = fileName.substring(pos + 1).toLowerCase(Locale.ROOT);
+        return ext.matches("[a-z0-9]{1,10}") ? ext : "bin";
     }
 
+    /**
+     * 첨부파일 정보(BoardFile.filePath)에 기록할 경로를 반환합니다.
+     * 실제 파일 위치는 저장소(FileStorage)가 키로 결정하므로 파일 접근에는 사용하지 않습니다.
+     */
     public String getFullPath(String relativeStoredName) {
         // relativeStoredName에 이미 subDir가 포함되어 있음 (예: board/uuid.ext)
         return uploadDir + File.separator + relativeStoredName;
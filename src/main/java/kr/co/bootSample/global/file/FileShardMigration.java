@@ -0,0 +1,113 @@
+package kr.co.bootSample.global.file;
+
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+/**
+ * 분산 이전(평면 디렉토리)에 저장된 업로드 파일을 분산 경로로 옮기는 마이그레이션입니다.
+ * LocalFileStorage가 두 경로를 모두 확인하므로 서비스 중에도 점진적으로 실행할 수 있으며,
+ * 키(DB에 저장된 상대 경로)는 바뀌지 않으므로 DB 변경은 없습니다.
+ *
+ * 애플리케이션 시작 후 백그라운드 스레드에서 자동으로 실행되며, 관리자 API로 다시 실행할 수 있습니다.
+ * 초당 이동 수를 제한하여 서비스 중인 디스크 I/O와 경쟁하지 않도록 합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class FileShardMigration {
+
+    private static final Logger log = LoggerFactory.getLogger(FileShardMigration.class);
+
+    @Value("${app.file.shard-migration.on-startup:true}")
+    private boolean onStartup;
+
+    @Value("${app.file.shard-migration.files-per-second:500}")
+    private int filesPerSecond;
+
+    private final LocalFileStorage localFileStorage;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    /**
+     * 애플리케이션 시작 후 백그라운드에서 마이그레이션을 실행합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void startInBackground() {
+        if (!onStartup) {
+            return;
+        }
+        Thread thread = new Thread(() -> {
+            try {
+                migrate();
+            } catch (RuntimeException e) {
+                log.error("업로드 파일 분산 마이그레이션 실패", e);
+            }
+        }, "file-shard-migration");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * 마이그레이션을 실행하고 결과를 반환합니다.
+     */
+    public FileShardReport migrate() {
+        if (!running.compareAndSet(false, true)) {
+            throw new RuntimeException("업로드 파일 분산 마이그레이션이 이미 실행 중입니다.");
+        }
+        try {
+            long start = System.currentTimeMillis();
+            long intervalNanos = TimeUnit.SECONDS.toNanos(1) / Math.max(1, filesPerSecond);
+            long moved = 0;
+            long duplicates = 0;
+            long failed = 0;
+
+            List<String> directories;
+            try (Stream<String> names = localFileStorage.directories()) {
+                directories = names.toList();
+            }
+            for (String directory : directories) {
+                List<String> keys;
+                try (Stream<String> legacyKeys = localFileStorage.listLegacyKeys(directory)) {
+                    keys = legacyKeys.toList();
+                }
+                for (String key : keys) {
+                    try {
+                        if (localFileStorage.relocateLegacy(key)) {
+                            moved++;
+                        } else {
+                            duplicates++;
+                        }
+                    } catch (IOException e) {
+                        failed++;
+                        log.warn("업로드 파일 분산 경로 이동 실패: {}", key, e);
+                    }
+                    TimeUnit.NANOSECONDS.sleep(intervalNanos);
+                }
+            }
+
+            FileShardReport report = new FileShardReport(moved, duplicates, failed);
+            if (moved + duplicates + failed > 0) {
+                log.info("업로드 파일 분산 마이그레이션 완료: {} ({}ms)", report, System.currentTimeMillis() - start);
+            }
+            return report;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("업로드 파일 분산 마이그레이션이 중단되었습니다.");
+        } finally {
+            running.set(false);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package kr.co.bootSample.global.file;
+
+/**
+ * 업로드 파일 디렉토리 분산(샤딩) 마이그레이션 결과입니다.
+ *
+ * @param movedFiles     분산 경로로 옮긴 파일 수
+ * @param duplicateFiles 분산 경로에 이미 있어 삭제한 기존 파일 수
+ * @param failedFiles    옮기지 못한 파일 수 (다음 실행에서 다시 시도)
+ */
+public record FileShardReport(
+        long movedFiles,
+        long duplicateFiles,
+        long failedFiles) {
+}
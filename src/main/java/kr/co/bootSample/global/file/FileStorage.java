@@ -0,0 +1,62 @@
+package kr.co.bootSample.global.file;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+/**
+ * 업로드 파일 저장소 인터페이스입니다.
+ * 파일은 DB에 저장된 상대 경로(예: cas/{sha256}.png)를 키로 다루며, 실제 배치 방식은 구현체가 결정합니다.
+ * 업로드 중인 임시 파일은 항상 로컬에 기록한 뒤 put으로 저장소에 넘깁니다.
+ */
+public interface FileStorage {
+
+    /**
+     * 키에 해당하는 파일이 있는지 확인합니다.
+     */
+    boolean exists(String key);
+
+    /**
+     * 파일 크기를 반환합니다.
+     */
+    long size(String key) throws IOException;
+
+    /**
+     * 로컬 파일을 키 위치로 옮깁니다. 실패하면 source 파일을 삭제합니다.
+     */
+    void put(Path source, String key) throws IOException;
+
+    /**
+     * 파일 내용을 읽는 스트림을 엽니다.
+     */
+    InputStream open(String key) throws IOException;
+
+    /**
+     * 로컬 파일 시스템에서 바로 읽을 수 있는 경로를 반환합니다. (sendfile, 이미지 디코딩용)
+     * 파일이 없으면 null을 반환합니다.
+     */
+    Path localPath(String key);
+
+    /**
+     * 파일을 삭제합니다. 삭제한 파일이 있으면 true를 반환합니다.
+     */
+    boolean delete(String key) throws IOException;
+
+    /**
+     * 파일을 같은 위치의 임시 파일(.part)로 원자적으로 이름을 바꾸고 그 키를 반환합니다. 파일이 없으면 null을 반환합니다.
+     * 이름을 바꾼 뒤에는 exists가 false를 반환하므로, 실제 삭제는 잠금이나 트랜잭션 밖에서 delete로 수행할 수 있습니다.
+     * 삭제하지 못한 임시 파일은 미사용 파일 정리에서 처리됩니다.
+     */
+    String detach(String key) throws IOException;
+
+    /**
+     * 최상위 디렉토리(키의 첫 경로) 이름을 나열합니다. 반환된 Stream은 사용 후 닫아야 합니다.
+     */
+    Stream<String> directories() throws IOException;
+
+    /**
+     * 디렉토리(키의 첫 경로) 아래의 모든 파일을 나열합니다. 반환된 Stream은 사용 후 닫아야 합니다.
+     */
+    Stream<StorageEntry> list(String directory) throws IOException;
+}
@@ -0,0 +1,119 @@
+package kr.co.bootSample.global.file;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * 업로드 스트림을 FileChannel로 한 번에 기록하는 컴포넌트입니다.
+ * 읽는 동안 크기 제한을 검사하고 SHA-256 체크섬을 함께 계산하므로, 저장 후 파일을 다시 읽을 필요가 없습니다.
+ * 기록 중에는 저장소 디렉토리 안의 임시 파일(.part)을 사용하고, 완료 후 최종 경로로 원자적으로 이동하여
+ * 중간에 실패하더라도 불완전한 파일이 최종 경로에 남지 않습니다.
+ */
+@Component
+public class FileStreamWriter {
+
+    private static final String PART_SUFFIX = ".part";
+
+    @Value("${app.file.max-file-size:50MB}")
+    private DataSize maxFileSize;
+
+    @Value("${app.file.buffer-size:65536}")
+    private int bufferSize;
+
+    private final UploadAdmission uploadAdmission;
+
+    public FileStreamWriter(UploadAdmission uploadAdmission) {
+        this.uploadAdmission = uploadAdmission;
+    }
+
+    /**
+     * 스트림 전체를 dir 디렉토리의 임시 파일(.part)에 기록하고 경로, 크기, 체크섬을 반환합니다.
+     * 크기 제한을 초과하면 기록을 중단하고 임시 파일을 삭제합니다.
+     * 저장 위치가 체크섬에 따라 정해지므로, 호출하는 쪽에서 moveIntoPlace로 최종 경로에 옮깁니다.
+     */
+    public StoredFile writeTemp(InputStream in, Path dir) throws IOException {
+        Files.createDirectories(dir);
+        Path part = dir.resolve(UUID.randomUUID() + PART_SUFFIX);
+
+        MessageDigest digest = sha256();
+        long limit = maxFileSize.toBytes();
+        long size = 0;
+        byte[] buffer = new byte[bufferSize];
+
+        try (FileChannel channel = FileChannel.open(part, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                size += read;
+                if (size > limit) {
+                    throw new RuntimeException("파일 크기가 제한(" + maxFileSize.toMegabytes() + "MB)을 초과했습니다.");
+                }
+                digest.update(buffer, 0, read);
+                ByteBuffer chunk = ByteBuffer.wrap(buffer, 0, read);
+                while (chunk.hasRemaining()) {
+                    channel.write(chunk);
+                }
+                uploadAdmission.consume(read); // 전체 업로드가 공유하는 초당 기록량 예산
+            }
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(part);
+            throw e;
+        }
+
+        return new StoredFile(part, size, HexFormat.of().formatHex(digest.digest()));
+    }
+
+    /**
+     * 이미 저장된 파일의 SHA-256 체크섬을 계산합니다. (기존 파일 마이그레이션용)
+     */
+    public String checksum(Path file) throws IOException {
+        MessageDigest digest = sha256();
+        byte[] buffer = new byte[bufferSize];
+        try (InputStream in = Files.newInputStream(file)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * 임시 파일을 최종 경로로 원자적으로 이동합니다. 실패하면 임시 파일을 삭제합니다.
+     */
+    public void moveIntoPlace(Path part, Path target) throws IOException {
+        try {
+            Files.createDirectories(target.getParent());
+            try {
+                Files.move(part, target, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(part, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            Files.deleteIfExists(part);
+            throw e;
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package kr.co.bootSample.global.file;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import kr.co.bootSample.global.common.CacheStatsResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+
+/**
+ * /uploads/** 로 자주 요청되는 작은 파일의 내용을 힙 밖(Direct ByteBuffer)에 보관하는 캐시입니다.
+ * 인기 게시글의 이미지처럼 같은 파일이 반복 요청될 때 매번 디스크(NAS)를 읽지 않도록 합니다.
+ * Caffeine(W-TinyLFU)이 요청 빈도를 기준으로 보관 여부를 정하므로 한 번만 요청된 파일은 자주 요청되는 파일을 밀어내지 못하며,
+ * 전체 용량은 파일 크기를 가중치로 제한합니다.
+ *
+ * 저장된 파일은 키(체크섬/UUID)가 같으면 내용도 같으므로 만료 없이 보관하고, 저장소에서 삭제될 때 무효화합니다.
+ */
+@Component
+public class HotFileCache {
+
+    private static final int ENTRY_OVERHEAD = 256;
+
+    private final Cache<Path, CachedFileResource> cache;
+    private final long maxFileBytes;
+
+    public HotFileCache(
+            @Value("${app.file.hot-cache.max-bytes:67108864}") long maxBytes,
+            @Value("${app.file.hot-cache.max-file-bytes:262144}") long maxFileBytes) {
+        this.maxFileBytes = maxFileBytes;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((Path path, CachedFileResource resource) -> resource.size() + ENTRY_OVERHEAD)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 파일을 응답할 자원을 반환합니다. 크기 제한 이하의 파일은 메모리 사본을, 그 외에는 파일 자원을 반환합니다.
+     */
+    public Resource resource(Path path) {
+        CachedFileResource cached = cache.getIfPresent(path);
+        if (cached != null) {
+            return cached;
+        }
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            if (attributes.size() > maxFileBytes) {
+                return new FileSystemResource(path);
+            }
+            return cache.get(path, key -> load(key, attributes.lastModifiedTime().toMillis()));
+        } catch (IOException | UncheckedIOException e) {
+            return new FileSystemResource(path); // 읽기 실패 시 기본 처리(404 등)에 맡김
+        }
+    }
+
+    /**
+     * 파일의 캐시 항목을 무효화합니다. (저장소에서 삭제/이동 시 호출)
+     */
+    public void invalidate(Path path) {
+        cache.invalidate(path);
+    }
+
+    public CacheStatsResponse stats() {
+        return CacheStatsResponse.of("hotFile", cache);
+    }
+
+    private CachedFileResource load(Path path, long lastModified) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect((int) channel.size());
+            while (buffer.hasRemaining() && channel.read(buffer) != -1) {
+                // 파일 끝까지 읽음
+            }
+            buffer.flip();
+            return new CachedFileResource(path, buffer.asReadOnlyBuffer(), lastModified);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
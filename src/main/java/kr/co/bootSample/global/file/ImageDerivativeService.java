@@ -0,0 +1,377 @@
+package kr.co.bootSample.global.file;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import kr.co.bootSample.global.common.TransactionUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 에디터 이미지 업로드 후 축소된 파생본(리사이즈 + 재인코딩)을 백그라운드에서 생성하는 서비스입니다.
+ * 파생본은 derived/{sha256}-w{너비}.{확장자} 경로에 저장되며, 요청 시 ?w={너비} 파라미터로 선택합니다.
+ * 아직 생성되지 않았거나 생성이 거부/실패한 경우에는 원본이 그대로 제공됩니다. (ImageVariantResourceResolver)
+ *
+ * 디코딩된 이미지는 메모리를 많이 사용하고 작업 자체가 CPU 위주이므로,
+ * 가상 스레드 대신 작업 스레드 수와 대기열 크기가 제한된 전용 스레드 풀에서 처리합니다.
+ */
+@Service
+public class ImageDerivativeService {
+
+    private static final Logger log = LoggerFactory.getLogger(ImageDerivativeService.class);
+
+    private static final Set<String> SUPPORTED_EXTENSIONS = Set.of("jpg", "jpeg", "png");
+
+    @Value("${app.file.upload-dir:./uploads}")
+    private String uploadDir;
+
+    @Value("${app.file.paths.derived:derived}")
+    private String derivedPath;
+
+    @Value("${app.file.image.widths:480,1080}")
+    private List<Integer> widths;
+
+    @Value("${app.file.image.display-width:1080}")
+    private int displayWidth;
+
+    @Value("${app.file.image.jpeg-quality:0.8}")
+    private float jpegQuality;
+
+    @Value("${app.file.image.max-pixels:40000000}")
+    private long maxPixels;
+
+    @Value("${app.file.image.workers:2}")
+    private int workers;
+
+    @Value("${app.file.image.queue-capacity:200}")
+    private int queueCapacity;
+
+    private final FileStorage fileStorage;
+
+    private ThreadPoolExecutor executor;
+
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder totalWaitMillis = new LongAdder();
+    private final LongAdder totalProcessMillis = new LongAdder();
+    private final LongAccumulator maxProcessMillis = new LongAccumulator(Math::max, 0L);
+
+    public ImageDerivativeService(FileStorage fileStorage) {
+        this.fileStorage = fileStorage;
+    }
+
+    @PostConstruct
+    void start() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = new ThreadPoolExecutor(workers, workers, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<Runnable>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "image-derivative-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (runnable, pool) -> {
+                    // 대기열이 가득 차면 파생본 생성을 포기하고 원본으로 제공
+                    rejected.increment();
+                    log.warn("이미지 파생본 생성 대기열이 가득 차 작업을 건너뜁니다. (대기 {}건)", pool.getQueue().size());
+                });
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 원본 이미지의 파생본 생성을 요청합니다. 트랜잭션 안에서 호출되면 커밋 이후에 대기열에 등록됩니다.
+     */
+    public void requestDerivatives(String storedName) {
+        if (!isSupported(storedName)) {
+            return;
+        }
+        TransactionUtils.afterCommit(() -> {
+            long submittedAt = System.currentTimeMillis();
+            executor.execute(() -> {
+                long startedAt = System.currentTimeMillis();
+                totalWaitMillis.add(startedAt - submittedAt);
+                try {
+                    generate(storedName);
+                    completed.increment();
+                } catch (IOException | RuntimeException e) {
+                    failed.increment();
+                    log.error("이미지 파생본 생성 실패: {}", storedName, e);
+                } finally {
+                    long elapsed = System.currentTimeMillis() - startedAt;
+                    totalProcessMillis.add(elapsed);
+                    maxProcessMillis.accumulate(elapsed);
+                }
+            });
+        });
+    }
+
+    /**
+     * 본문에 삽입할 이미지 URL을 반환합니다.
+     * 원본이 표시 너비보다 크면 파생본 파라미터(?w=)를 붙이며, 파생본이 준비되기 전까지는 원본이 제공됩니다.
+     */
+    public String displayUrl(String storedName) {
+        String url = "/uploads/" + storedName.replace(File.separator, "/");
+        if (!isSupported(storedName)) {
+            return url;
+        }
+        try {
+            return readWidth(originalPath(storedName)) > displayWidth ? url + "?w=" + displayWidth : url;
+        } catch (IOException e) {
+            log.warn("이미지 크기 확인 실패, 원본 URL을 사용합니다: {}", storedName, e);
+            return url;
+        }
+    }
+
+    /**
+     * 요청한 너비의 파생본을 제공할 수 있는 원본인지 확인합니다.
+     */
+    public boolean supportsWidth(String storedName, int width) {
+        return widths.contains(width) && isSupported(storedName);
+    }
+
+    /**
+     * 요청한 너비의 파생본 경로를 반환합니다. 지원하지 않는 너비이거나 파생본이 없으면 null을 반환합니다.
+     */
+    public Path findDerivative(String storedName, int width) {
+        if (!widths.contains(width) || !isSupported(storedName)) {
+            return null;
+        }
+        return fileStorage.localPath(derivedKey(storedName, width));
+    }
+
+    /**
+     * 원본의 모든 파생본을 삭제합니다. (원본 파일 삭제 시 호출)
+     */
+    public void deleteDerivatives(String storedName) {
+        if (!isSupported(storedName)) {
+            return;
+        }
+        for (int width : widths) {
+            try {
+                fileStorage.delete(derivedKey(storedName, width));
+            } catch (IOException e) {
+                log.warn("이미지 파생본 삭제 실패: {} (w={})", storedName, width, e);
+            }
+        }
+    }
+
+    public ImageDerivativeStats stats() {
+        long done = completed.sum() + failed.sum();
+        return new ImageDerivativeStats(
+                executor.getQueue().size(),
+                executor.getActiveCount(),
+                completed.sum(),
+                failed.sum(),
+                rejected.sum(),
+                done > 0 ? (double) totalWaitMillis.sum() / done : 0.0,
+                done > 0 ? (double) totalProcessMillis.sum() / done : 0.0,
+                maxProcessMillis.get());
+    }
+
+    /**
+     * 설정된 너비 중 원본보다 작은 너비의 파생본을 생성합니다. (이미 있는 파생본은 건너뜀)
+     * 압축 해제 폭탄을 막기 위해 헤더의 크기를 먼저 확인하고, 픽셀 수가 제한을 넘으면 디코딩하지 않습니다.
+     * 필요한 최대 너비의 2배 이상이 남는 범위에서 서브샘플링으로 디코딩하여 메모리 사용량을 줄입니다.
+     */
+    private void generate(String storedName) throws IOException {
+        Path original = originalPath(storedName);
+        BufferedImage source;
+        try (ImageInputStream in = ImageIO.createImageInputStream(original.toFile())) {
+            Iterator<ImageReader> readers = in != null ? ImageIO.getImageReaders(in) : null;
+            if (readers == null || !readers.hasNext()) {
+                log.debug("디코딩할 수 없는 이미지 형식입니다: {}", storedName);
+                return;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                int sourceWidth = reader.getWidth(0);
+                int sourceHeight = reader.getHeight(0);
+                if ((long) sourceWidth * sourceHeight > maxPixels) {
+                    log.warn("이미지 픽셀 수가 제한을 넘어 파생본을 생성하지 않습니다: {} ({}x{})",
+                            storedName, sourceWidth, sourceHeight);
+                    return;
+                }
+
+                List<Integer> pending = new ArrayList<>();
+                for (int width : widths) {
+                    if (sourceWidth > width && !fileStorage.exists(derivedKey(storedName, width))) {
+                        pending.add(width);
+                    }
+                }
+                if (pending.isEmpty()) {
+                    return;
+                }
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                int maxWidth = pending.stream().mapToInt(Integer::intValue).max().getAsInt();
+                int subsampling = Math.max(1, sourceWidth / (maxWidth * 2));
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                source = reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+
+        String format = isJpeg(storedName) ? "jpeg" : "png";
+        for (int width : widths) {
+            String target = derivedKey(storedName, width);
+            if (source.getWidth() <= width || fileStorage.exists(target)) {
+                continue;
+            }
+
+            int height = Math.max(1, (int) Math.round((double) source.getHeight() * width / source.getWidth()));
+            BufferedImage resized = resize(source, width, height, format);
+
+            Path temp = Paths.get(uploadDir, derivedPath).resolve(UUID.randomUUID() + ".part");
+            Files.createDirectories(temp.getParent());
+            try {
+                write(resized, format, temp);
+                fileStorage.put(temp, target);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        }
+        log.debug("이미지 파생본 생성 완료: {}", storedName);
+    }
+
+    /**
+     * 절반씩 단계적으로 축소하여 한 번에 크게 줄일 때 생기는 계단 현상을 줄입니다.
+     */
+    private BufferedImage resize(BufferedImage source, int width, int height, String format) {
+        int type = "jpeg".equals(format) ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB;
+        BufferedImage current = source;
+        int currentWidth = source.getWidth();
+        int currentHeight = source.getHeight();
+
+        do {
+            currentWidth = Math.max(width, currentWidth / 2);
+            currentHeight = Math.max(height, currentHeight / 2);
+
+            BufferedImage step = new BufferedImage(currentWidth, currentHeight, type);
+            Graphics2D g = step.createGraphics();
+            try {
+                g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                if (type == BufferedImage.TYPE_INT_RGB) {
+                    // 투명 영역이 검게 인코딩되지 않도록 흰색 배경 지정
+                    g.setColor(Color.WHITE);
+                    g.fillRect(0, 0, currentWidth, currentHeight);
+                }
+                g.drawImage(current, 0, 0, currentWidth, currentHeight, null);
+            } finally {
+                g.dispose();
+            }
+            current = step;
+        } while (currentWidth != width || currentHeight != height);
+
+        return current;
+    }
+
+    private void write(BufferedImage image, String format, Path target) throws IOException {
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName(format);
+        if (!writers.hasNext()) {
+            throw new IOException("이미지 인코더를 찾을 수 없습니다: " + format);
+        }
+        ImageWriter writer = writers.next();
+        try (ImageOutputStream out = ImageIO.createImageOutputStream(target.toFile())) {
+            writer.setOutput(out);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            if ("jpeg".equals(format)) {
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                param.setCompressionQuality(jpegQuality);
+            }
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    /**
+     * 이미지 전체를 디코딩하지 않고 헤더만 읽어 너비를 확인합니다.
+     */
+    private int readWidth(Path path) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(path.toFile())) {
+            Iterator<ImageReader> readers = in != null ? ImageIO.getImageReaders(in) : null;
+            if (readers == null || !readers.hasNext()) {
+                return 0;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                return reader.getWidth(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private Path originalPath(String storedName) throws NoSuchFileException {
+        Path path = fileStorage.localPath(storedName);
+        if (path == null) {
+            throw new NoSuchFileException(storedName);
+        }
+        return path;
+    }
+
+    /**
+     * 파생본 저장 키: derived/{원본 파일명(확장자 제외)}-w{너비}.{확장자}
+     */
+    private String derivedKey(String storedName, int width) {
+        String fileName = Paths.get(storedName).getFileName().toString();
+        int dot = fileName.lastIndexOf('.');
+        return derivedPath + File.separator + fileName.substring(0, dot) + "-w" + width + fileName.substring(dot);
+    }
+
+    private boolean isSupported(String storedName) {
+        return SUPPORTED_EXTENSIONS.contains(extension(storedName));
+    }
+
+    private boolean isJpeg(String storedName) {
+        String ext = extension(storedName);
+        return "jpg".equals(ext) || "jpeg".equals(ext);
+    }
+
+    private static String extension(String storedName) {
+        int dot = storedName.lastIndexOf('.');
+        return dot == -1 ? "" : storedName.substring(dot + 1).toLowerCase(Locale.ROOT);
+    }
+}
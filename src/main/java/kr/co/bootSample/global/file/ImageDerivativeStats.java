@@ -0,0 +1,24 @@
+package kr.co.bootSample.global.file;
+
+/**
+ * 이미지 파생본(리사이즈) 생성 작업의 처리 현황입니다.
+ *
+ * @param queueDepth            대기 중인 작업 수
+ * @param activeCount           처리 중인 작업 수
+ * @param completedCount        완료된 작업 수
+ * @param failedCount           실패한 작업 수
+ * @param rejectedCount         대기열이 가득 차 거부된 작업 수 (원본으로 계속 제공됨)
+ * @param averageWaitMillis     대기열에서 기다린 평균 시간
+ * @param averageProcessMillis  평균 처리 시간 (디코딩, 리사이즈, 인코딩 포함)
+ * @param maxProcessMillis      최대 처리 시간
+ */
+public record ImageDerivativeStats(
+        int queueDepth,
+        int activeCount,
+        long completedCount,
+        long failedCount,
+        long rejectedCount,
+        double averageWaitMillis,
+        double averageProcessMillis,
+        long maxProcessMillis) {
+}
@@ -0,0 +1,79 @@
+package kr.co.bootSample.global.file;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.lang.Nullable;
+import org.springframework.web.servlet.resource.AbstractResourceResolver;
+import org.springframework.web.servlet.resource.HttpResource;
+import org.springframework.web.servlet.resource.ResourceResolverChain;
+
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * /uploads/** 정적 자원 요청에 ?w={너비} 파라미터가 있으면 해당 너비의 이미지 파생본을 제공하는 Resolver입니다.
+ * 파생본이 아직 생성되지 않았으면 원본을 짧은 캐시 기간으로 제공하여, 브라우저가 원본을 파생본 URL로 오래 캐시하지 않도록 합니다.
+ * 지원하지 않는 너비이면 다음 Resolver로 넘겨 원본을 제공합니다.
+ */
+public class ImageVariantResourceResolver extends AbstractResourceResolver {
+
+    private static final String PENDING_CACHE_CONTROL = "public, max-age=60";
+
+    private final ImageDerivativeService imageDerivativeService;
+    private final FileStorage fileStorage;
+    private final HotFileCache hotFileCache;
+
+    public ImageVariantResourceResolver(ImageDerivativeService imageDerivativeService, FileStorage fileStorage,
+            HotFileCache hotFileCache) {
+        this.imageDerivativeService = imageDerivativeService;
+        this.fileStorage = fileStorage;
+        this.hotFileCache = hotFileCache;
+    }
+
+    @Override
+    protected Resource resolveResourceInternal(@Nullable HttpServletRequest request, String requestPath,
+            List<? extends Resource> locations, ResourceResolverChain chain) {
+        String width = request != null ? request.getParameter("w") : null;
+        if (width != null && width.matches("\\d{1,5}") && imageDerivativeService.supportsWidth(requestPath,
+                Integer.parseInt(width))) {
+            Path derived = imageDerivativeService.findDerivative(requestPath, Integer.parseInt(width));
+            if (derived != null) {
+                return hotFileCache.resource(derived);
+            }
+            try {
+                Path original = fileStorage.localPath(requestPath);
+                if (original != null) {
+                    return new PendingVariantResource(original);
+                }
+            } catch (IllegalArgumentException e) {
+                return null; // 업로드 디렉토리를 벗어나는 경로
+            }
+        }
+        return chain.resolveResource(request, requestPath, locations);
+    }
+
+    @Override
+    protected String resolveUrlPathInternal(String resourceUrlPath, List<? extends Resource> locations,
+            ResourceResolverChain chain) {
+        return chain.resolveUrlPath(resourceUrlPath, locations);
+    }
+
+    /**
+     * 파생본 대신 제공하는 원본입니다. 핸들러의 기본 Cache-Control(immutable)을 짧은 캐시 기간으로 덮어씁니다.
+     */
+    private static class PendingVariantResource extends FileSystemResource implements HttpResource {
+
+        private PendingVariantResource(Path path) {
+            super(path);
+        }
+
+        @Override
+        public HttpHeaders getResponseHeaders() {
+            HttpHeaders headers = new HttpHeaders();
+            headers.setCacheControl(PENDING_CACHE_CONTROL);
+            return headers;
+        }
+    }
+}
@@ -0,0 +1,255 @@
+package kr.co.bootSample.global.file;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * 업로드 디렉토리(app.file.upload-dir)에 파일을 저장하는 로컬 저장소입니다.
+ *
+ * 한 디렉토리에 수십만 개의 파일이 쌓이면 NAS에서 조회/목록 성능이 크게 떨어지므로,
+ * 키의 파일명 앞 4글자로 두 단계 하위 디렉토리를 나누어 저장합니다.
+ * (예: cas/3fa9c2...png → cas/3f/a9/3fa9c2...png)
+ *
+ * 분산 이전에 저장된 파일은 기존 경로(cas/3fa9c2...png)에 남아 있을 수 있으므로,
+ * 읽기/삭제 시 분산 경로에 없으면 기존 경로를 한 번 더 확인합니다. (FileShardMigration이 점진적으로 이동)
+ */
+@Component
+public class LocalFileStorage implements FileStorage {
+
+    private static final Logger log = LoggerFactory.getLogger(LocalFileStorage.class);
+
+    private static final int SHARD_WIDTH = 2;
+    private static final int SHARD_DEPTH = 2;
+    private static final String PART_SUFFIX = ".part";
+
+    @Value("${app.file.upload-dir:./uploads}")
+    private String uploadDir;
+
+    private final FileStreamWriter fileStreamWriter;
+    private final HotFileCache hotFileCache;
+
+    private Path root;
+
+    public LocalFileStorage(FileStreamWriter fileStreamWriter, HotFileCache hotFileCache) {
+        this.fileStreamWriter = fileStreamWriter;
+        this.hotFileCache = hotFileCache;
+    }
+
+    @PostConstruct
+    void init() {
+        root = Paths.get(uploadDir).toAbsolutePath().normalize();
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return localPath(key) != null;
+    }
+
+    @Override
+    public long size(String key) throws IOException {
+        return Files.size(existingPath(key));
+    }
+
+    @Override
+    public void put(Path source, String key) throws IOException {
+        Path target = shardedPath(key);
+        fileStreamWriter.moveIntoPlace(source, target);
+        hotFileCache.invalidate(target);
+    }
+
+    @Override
+    public InputStream open(String key) throws IOException {
+        return Files.newInputStream(existingPath(key));
+    }
+
+    @Override
+    public Path localPath(String key) {
+        Path sharded = shardedPath(key);
+        if (Files.isRegularFile(sharded)) {
+            return sharded;
+        }
+        Path legacy = legacyPath(key);
+        return !legacy.equals(sharded) && Files.isRegularFile(legacy) ? legacy : null;
+    }
+
+    @Override
+    public boolean delete(String key) throws IOException {
+        Path sharded = shardedPath(key);
+        Path legacy = legacyPath(key);
+        hotFileCache.invalidate(sharded);
+        boolean deleted = Files.deleteIfExists(sharded);
+        if (!legacy.equals(sharded)) {
+            hotFileCache.invalidate(legacy);
+            deleted |= Files.deleteIfExists(legacy);
+        }
+        return deleted;
+    }
+
+    @Override
+    public String detach(String key) throws IOException {
+        Path path = localPath(key);
+        if (path == null) {
+            return null;
+        }
+        // 파일명 앞부분이 같으므로 임시 파일의 키도 같은 분산 디렉토리(또는 기존 경로)를 가리킴
+        String suffix = "." + UUID.randomUUID() + PART_SUFFIX;
+        hotFileCache.invalidate(path);
+        try {
+            Files.move(path, path.resolveSibling(path.getFileName() + suffix), StandardCopyOption.ATOMIC_MOVE);
+        } catch (NoSuchFileException e) {
+            return null; // 확인 직후 삭제된 파일
+        }
+        return key + suffix;
+    }
+
+    @Override
+    public Stream<String> directories() throws IOException {
+        if (!Files.isDirectory(root)) {
+            return Stream.empty();
+        }
+        return Files.list(root)
+                .filter(Files::isDirectory)
+                .map(path -> path.getFileName().toString());
+    }
+
+    @Override
+    public Stream<StorageEntry> list(String directory) throws IOException {
+        Path dir = resolve(directory);
+        if (!Files.isDirectory(dir)) {
+            return Stream.empty();
+        }
+        // 분산 경로와 기존 경로 모두 파일명만으로 키가 정해짐 (디렉토리/파일명)
+        return Files.walk(dir)
+                .map(path -> entry(directory, path))
+                .filter(Objects::nonNull);
+    }
+
+    /**
+     * 분산 이전 경로에 있는 파일을 분산 경로로 옮깁니다. (FileShardMigration용)
+     * 분산 경로에 같은 키의 파일이 이미 있으면 기존 경로의 파일을 삭제하고 false를 반환합니다.
+     */
+    public boolean relocateLegacy(String key) throws IOException {
+        Path legacy = legacyPath(key);
+        Path sharded = shardedPath(key);
+        if (legacy.equals(sharded) || !Files.isRegularFile(legacy)) {
+            return false;
+        }
+
+        hotFileCache.invalidate(legacy);
+        // 원자적 이동(rename)은 대상 파일을 덮어쓰므로 먼저 확인
+        if (Files.exists(sharded)) {
+            return removeLegacyCopy(legacy, key);
+        }
+
+        Files.createDirectories(sharded.getParent());
+        try {
+            try {
+                Files.move(legacy, sharded, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(legacy, sharded);
+            }
+            return true;
+        } catch (FileAlreadyExistsException e) {
+            return removeLegacyCopy(legacy, key); // 확인 직후 분산 경로에 저장된 경우 (비원자적 이동)
+        }
+    }
+
+    /**
+     * 키가 같으면 내용도 같으므로(체크섬/UUID) 분산 경로의 파일을 유지하고 기존 경로의 사본만 정리합니다.
+     */
+    private boolean removeLegacyCopy(Path legacy, String key) throws IOException {
+        Files.deleteIfExists(legacy);
+        log.debug("분산 경로에 이미 있는 파일의 기존 사본 삭제: {}", key);
+        return false;
+    }
+
+    /**
+     * 분산 이전 경로에 남아 있는 파일의 키를 나열합니다. (디렉토리 바로 아래의 파일만 대상, 임시 파일 제외)
+     */
+    public Stream<String> listLegacyKeys(String directory) throws IOException {
+        Path dir = resolve(directory);
+        if (!Files.isDirectory(dir)) {
+            return Stream.empty();
+        }
+        return Files.list(dir)
+                .filter(Files::isRegularFile)
+                .map(path -> path.getFileName().toString())
+                .filter(name -> !name.endsWith(PART_SUFFIX))
+                .map(name -> directory + File.separator + name)
+                .filter(key -> !legacyPath(key).equals(shardedPath(key)));
+    }
+
+    /**
+     * 분산 경로: {디렉토리}/{파일명 1~2번째 글자}/{3~4번째 글자}/{파일명}
+     * 디렉토리/파일명 형태가 아니거나 파일명이 분산에 쓸 수 없는 글자로 시작하면 기존 경로를 그대로 사용합니다.
+     */
+    private Path shardedPath(String key) {
+        String normalized = key.replace('\\', '/');
+        int slash = normalized.indexOf('/');
+        String name = normalized.substring(slash + 1);
+        if (slash <= 0 || name.indexOf('/') != -1 || name.length() <= SHARD_WIDTH * SHARD_DEPTH
+                || !name.substring(0, SHARD_WIDTH * SHARD_DEPTH).matches("[0-9a-z]+")) {
+            return legacyPath(key);
+        }
+
+        StringBuilder path = new StringBuilder(normalized.substring(0, slash));
+        for (int i = 0; i < SHARD_DEPTH; i++) {
+            path.append('/').append(name, i * SHARD_WIDTH, (i + 1) * SHARD_WIDTH);
+        }
+        return resolve(path.append('/').append(name).toString());
+    }
+
+    private Path legacyPath(String key) {
+        return resolve(key);
+    }
+
+    private Path existingPath(String key) throws NoSuchFileException {
+        Path path = localPath(key);
+        if (path == null) {
+            throw new NoSuchFileException(key);
+        }
+        return path;
+    }
+
+    /**
+     * 키를 업로드 디렉토리 기준 경로로 변환합니다. 업로드 디렉토리를 벗어나는 키는 허용하지 않습니다.
+     */
+    private Path resolve(String key) {
+        Path path = root.resolve(key.replace('\\', '/')).normalize();
+        if (!path.startsWith(root) || path.equals(root)) {
+            throw new IllegalArgumentException("잘못된 파일 경로입니다: " + key);
+        }
+        return path;
+    }
+
+    private StorageEntry entry(String directory, Path path) {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            if (!attributes.isRegularFile()) {
+                return null;
+            }
+            return new StorageEntry(directory + File.separator + path.getFileName(), attributes.size(),
+                    attributes.lastModifiedTime().toMillis());
+        } catch (IOException e) {
+            return null; // 목록 조회 중 삭제된 파일
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package kr.co.bootSample.global.file;
+
+import java.util.Map;
+
+/**
+ * 스트리밍으로 읽은 multipart/form-data 요청입니다. (MultipartUploadReader)
+ * 첨부파일 외 파트는 문자열로, 첨부파일 파트는 기록을 마친 임시 파일로 보관합니다.
+ * 닫을 때 저장소로 옮겨지지 않은 임시 파일을 삭제하므로 try-with-resources로 사용합니다.
+ */
+public class MultipartUpload implements AutoCloseable {
+
+    private final Map<String, String> fields;
+    private final StagedUploads files;
+
+    MultipartUpload(Map<String, String> fields, StagedUploads files) {
+        this.fields = fields;
+        this.files = files;
+    }
+
+    /**
+     * 첨부파일 외 파트의 내용을 반환합니다. 없으면 null을 반환합니다.
+     */
+    public String field(String name) {
+        return fields.get(name);
+    }
+
+    public StagedUploads files() {
+        return files;
+    }
+
+    @Override
+    public void close() {
+        files.close();
+    }
+}
@@ -0,0 +1,130 @@
+package kr.co.bootSample.global.file;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.apache.commons.fileupload2.core.FileItemInput;
+import org.apache.commons.fileupload2.core.FileItemInputIterator;
+import org.apache.commons.fileupload2.core.FileUploadSizeException;
+import org.apache.commons.fileupload2.jakarta.servlet6.JakartaServletFileUpload;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * multipart/form-data 요청 본문을 스트리밍으로 읽는 컴포넌트입니다.
+ * 서블릿 컨테이너의 멀티파트 처리(spring.servlet.multipart.enabled=false)를 거치지 않으므로
+ * 첨부파일 파트는 컨테이너의 임시 파일로 저장(spool)되지 않고, FileStreamWriter가 네트워크에서 읽는 대로
+ * 저장소 디렉토리의 임시 파일(FileChannel)에 한 번만 기록합니다. 크기 제한과 체크섬도 읽는 동안 처리됩니다.
+ *
+ * 하나의 요청 본문은 파트 순서대로만 읽을 수 있으므로 여러 첨부파일도 도착한 순서대로 기록하며,
+ * 기록 차례(UploadAdmission)는 첫 첨부파일 파트를 만났을 때 기다리고 본문을 모두 읽으면 반납합니다.
+ */
+@Component
+public class MultipartUploadReader {
+
+    private static final Logger log = LoggerFactory.getLogger(MultipartUploadReader.class);
+
+    @Value("${app.file.upload-dir:./uploads}")
+    private String uploadDir;
+
+    @Value("${app.file.paths.cas:cas}")
+    private String casPath;
+
+    @Value("${app.file.max-request-size:200MB}")
+    private DataSize maxRequestSize;
+
+    @Value("${app.file.max-field-size:10MB}")
+    private DataSize maxFieldSize;
+
+    private final FileStreamWriter fileStreamWriter;
+    private final UploadAdmission uploadAdmission;
+
+    public MultipartUploadReader(FileStreamWriter fileStreamWriter, UploadAdmission uploadAdmission) {
+        this.fileStreamWriter = fileStreamWriter;
+        this.uploadAdmission = uploadAdmission;
+    }
+
+    /**
+     * 요청 본문을 끝까지 읽어 fileField 이름의 파트는 임시 파일로 기록하고, 나머지 파트는 문자열로 반환합니다.
+     * 파일명이 없거나 내용이 비어 있는 첨부파일 파트는 건너뜁니다.
+     * 도중에 실패하면 이미 기록한 임시 파일을 삭제하고 예외를 던집니다.
+     */
+    public MultipartUpload read(HttpServletRequest request, String fileField) throws IOException {
+        if (!JakartaServletFileUpload.isMultipartContent(request)) {
+            throw new RuntimeException("multipart/form-data 형식의 요청이 아닙니다.");
+        }
+
+        JakartaServletFileUpload<?, ?> upload = new JakartaServletFileUpload<>();
+        upload.setSizeMax(maxRequestSize.toBytes());
+
+        Path storeDir = Paths.get(uploadDir, casPath);
+        Map<String, String> fields = new HashMap<String, String>();
+        List<StagedUpload> staged = new ArrayList<StagedUpload>();
+        UploadAdmission.Permit permit = null;
+        try {
+            FileItemInputIterator items = upload.getItemIterator(request);
+            while (items.hasNext()) {
+                FileItemInput item = items.next();
+                if (!fileField.equals(item.getFieldName())) {
+                    fields.put(item.getFieldName(), readField(item));
+                    continue;
+                }
+                if (item.getName() == null || item.getName().isEmpty()) {
+                    continue; // 파일을 선택하지 않은 입력
+                }
+                if (permit == null) {
+                    permit = uploadAdmission.admit();
+                }
+                StoredFile temp;
+                try (InputStream in = item.getInputStream()) {
+                    temp = fileStreamWriter.writeTemp(in, storeDir);
+                }
+                if (temp.size() == 0) {
+                    Files.deleteIfExists(temp.path());
+                    continue;
+                }
+                staged.add(new StagedUpload(temp, item.getName(), item.getContentType()));
+            }
+        } catch (FileUploadSizeException e) {
+            new StagedUploads(staged).close();
+            throw new RuntimeException("요청 크기가 제한(" + maxRequestSize.toMegabytes() + "MB)을 초과했습니다.");
+        } catch (IOException | RuntimeException e) {
+            new StagedUploads(staged).close();
+            throw e;
+        } finally {
+            if (permit != null) {
+                permit.close();
+            }
+        }
+
+        log.debug("멀티파트 요청 읽기 완료: 파트 {}건, 첨부파일 {}건", fields.size(), staged.size());
+        return new MultipartUpload(fields, staged.isEmpty() ? StagedUploads.EMPTY : new StagedUploads(staged));
+    }
+
+    /**
+     * 첨부파일 외 파트(게시글 JSON 등)를 UTF-8 문자열로 읽습니다. 크기 제한을 넘으면 읽기를 중단합니다.
+     */
+    private String readField(FileItemInput item) throws IOException {
+        long limit = maxFieldSize.toBytes();
+        try (InputStream in = item.getInputStream()) {
+            byte[] content = in.readNBytes((int) Math.min(limit + 1, Integer.MAX_VALUE - 8));
+            if (content.length > limit) {
+                throw new RuntimeException("'" + item.getFieldName() + "' 항목의 크기가 제한("
+                        + maxFieldSize.toMegabytes() + "MB)을 초과했습니다.");
+            }
+            return new String(content, StandardCharsets.UTF_8);
+        }
+    }
+}
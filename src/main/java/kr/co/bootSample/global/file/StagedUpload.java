@@ -0,0 +1,14 @@
+package kr.co.bootSample.global.file;
+
+/**
+ * 트랜잭션 밖에서 임시 파일로 기록을 마친 업로드 파일입니다.
+ *
+ * @param temp        기록된 임시 파일 (경로, 크기, 체크섬)
+ * @param originName  원본 파일명
+ * @param contentType 요청에 선언된 Content-Type
+ */
+public record StagedUpload(
+        StoredFile temp,
+        String originName,
+        String contentType) {
+}
@@ -0,0 +1,44 @@
+package kr.co.bootSample.global.file;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+
+/**
+ * 트랜잭션 밖에서 기록을 마친 업로드 파일 목록입니다. (FileService.stage)
+ * 닫을 때 저장소로 옮겨지지 않은 임시 파일을 삭제하므로 try-with-resources로 사용합니다.
+ */
+public class StagedUploads implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(StagedUploads.class);
+
+    static final StagedUploads EMPTY = new StagedUploads(List.of());
+
+    private final List<StagedUpload> uploads;
+
+    StagedUploads(List<StagedUpload> uploads) {
+        this.uploads = uploads;
+    }
+
+    public List<StagedUpload> list() {
+        return uploads;
+    }
+
+    public boolean isEmpty() {
+        return uploads.isEmpty();
+    }
+
+    @Override
+    public void close() {
+        for (StagedUpload upload : uploads) {
+            try {
+                Files.deleteIfExists(upload.temp().path());
+            } catch (IOException e) {
+                log.warn("업로드 임시 파일 삭제 실패: {}", upload.temp().path(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package kr.co.bootSample.global.file;
+
+/**
+ * 저장소 목록 조회 결과의 파일 정보입니다.
+ *
+ * @param key          저장 키 (DB에 저장되는 상대 경로)
+ * @param size         파일 크기 (bytes)
+ * @param lastModified 최종 수정 시각 (epoch millis)
+ */
+public record StorageEntry(
+        String key,
+        long size,
+        long lastModified) {
+}
@@ -0,0 +1,46 @@
+package kr.co.bootSample.global.file;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.web.servlet.resource.AbstractResourceResolver;
+import org.springframework.web.servlet.resource.ResourceResolverChain;
+
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * /uploads/** 정적 자원 요청 경로를 저장 키로 보고 저장소(FileStorage)에서 파일 위치를 찾는 Resolver입니다.
+ * 저장소가 분산 경로와 분산 이전 경로를 모두 확인하므로 URL은 저장 방식과 관계없이 그대로 유지됩니다.
+ * 자주 요청되는 작은 파일은 HotFileCache의 메모리 사본으로 응답합니다.
+ */
+public class StorageResourceResolver extends AbstractResourceResolver {
+
+    private final FileStorage fileStorage;
+    private final HotFileCache hotFileCache;
+
+    public StorageResourceResolver(FileStorage fileStorage, HotFileCache hotFileCache) {
+        this.fileStorage = fileStorage;
+        this.hotFileCache = hotFileCache;
+    }
+
+    @Override
+    protected Resource resolveResourceInternal(@Nullable HttpServletRequest request, String requestPath,
+            List<? extends Resource> locations, ResourceResolverChain chain) {
+        try {
+            Path path = fileStorage.localPath(requestPath);
+            if (path != null) {
+                return hotFileCache.resource(path);
+            }
+        } catch (IllegalArgumentException e) {
+            return null; // 업로드 디렉토리를 벗어나는 경로
+        }
+        return chain.resolveResource(request, requestPath, locations);
+    }
+
+    @Override
+    protected String resolveUrlPathInternal(String resourceUrlPath, List<? extends Resource> locations,
+            ResourceResolverChain chain) {
+        return chain.resolveUrlPath(resourceUrlPath, locations);
+    }
+}
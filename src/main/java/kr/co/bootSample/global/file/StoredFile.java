@@ -0,0 +1,16 @@
+package kr.co.bootSample.global.file;
+
+import java.nio.file.Path;
+
+/**
+ * 스트리밍 저장이 완료된 파일의 정보입니다.
+ *
+ * @param path     기록된 파일 경로
+ * @param size     실제로 기록된 바이트 수
+ * @param checksum 기록 중에 계산한 SHA-256 체크섬 (16진수 소문자)
+ */
+public record StoredFile(
+        Path path,
+        long size,
+        String checksum) {
+}
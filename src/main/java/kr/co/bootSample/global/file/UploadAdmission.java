@@ -0,0 +1,204 @@
+package kr.co.bootSample.global.file;
+
+import kr.co.bootSample.global.error.TooManyRequestsException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 업로드 파일 기록의 동시 실행 수와 초당 기록량을 제한하는 수용 제어 컴포넌트입니다.
+ * 큰 첨부파일 업로드가 몰려 NAS 대역폭을 모두 사용하면 같은 디스크를 읽는 조회 요청까지 지연되므로,
+ * 업로드 요청은 공정(FIFO) 세마포어로 차례를 기다린 뒤 기록하고, 기록량은 전체 업로드가 공유하는 초당 예산 안에서만 허용합니다.
+ *
+ * 대기열이 가득 찼거나 정해진 시간 안에 차례가 오지 않으면 429와 Retry-After로 바로 거부합니다.
+ * 대기는 트랜잭션(DB 커넥션)을 시작하기 전, 요청 본문에서 첫 첨부파일 파트를 읽을 때(MultipartUploadReader) 수행합니다.
+ */
+@Component
+public class UploadAdmission {
+
+    private static final Logger log = LoggerFactory.getLogger(UploadAdmission.class);
+
+    private static final long MAX_RETRY_AFTER_SECONDS = 60;
+
+    private final Semaphore permits;
+    private final int maxConcurrent;
+    private final int maxQueue;
+    private final long maxWaitNanos;
+    private final long bytesPerSecond;
+    private final long burstNanos;
+
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger active = new AtomicInteger();
+    private final LongAdder admitted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder totalWaitMillis = new LongAdder();
+    private final LongAccumulator maxWaitMillis = new LongAccumulator(Math::max, 0L);
+    private final LongAdder totalHoldMillis = new LongAdder();
+    private final LongAdder released = new LongAdder();
+    private final LongAdder totalBytes = new LongAdder();
+
+    // 초당 기록량 예산 (다음 기록이 시작될 수 있는 시각)
+    private long nextWriteNanos = System.nanoTime();
+
+    // 최근 1초 기록량 집계
+    private final LongAdder windowBytes = new LongAdder();
+    private volatile long windowStartNanos = System.nanoTime();
+    private volatile long lastBytesPerSecond;
+
+    public UploadAdmission(
+            @Value("${app.file.upload.admission.max-concurrent:8}") int maxConcurrent,
+            @Value("${app.file.upload.admission.max-queue:32}") int maxQueue,
+            @Value("${app.file.upload.admission.max-wait:PT10S}") Duration maxWait,
+            @Value("${app.file.upload.admission.bytes-per-second:80MB}") DataSize bytesPerSecond) {
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.maxConcurrent = maxConcurrent;
+        this.maxQueue = maxQueue;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.bytesPerSecond = bytesPerSecond.toBytes();
+        this.burstNanos = TimeUnit.MILLISECONDS.toNanos(200); // 잠시 쉬었던 만큼 몰아서 쓰는 양 제한
+    }
+
+    /**
+     * 업로드 파일 기록 차례를 기다립니다. 반환된 Permit은 기록이 끝나면 반드시 닫아야 합니다.
+     */
+    public Permit admit() {
+        return acquire();
+    }
+
+    /**
+     * 기록한 바이트 수만큼 초당 예산을 사용합니다. 예산을 넘으면 남은 시간만큼 기다립니다. (FileStreamWriter에서 호출)
+     * 예약 순서대로 시각이 배정되므로 여러 업로드가 예산을 공정하게 나누어 씁니다.
+     */
+    public void consume(int bytes) {
+        totalBytes.add(bytes);
+        recordRate(bytes);
+        if (bytesPerSecond <= 0) {
+            return;
+        }
+
+        long waitNanos;
+        synchronized (this) {
+            long now = System.nanoTime();
+            long start = Math.max(nextWriteNanos, now - burstNanos);
+            nextWriteNanos = start + bytes * TimeUnit.SECONDS.toNanos(1) / bytesPerSecond;
+            waitNanos = start - now;
+        }
+        if (waitNanos > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("파일 업로드가 중단되었습니다.");
+            }
+        }
+    }
+
+    public UploadAdmissionStats stats() {
+        long count = admitted.sum();
+        boolean stale = System.nanoTime() - windowStartNanos > TimeUnit.SECONDS.toNanos(2);
+        return new UploadAdmissionStats(
+                active.get(),
+                queued.get(),
+                count,
+                rejected.sum(),
+                count > 0 ? (double) totalWaitMillis.sum() / count : 0.0,
+                maxWaitMillis.get(),
+                stale ? 0 : lastBytesPerSecond,
+                totalBytes.sum());
+    }
+
+    private Permit acquire() {
+        if (queued.incrementAndGet() > maxQueue) {
+            queued.decrementAndGet();
+            throw reject("업로드 요청이 많아 잠시 후 다시 시도해 주세요.");
+        }
+
+        long start = System.nanoTime();
+        try {
+            if (!permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS)) {
+                throw reject("업로드 대기 시간이 초과되었습니다. 잠시 후 다시 시도해 주세요.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("파일 업로드가 중단되었습니다.");
+        } finally {
+            queued.decrementAndGet();
+        }
+
+        long waited = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        admitted.increment();
+        totalWaitMillis.add(waited);
+        maxWaitMillis.accumulate(waited);
+        active.incrementAndGet();
+        return new Permit(this, System.nanoTime());
+    }
+
+    private void release(long admittedAt) {
+        active.decrementAndGet();
+        totalHoldMillis.add(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - admittedAt));
+        released.increment();
+        permits.release();
+    }
+
+    /**
+     * 평균 기록 시간과 앞선 대기 수로 차례가 올 때까지의 시간을 추정합니다. (1~60초)
+     */
+    private TooManyRequestsException reject(String message) {
+        rejected.increment();
+        long count = released.sum();
+        double averageHoldMillis = count > 0 ? (double) totalHoldMillis.sum() / count : 1000.0;
+        double rounds = (double) queued.get() / maxConcurrent + 1;
+        long retryAfter = Math.min(MAX_RETRY_AFTER_SECONDS,
+                Math.max(1, (long) Math.ceil(averageHoldMillis * rounds / 1000)));
+        log.warn("업로드 요청 거부: {} (대기 {}건, 처리 중 {}건, Retry-After {}s)", message, queued.get(), active.get(),
+                retryAfter);
+        return new TooManyRequestsException(message, retryAfter);
+    }
+
+    private void recordRate(int bytes) {
+        windowBytes.add(bytes);
+        long now = System.nanoTime();
+        long elapsed = now - windowStartNanos;
+        if (elapsed >= TimeUnit.SECONDS.toNanos(1)) {
+            synchronized (windowBytes) {
+                elapsed = now - windowStartNanos;
+                if (elapsed >= TimeUnit.SECONDS.toNanos(1)) {
+                    lastBytesPerSecond = windowBytes.sumThenReset() * TimeUnit.SECONDS.toNanos(1) / elapsed;
+                    windowStartNanos = now;
+                }
+            }
+        }
+    }
+
+    /**
+     * 업로드 기록 허가입니다. try-with-resources로 사용합니다.
+     */
+    public static class Permit implements AutoCloseable {
+
+        private final UploadAdmission admission;
+        private final long admittedAt;
+        private boolean closed;
+
+        private Permit(UploadAdmission admission, long admittedAt) {
+            this.admission = admission;
+            this.admittedAt = admittedAt;
+        }
+
+        @Override
+        public void close() {
+            if (admission != null && !closed) {
+                closed = true;
+                admission.release(admittedAt);
+            }
+        }
+    }
+}
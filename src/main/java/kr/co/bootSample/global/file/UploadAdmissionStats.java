@@ -0,0 +1,24 @@
+package kr.co.bootSample.global.file;
+
+/**
+ * 업로드 수용 제어(UploadAdmission)의 처리 현황입니다.
+ *
+ * @param activeUploads     기록 중인 업로드 요청 수
+ * @param queuedUploads     차례를 기다리는 업로드 요청 수
+ * @param admittedCount     수용된 업로드 요청 수
+ * @param rejectedCount     대기열 초과/대기 시간 초과로 거부(429)된 요청 수
+ * @param averageWaitMillis 수용되기까지 기다린 평균 시간
+ * @param maxWaitMillis     수용되기까지 기다린 최대 시간
+ * @param bytesPerSecond    최근 1초 동안 기록된 바이트 수
+ * @param totalBytes        전체 기록 바이트 수
+ */
+public record UploadAdmissionStats(
+        int activeUploads,
+        int queuedUploads,
+        long admittedCount,
+        long rejectedCount,
+        double averageWaitMillis,
+        long maxWaitMillis,
+        long bytesPerSecond,
+        long totalBytes) {
+}
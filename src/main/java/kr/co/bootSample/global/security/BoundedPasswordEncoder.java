@@ -0,0 +1,34 @@
+package kr.co.bootSample.global.security;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * 해싱과 비밀번호 비교를 PasswordHashingExecutor의 전용 풀에서 실행하는 PasswordEncoder입니다.
+ * 로그인(DaoAuthenticationProvider)과 회원가입이 모두 이 빈을 사용하므로 호출하는 쪽은 변경할 필요가 없습니다.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final PasswordHashingExecutor executor;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, PasswordHashingExecutor executor) {
+        this.delegate = delegate;
+        this.executor = executor;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return executor.execute(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return executor.execute(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        // 해시 형식만 확인하므로 풀을 거치지 않음
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+}
@@ -0,0 +1,68 @@
+package kr.co.bootSample.global.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.List;
+
+/**
+ * 요청을 보낸 클라이언트의 IP를 찾는 컴포넌트입니다. (RateLimitFilter에서 사용)
+ * 운영 환경은 Nginx를 거쳐 Tomcat으로 전달되므로(server.forward-headers-strategy: none) getRemoteAddr()는 항상 프록시 IP입니다.
+ * 직접 연결한 주소가 신뢰하는 프록시일 때만 X-Forwarded-For를 오른쪽부터 읽어, 신뢰하는 프록시가 아닌 첫 주소를 클라이언트로 봅니다.
+ * 클라이언트가 임의로 넣은 값은 프록시가 덧붙인 주소보다 왼쪽에 있으므로 사용되지 않습니다.
+ *
+ * Nginx에는 proxy_set_header X-Forwarded-For $proxy_add_x_forwarded_for; 설정이 필요합니다.
+ */
+@Component
+public class ClientIpResolver {
+
+    private final List<IpAddressMatcher> trustedProxies;
+    private final String forwardedHeader;
+
+    public ClientIpResolver(
+            @Value("${app.security.client-ip.trusted-proxies:127.0.0.0/8,::1,10.0.0.0/8,172.16.0.0/12,192.168.0.0/16}")
+            List<String> trustedProxies,
+            @Value("${app.security.client-ip.header:X-Forwarded-For}") String forwardedHeader) {
+        this.trustedProxies = trustedProxies.stream()
+                .filter(StringUtils::hasText)
+                .map(cidr -> new IpAddressMatcher(cidr.trim()))
+                .toList();
+        this.forwardedHeader = forwardedHeader;
+    }
+
+    public String resolve(HttpServletRequest request) {
+        String remoteAddr = request.getRemoteAddr();
+        if (!isTrusted(remoteAddr)) {
+            return remoteAddr;
+        }
+        String forwarded = request.getHeader(forwardedHeader);
+        if (!StringUtils.hasText(forwarded)) {
+            return remoteAddr;
+        }
+
+        String[] hops = forwarded.split(",");
+        for (int i = hops.length - 1; i >= 0; i--) {
+            String hop = hops[i].trim();
+            if (!hop.isEmpty() && (i == 0 || !isTrusted(hop))) {
+                return hop;
+            }
+        }
+        return remoteAddr;
+    }
+
+    private boolean isTrusted(String address) {
+        try {
+            for (IpAddressMatcher matcher : trustedProxies) {
+                if (matcher.matches(address)) {
+                    return true;
+                }
+            }
+            return false;
+        } catch (IllegalArgumentException e) {
+            return false; // IP 형식이 아닌 값
+        }
+    }
+}
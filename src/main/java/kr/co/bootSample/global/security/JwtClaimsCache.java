@@ -0,0 +1,83 @@
+package kr.co.bootSample.global.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Date;
+
+/**
+ * 서명 검증을 마친 JWT의 Claims를 토큰 만료 시각까지 보관하는 캐시입니다.
+ * 같은 토큰으로 반복되는 요청은 Base64 디코딩, 서명 검증, JSON 파싱 없이 Claims를 재사용합니다.
+ * 키는 토큰 원문 대신 SHA-256 다이제스트를 사용하여 메모리에 토큰을 그대로 보관하지 않습니다.
+ */
+@Component
+public class JwtClaimsCache {
+
+    private final Cache<String, Claims> cache;
+
+    public JwtClaimsCache(
+            @Value("${jwt.claims-cache.max-size:10000}") long maxSize,
+            @Value("${jwt.claims-cache.max-ttl:PT10M}") Duration maxTtl) {
+        long maxTtlNanos = maxTtl.toNanos();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<String, Claims>() {
+                    @Override
+                    public long expireAfterCreate(String key, Claims claims, long currentTime) {
+                        // 토큰 만료 시각과 최대 보관 시간 중 빠른 시점에 만료
+                        Date expiration = claims.getExpiration();
+                        if (expiration == null) {
+                            return maxTtlNanos;
+                        }
+                        long remaining = (expiration.getTime() - System.currentTimeMillis()) * 1_000_000L;
+                        return Math.max(0, Math.min(remaining, maxTtlNanos));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Claims claims, long currentTime,
+                            long currentDuration) {
+                        return expireAfterCreate(key, claims, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * 캐시된 Claims를 반환합니다. 없거나 만료되었으면 null을 반환합니다.
+     */
+    public Claims get(String token) {
+        Claims claims = cache.getIfPresent(digest(token));
+        if (claims != null && claims.getExpiration() != null
+                && claims.getExpiration().getTime() <= System.currentTimeMillis()) {
+            return null;
+        }
+        return claims;
+    }
+
+    public void put(String token, Claims claims) {
+        cache.put(digest(token), claims);
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+}
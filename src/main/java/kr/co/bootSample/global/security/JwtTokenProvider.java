@@ -2,21 +2,29 @@ package kr.co.bootSample.global.security;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
+import jakarta.servlet.http.HttpServletRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.List;
+import java.util.UUID;
 
 /**
  * JWT 토큰을 생성하고 검증하는 기능을 제공하는 컴포넌트입니다.
@@ -26,29 +34,56 @@ public class JwtTokenProvider {
 
     private static final Logger log = LoggerFactory.getLogger(JwtTokenProvider.class);
 
+    private static final String ROLE_CLAIM = "role";
+    private static final String SECURITY_VERSION_CLAIM = "sv";
+
     @Value("${jwt.secret:base64EncodedSecretKeyForBootSampleProjectThatIsLongEnough}")
     private String secretKeyString;
 
-    @Value("${jwt.expiration:86400000}") // 기본 1일
+    @Value("${jwt.expiration:900000}") // 기본 15분 (만료 후에는 리프레시 토큰으로 재발급)
     private long validityInMilliseconds;
 
+    // claims: 토큰의 아이디/권한으로 인증 정보 생성 (보안 버전만 확인), database: 요청마다 회원 정보 조회
+    @Value("${jwt.authentication-mode:claims}")
+    private String authenticationMode;
+
+    private final JwtClaimsCache jwtClaimsCache;
+    private final SecurityVersionProvider securityVersionProvider;
+    private final TokenRevocationService tokenRevocationService;
+
     private SecretKey secretKey;
+    private JwtParser jwtParser;
+
+    public JwtTokenProvider(JwtClaimsCache jwtClaimsCache, SecurityVersionProvider securityVersionProvider,
+            TokenRevocationService tokenRevocationService) {
+        this.jwtClaimsCache = jwtClaimsCache;
+        this.securityVersionProvider = securityVersionProvider;
+        this.tokenRevocationService = tokenRevocationService;
+    }
 
     @PostConstruct
     protected void init() {
         secretKey = Keys.hmacShaKeyFor(secretKeyString.getBytes(StandardCharsets.UTF_8));
+        // 파서는 불변(Thread-safe)이므로 한 번만 생성하여 재사용
+        jwtParser = Jwts.parser().verifyWith(secretKey).build();
     }
 
     /**
-     * 사용자의 아이디와 권한 정보를 담은 JWT 토큰을 발행합니다.
+     * 사용자의 아이디, 권한, 보안 버전 정보를 담은 JWT 토큰을 발행합니다.
+     * 토큰마다 고유 ID(jti)를 부여하여 만료 전에 개별적으로 폐기할 수 있습니다.
      */
-    public String createToken(String username, String role) {
-        Claims claims = Jwts.claims().subject(username).add("role", role).build();
+    public String createToken(String username, String role, Long securityVersion) {
+        Claims claims = Jwts.claims()
+                .subject(username)
+                .add(ROLE_CLAIM, role)
+                .add(SECURITY_VERSION_CLAIM, securityVersion)
+                .build();
         Date now = new Date();
         Date validity = new Date(now.getTime() + validityInMilliseconds);
 
         return Jwts.builder()
                 .claims(claims)
+                .id(UUID.randomUUID().toString())
                 .issuedAt(now)
                 .expiration(validity)
                 .signWith(secretKey)
@@ -56,35 +91,84 @@ public class JwtTokenProvider {
     }
 
     /**
-     * JWT 토큰에서 사용자 정보를 추출하여 Authentication 객체를 반환합니다.
+     * 액세스 토큰의 유효 기간(초)을 반환합니다.
      */
-    public Authentication getAuthentication(String token, UserDetailsService userDetailsService) {
-        UserDetails userDetails = userDetailsService.loadUserByUsername(getUsername(token));
-        return new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
+    public long getValiditySeconds() {
+        return validityInMilliseconds / 1000;
     }
 
     /**
-     * 토큰에서 사용자 아이디(Subject)를 추출합니다.
+     * Header에서 Bearer 토큰을 추출합니다.
      */
-    public String getUsername(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .getSubject();
+    public String resolveToken(HttpServletRequest request) {
+        String bearerToken = request.getHeader("Authorization");
+        if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
+            return bearerToken.substring(7);
+        }
+        return null;
     }
 
     /**
-     * 토큰의 유효성을 검증합니다.
+     * 토큰을 만료 전에 폐기합니다. (로그아웃) 유효하지 않은 토큰이면 무시합니다.
      */
-    public boolean validateToken(String token) {
+    public void revoke(String token) {
+        Claims claims = parseClaims(token);
+        if (claims != null && claims.getId() != null) {
+            tokenRevocationService.revoke(claims.getId(), claims.getExpiration());
+        }
+    }
+
+    /**
+     * 토큰을 한 번 검증하고 Claims를 반환합니다. 유효하지 않은 토큰이면 null을 반환합니다.
+     * 검증된 Claims는 토큰 만료 시각까지 캐시되어, 같은 토큰의 다음 요청은 서명을 다시 검증하지 않습니다.
+     */
+    public Claims parseClaims(String token) {
+        Claims cached = jwtClaimsCache.get(token);
+        if (cached != null) {
+            return cached;
+        }
         try {
-            Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token);
-            return true;
+            Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+            jwtClaimsCache.put(token, claims);
+            return claims;
         } catch (JwtException | IllegalArgumentException e) {
             log.error("유효하지 않은 JWT 토큰입니다: {}", e.getMessage());
-            return false;
+            return null;
         }
     }
+
+    /**
+     * 검증된 Claims의 사용자 정보로 Authentication 객체를 반환합니다.
+     * claims 모드에서는 회원 정보를 조회하지 않고 토큰의 아이디/권한으로 인증 정보를 만들며,
+     * 토큰의 보안 버전이 현재 버전과 다르면(권한 변경 등) null을 반환합니다.
+     * 보안 버전이 없는 이전 토큰은 기존처럼 회원 정보를 조회합니다.
+     * 폐기된 토큰(로그아웃)이면 null을 반환합니다.
+     */
+    public Authentication getAuthentication(Claims claims, UserDetailsService userDetailsService) {
+        String jti = claims.getId();
+        if (jti != null && tokenRevocationService.isRevoked(jti)) {
+            log.info("폐기된 토큰입니다: {}", claims.getSubject());
+            return null;
+        }
+
+        Long tokenVersion = claims.get(SECURITY_VERSION_CLAIM, Long.class);
+        if ("claims".equals(authenticationMode) && tokenVersion != null) {
+            return getAuthenticationFromClaims(claims, tokenVersion);
+        }
+        UserDetails userDetails = userDetailsService.loadUserByUsername(claims.getSubject());
+        return new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
+    }
+
+    private Authentication getAuthenticationFromClaims(Claims claims, Long tokenVersion) {
+        String username = claims.getSubject();
+        if (!tokenVersion.equals(securityVersionProvider.currentVersion(username))) {
+            log.info("보안 버전이 변경되어 토큰을 인증하지 않습니다: {}", username);
+            return null;
+        }
+
+        List<GrantedAuthority> authorities = List.of(
+                new SimpleGrantedAuthority(claims.get(ROLE_CLAIM, String.class)));
+        UserDetails userDetails = new User(username, "", authorities);
+        return new UsernamePasswordAuthenticationToken(userDetails, "", authorities);
+    }
 }
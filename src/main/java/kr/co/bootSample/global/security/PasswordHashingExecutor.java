@@ -0,0 +1,153 @@
+package kr.co.bootSample.global.security;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import kr.co.bootSample.global.error.TooManyRequestsException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 비밀번호 해싱(BCrypt)을 전용 스레드 풀에서 실행하는 컴포넌트입니다.
+ * 로그인/회원가입이 몰리면 CPU를 오래 쓰는 해싱이 Tomcat 요청 스레드를 모두 차지해 게시글 조회까지 지연되므로,
+ * 해싱은 크기가 정해진 풀과 대기열 안에서만 실행하고 대기열이 가득 차면 기다리지 않고 429와 Retry-After로 거부합니다.
+ *
+ * 요청 스레드는 결과를 기다리는 동안 CPU를 쓰지 않으며, 동시에 기다릴 수 있는 요청 수도 풀 크기와 대기열 크기로 제한됩니다.
+ */
+@Component
+public class PasswordHashingExecutor {
+
+    private static final Logger log = LoggerFactory.getLogger(PasswordHashingExecutor.class);
+
+    private static final long MAX_RETRY_AFTER_SECONDS = 30;
+
+    @Value("${app.security.password-hashing.workers:2}")
+    private int workers;
+
+    @Value("${app.security.password-hashing.queue-capacity:32}")
+    private int queueCapacity;
+
+    @Value("${app.security.password-hashing.max-wait:PT5S}")
+    private Duration maxWait;
+
+    private ThreadPoolExecutor executor;
+
+    private final AtomicInteger threadNumber = new AtomicInteger();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+    private final LongAdder totalQueueWaitMicros = new LongAdder();
+    private final LongAccumulator maxQueueWaitMicros = new LongAccumulator(Math::max, 0L);
+    private final LongAdder totalHashMicros = new LongAdder();
+    private final LongAccumulator maxHashMicros = new LongAccumulator(Math::max, 0L);
+
+    @PostConstruct
+    void start() {
+        executor = new ThreadPoolExecutor(workers, workers, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<Runnable>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 해싱 작업을 전용 풀에서 실행하고 결과를 기다립니다.
+     * 대기열이 가득 찼거나 정해진 시간 안에 끝나지 않으면 TooManyRequestsException을 던집니다.
+     */
+    public <T> T execute(Supplier<T> task) {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long startedAt = System.nanoTime();
+                try {
+                    return task.get();
+                } finally {
+                    record(submittedAt, startedAt, System.nanoTime());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw reject("로그인 요청이 많아 잠시 후 다시 시도해 주세요.");
+        }
+
+        try {
+            return future.get(maxWait.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            // 아직 시작하지 않은 작업은 대기열에서 제거 (실행 중인 해싱은 중단되지 않음)
+            future.cancel(true);
+            timedOut.increment();
+            throw reject("로그인 처리 시간이 초과되었습니다. 잠시 후 다시 시도해 주세요.");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("로그인 처리가 중단되었습니다.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("비밀번호 해싱 중 오류가 발생했습니다.", e.getCause());
+        }
+    }
+
+    public PasswordHashingStats stats() {
+        long count = completed.sum();
+        return new PasswordHashingStats(
+                workers,
+                executor.getActiveCount(),
+                executor.getQueue().size(),
+                count,
+                rejected.sum(),
+                timedOut.sum(),
+                count > 0 ? totalQueueWaitMicros.sum() / 1000.0 / count : 0.0,
+                maxQueueWaitMicros.get() / 1000.0,
+                count > 0 ? totalHashMicros.sum() / 1000.0 / count : 0.0,
+                maxHashMicros.get() / 1000.0);
+    }
+
+    private void record(long submittedAt, long startedAt, long finishedAt) {
+        long waitMicros = TimeUnit.NANOSECONDS.toMicros(startedAt - submittedAt);
+        long hashMicros = TimeUnit.NANOSECONDS.toMicros(finishedAt - startedAt);
+        completed.increment();
+        totalQueueWaitMicros.add(waitMicros);
+        maxQueueWaitMicros.accumulate(waitMicros);
+        totalHashMicros.add(hashMicros);
+        maxHashMicros.accumulate(hashMicros);
+    }
+
+    /**
+     * 평균 해싱 시간과 앞선 대기 수로 대기열이 비워질 때까지의 시간을 추정합니다. (1~30초)
+     */
+    private TooManyRequestsException reject(String message) {
+        long count = completed.sum();
+        double averageHashMillis = count > 0 ? totalHashMicros.sum() / 1000.0 / count : 100.0;
+        int queued = executor.getQueue().size();
+        long retryAfter = Math.min(MAX_RETRY_AFTER_SECONDS,
+                Math.max(1, (long) Math.ceil(averageHashMillis * ((double) queued / workers + 1) / 1000)));
+        log.warn("비밀번호 해싱 요청 거부: {} (대기 {}건, Retry-After {}s)", message, queued, retryAfter);
+        return new TooManyRequestsException(message, retryAfter);
+    }
+}
@@ -0,0 +1,28 @@
+package kr.co.bootSample.global.security;
+
+/**
+ * 비밀번호 해싱 전용 풀(PasswordHashingExecutor)의 처리 현황입니다.
+ *
+ * @param workers                해싱 스레드 수
+ * @param activeCount            해싱 중인 작업 수
+ * @param queuedCount            차례를 기다리는 작업 수
+ * @param completedCount         완료된 해싱 작업 수
+ * @param rejectedCount          대기열 초과로 거부(429)된 요청 수
+ * @param timedOutCount          대기 시간 초과로 거부(429)된 요청 수
+ * @param averageQueueWaitMillis 해싱이 시작되기까지 기다린 평균 시간
+ * @param maxQueueWaitMillis     해싱이 시작되기까지 기다린 최대 시간
+ * @param averageHashMillis      해싱에 걸린 평균 시간
+ * @param maxHashMillis          해싱에 걸린 최대 시간
+ */
+public record PasswordHashingStats(
+        int workers,
+        int activeCount,
+        int queuedCount,
+        long completedCount,
+        long rejectedCount,
+        long timedOutCount,
+        double averageQueueWaitMillis,
+        double maxQueueWaitMillis,
+        double averageHashMillis,
+        double maxHashMillis) {
+}
@@ -0,0 +1,111 @@
+package kr.co.bootSample.global.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 검색, 업로드, 로그인 요청의 빈도를 사용자(로그인 전에는 IP)별로 제한하는 필터입니다.
+ * 한 클라이언트가 검색이나 업로드를 반복해 DB 커넥션과 디스크를 독점하지 못하도록, 컨트롤러에 도달하기 전에 429로 거부합니다.
+ * JwtAuthenticationFilter 다음에 실행되어 인증된 사용자는 아이디로 구분합니다.
+ *
+ * 제한 대상이 아닌 요청은 메서드와 경로 비교만 하고 통과합니다.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final byte[] REJECTED_BODY = ("{\"message\":\"요청이 너무 많습니다. 잠시 후 다시 시도해 주세요.\",\"status\":"
+            + HttpStatus.TOO_MANY_REQUESTS.value() + "}").getBytes(StandardCharsets.UTF_8);
+
+    private final RateLimiter rateLimiter;
+    private final ClientIpResolver clientIpResolver;
+
+    public RateLimitFilter(RateLimiter rateLimiter, ClientIpResolver clientIpResolver) {
+        this.rateLimiter = rateLimiter;
+        this.clientIpResolver = clientIpResolver;
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain)
+            throws ServletException, IOException {
+
+        RateLimiter.Route route = route(request);
+        if (route != null) {
+            long waitNanos = rateLimiter.tryAcquire(route, key(route, request));
+            if (waitNanos > 0) {
+                reject(response, waitNanos);
+                return;
+            }
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    /**
+     * 요청에 적용할 제한 경로를 찾습니다. 대상이 아니면 null을 반환합니다.
+     */
+    private RateLimiter.Route route(HttpServletRequest request) {
+        String method = request.getMethod();
+        String uri = request.getRequestURI();
+
+        if ("GET".equals(method)) {
+            // 검색어가 있는 목록 조회만 제한 (LIKE 검색으로 이어질 수 있음)
+            if (uri.equals("/api/boards") && StringUtils.hasText(request.getParameter("keyword"))) {
+                return RateLimiter.Route.SEARCH;
+            }
+            return null;
+        }
+        if ("POST".equals(method) || "PUT".equals(method)) {
+            // 토큰 재발급/로그아웃은 같은 IP의 여러 사용자가 주기적으로 호출하므로 제외
+            if (uri.equals("/api/auth/login") || uri.equals("/api/auth/signup")) {
+                return RateLimiter.Route.LOGIN;
+            }
+            if (uri.startsWith("/api/files/upload/")) {
+                return RateLimiter.Route.UPLOAD;
+            }
+            String contentType = request.getContentType();
+            if (uri.startsWith("/api/boards") && contentType != null && contentType.startsWith("multipart/")) {
+                return RateLimiter.Route.UPLOAD;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 인증된 사용자는 아이디로, 그 외(로그인/회원가입 포함)는 클라이언트 IP(프록시 뒤에서는 X-Forwarded-For)로 구분합니다.
+     */
+    private String key(RateLimiter.Route route, HttpServletRequest request) {
+        if (route != RateLimiter.Route.LOGIN) {
+            Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+            if (auth != null && auth.isAuthenticated()) {
+                return "u:" + auth.getName();
+            }
+        }
+        return "ip:" + clientIpResolver.resolve(request);
+    }
+
+    private void reject(HttpServletResponse response, long waitNanos) throws IOException {
+        long retryAfter = Math.max(1, (long) Math.ceil(waitNanos / (double) TimeUnit.SECONDS.toNanos(1)));
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setContentLength(REJECTED_BODY.length);
+        response.getOutputStream().write(REJECTED_BODY);
+    }
+}
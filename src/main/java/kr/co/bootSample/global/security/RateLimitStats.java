@@ -0,0 +1,20 @@
+package kr.co.bootSample.global.security;
+
+/**
+ * 경로별 요청 빈도 제한(RateLimiter) 현황입니다.
+ *
+ * @param route         제한 경로 (SEARCH, UPLOAD, LOGIN)
+ * @param capacity      한 번에 몰아서 허용하는 요청 수
+ * @param perSecond     초당 채워지는 요청 수
+ * @param trackedKeys   추적 중인 사용자/IP 수
+ * @param allowedCount  허용된 요청 수
+ * @param rejectedCount 거부(429)된 요청 수
+ */
+public record RateLimitStats(
+        String route,
+        int capacity,
+        double perSecond,
+        int trackedKeys,
+        long allowedCount,
+        long rejectedCount) {
+}
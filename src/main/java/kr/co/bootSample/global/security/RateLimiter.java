@@ -0,0 +1,164 @@
+package kr.co.bootSample.global.security;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * 경로(검색/업로드/로그인)와 사용자(또는 IP)별 요청 빈도를 제한하는 컴포넌트입니다. (RateLimitFilter에서 사용)
+ * 토큰 버킷과 같은 결과를 내는 GCRA 방식으로, 키마다 "다음 요청이 버킷을 넘치지 않는 시각" 하나만 AtomicLong에 보관하고
+ * CAS로 갱신하므로 잠금 없이 동작합니다. 키는 ConcurrentHashMap에 분산되어 서로 다른 사용자끼리 경합하지 않습니다.
+ *
+ * 버킷이 가득 찬(오래 요청이 없던) 키는 새 버킷과 같으므로 주기적으로 제거합니다.
+ */
+@Component
+public class RateLimiter {
+
+    private static final Logger log = LoggerFactory.getLogger(RateLimiter.class);
+
+    /**
+     * 요청 빈도를 제한하는 경로입니다.
+     */
+    public enum Route {
+        SEARCH, UPLOAD, LOGIN
+    }
+
+    private final Map<Route, Limit> limits = new EnumMap<Route, Limit>(Route.class);
+    private final LongSupplier nanoTime;
+
+    @Autowired
+    public RateLimiter(
+            @Value("${app.security.rate-limit.search.capacity:20}") int searchCapacity,
+            @Value("${app.security.rate-limit.search.per-second:2}") double searchPerSecond,
+            @Value("${app.security.rate-limit.upload.capacity:5}") int uploadCapacity,
+            @Value("${app.security.rate-limit.upload.per-second:0.2}") double uploadPerSecond,
+            @Value("${app.security.rate-limit.login.capacity:10}") int loginCapacity,
+            @Value("${app.security.rate-limit.login.per-second:0.5}") double loginPerSecond) {
+        this(System::nanoTime, searchCapacity, searchPerSecond, uploadCapacity, uploadPerSecond,
+                loginCapacity, loginPerSecond);
+    }
+
+    /**
+     * 시간 원천(나노초, System.nanoTime과 같은 단조 증가 값)을 지정합니다. (테스트용)
+     */
+    RateLimiter(LongSupplier nanoTime, int searchCapacity, double searchPerSecond, int uploadCapacity,
+            double uploadPerSecond, int loginCapacity, double loginPerSecond) {
+        this.nanoTime = nanoTime;
+        register(Route.SEARCH, searchCapacity, searchPerSecond);
+        register(Route.UPLOAD, uploadCapacity, uploadPerSecond);
+        register(Route.LOGIN, loginCapacity, loginPerSecond);
+    }
+
+    private void register(Route route, int capacity, double perSecond) {
+        // 용량이나 속도가 0 이하면 해당 경로는 제한하지 않음
+        if (capacity > 0 && perSecond > 0) {
+            limits.put(route, new Limit(capacity, perSecond, nanoTime));
+        }
+    }
+
+    /**
+     * 요청 하나를 허용할 수 있는지 확인합니다.
+     * 허용하면 0을, 거부하면 다음 요청이 허용되기까지 남은 시간(나노초)을 반환합니다.
+     */
+    public long tryAcquire(Route route, String key) {
+        Limit limit = limits.get(route);
+        return limit != null ? limit.tryAcquire(key) : 0L;
+    }
+
+    /**
+     * 버킷이 가득 찬 키를 제거합니다.
+     */
+    @Scheduled(fixedDelayString = "${app.security.rate-limit.idle-eviction-interval-ms:60000}")
+    public void evictIdle() {
+        long now = nanoTime.getAsLong();
+        int evicted = 0;
+        for (Limit limit : limits.values()) {
+            evicted += limit.evictIdle(now);
+        }
+        if (evicted > 0) {
+            log.debug("요청 빈도 제한 유휴 키 제거: {}건", evicted);
+        }
+    }
+
+    public List<RateLimitStats> stats() {
+        List<RateLimitStats> stats = new ArrayList<RateLimitStats>(limits.size());
+        limits.forEach((route, limit) -> stats.add(new RateLimitStats(
+                route.name(),
+                limit.capacity,
+                limit.perSecond,
+                limit.buckets.size(),
+                limit.allowed.sum(),
+                limit.rejected.sum())));
+        return stats;
+    }
+
+    /**
+     * 경로별 제한 설정과 키별 버킷입니다.
+     */
+    private static class Limit {
+
+        private final int capacity;
+        private final double perSecond;
+        private final long emissionNanos; // 토큰 하나가 채워지는 시간
+        private final long toleranceNanos; // 한 번에 몰아서 허용하는 양 (capacity - 1개)
+        private final LongSupplier nanoTime;
+
+        private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<String, AtomicLong>();
+        private final LongAdder allowed = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+
+        private Limit(int capacity, double perSecond, LongSupplier nanoTime) {
+            this.capacity = capacity;
+            this.perSecond = perSecond;
+            this.emissionNanos = (long) (TimeUnit.SECONDS.toNanos(1) / perSecond);
+            this.toleranceNanos = emissionNanos * (capacity - 1);
+            this.nanoTime = nanoTime;
+        }
+
+        private long tryAcquire(String key) {
+            AtomicLong bucket = buckets.get(key);
+            if (bucket == null) {
+                bucket = buckets.computeIfAbsent(key, k -> new AtomicLong(nanoTime.getAsLong()));
+            }
+
+            while (true) {
+                long now = nanoTime.getAsLong();
+                long tat = bucket.get();
+                long start = tat - now > 0 ? tat : now;
+                long waitNanos = start - toleranceNanos - now;
+                if (waitNanos > 0) {
+                    rejected.increment();
+                    return waitNanos;
+                }
+                if (bucket.compareAndSet(tat, start + emissionNanos)) {
+                    allowed.increment();
+                    return 0L;
+                }
+            }
+        }
+
+        private int evictIdle(long now) {
+            int evicted = 0;
+            for (Map.Entry<String, AtomicLong> entry : buckets.entrySet()) {
+                // 제거 직전에 참조를 얻은 요청의 기록은 사라질 수 있으나, 가득 찬 버킷이었으므로 최대 1건만 더 허용됨
+                if (entry.getValue().get() - now <= 0 && buckets.remove(entry.getKey(), entry.getValue())) {
+                    evicted++;
+                }
+            }
+            return evicted;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package kr.co.bootSample.global.security;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 만료 전에 폐기(로그아웃 등)된 액세스 토큰 정보를 담는 엔티티입니다.
+ * 토큰 만료 시각이 지나면 서명 검증에서 거부되므로 그때까지만 보관합니다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "revoked_token", indexes = @Index(columnList = "expires_at"))
+public class RevokedToken {
+
+    @Id
+    @Column(length = 36)
+    private String jti; // 토큰 ID (jti 클레임)
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    public RevokedToken(String jti, LocalDateTime expiresAt) {
+        this.jti = jti;
+        this.expiresAt = expiresAt;
+    }
+}
@@ -0,0 +1,13 @@
+package kr.co.bootSample.global.security;
+
+/**
+ * 회원별 보안 버전(권한 변경 등 기존 토큰을 무효화해야 하는 변경이 있을 때마다 증가)을 제공하는 인터페이스입니다.
+ * 토큰에 담긴 버전과 현재 버전이 다르면 DB 조회 없이 만든 인증 정보를 신뢰하지 않습니다.
+ */
+public interface SecurityVersionProvider {
+
+    /**
+     * 회원의 현재 보안 버전을 반환합니다. 회원이 없으면 null을 반환합니다.
+     */
+    Long currentVersion(String username);
+}
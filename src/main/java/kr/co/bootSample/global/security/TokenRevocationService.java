@@ -0,0 +1,118 @@
+package kr.co.bootSample.global.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import kr.co.bootSample.global.common.TransactionUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 만료 전에 폐기된 액세스 토큰을 관리하는 서비스입니다.
+ * 폐기 정보는 revoked_token 테이블에 저장하고, 요청마다 DB를 조회하지 않도록 메모리의 블룸 필터로 먼저 확인합니다.
+ * 필터에 없으면(대부분의 요청) 바로 통과시키고, 필터가 포함 가능성을 알릴 때만 DB로 확인한 결과를 잠시 캐시합니다.
+ *
+ * 필터는 주기적으로 테이블에서 다시 만들어지므로, 다른 서버 인스턴스에서 폐기한 토큰은 최대 재구성 주기 안에 반영됩니다.
+ */
+@Service
+public class TokenRevocationService {
+
+    private static final Logger log = LoggerFactory.getLogger(TokenRevocationService.class);
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final int expectedInsertions;
+    private final double falsePositiveRate;
+    private final Cache<String, Boolean> confirmed;
+
+    private volatile BloomFilter filter;
+
+    // 이 인스턴스에서 폐기한 토큰 (재구성 중 커밋된 폐기가 새 필터에서 빠지지 않도록 다시 추가)
+    private final Map<String, Long> recentRevocations = new ConcurrentHashMap<String, Long>();
+
+    public TokenRevocationService(RevokedTokenRepository revokedTokenRepository,
+            @Value("${jwt.revocation.expected-insertions:10000}") int expectedInsertions,
+            @Value("${jwt.revocation.false-positive-rate:0.01}") double falsePositiveRate,
+            @Value("${jwt.revocation.rebuild-interval-ms:60000}") long rebuildIntervalMillis) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.confirmed = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(Duration.ofMillis(rebuildIntervalMillis))
+                .build();
+    }
+
+    @PostConstruct
+    void init() {
+        rebuild();
+    }
+
+    /**
+     * 토큰이 폐기되었는지 확인합니다.
+     */
+    public boolean isRevoked(String jti) {
+        if (!filter.mightContain(jti)) {
+            return false;
+        }
+        return confirmed.get(jti, revokedTokenRepository::existsById);
+    }
+
+    /**
+     * 토큰을 만료 시각까지 폐기합니다. 트랜잭션 안에서 호출되면 커밋 이후에 필터에 반영됩니다.
+     */
+    @Transactional
+    public void revoke(String jti, Date expiresAt) {
+        if (expiresAt == null || expiresAt.getTime() <= System.currentTimeMillis()) {
+            return; // 이미 만료된 토큰은 서명 검증에서 거부됨
+        }
+        revokedTokenRepository.save(new RevokedToken(jti,
+                LocalDateTime.ofInstant(expiresAt.toInstant(), ZoneId.systemDefault())));
+        TransactionUtils.afterCommit(() -> {
+            recentRevocations.put(jti, expiresAt.getTime());
+            filter.put(jti);
+            confirmed.put(jti, Boolean.TRUE);
+        });
+    }
+
+    /**
+     * 만료된 폐기 정보를 삭제하고 필터를 다시 만듭니다.
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.rebuild-interval-ms:60000}")
+    @Transactional
+    public void refresh() {
+        int deleted = revokedTokenRepository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            log.debug("만료된 폐기 토큰 정보 삭제: {}건", deleted);
+        }
+        rebuild();
+    }
+
+    private void rebuild() {
+        List<String> jtis = revokedTokenRepository.findActiveJtis(LocalDateTime.now());
+        // 재구성 사이에 추가될 폐기까지 고려하여 여유 있게 생성
+        BloomFilter rebuilt = BloomFilter.create(Math.max(expectedInsertions, jtis.size() * 2), falsePositiveRate);
+        jtis.forEach(rebuilt::put);
+
+        long now = System.currentTimeMillis();
+        recentRevocations.values().removeIf(expiresAt -> expiresAt <= now);
+        recentRevocations.keySet().forEach(rebuilt::put);
+
+        filter = rebuilt;
+        // 교체 직전에 이전 필터에만 추가된 폐기를 새 필터에 다시 반영
+        recentRevocations.keySet().forEach(rebuilt::put);
+        confirmed.invalidateAll();
+        log.debug("폐기 토큰 필터 재구성: {}건", jtis.size());
+    }
+}
@@ -0,0 +1,301 @@
+package kr.co.bootSample;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HTTP 부하 테스트(main 클래스)의 공통 기능입니다.
+ * load.base-url 시스템 속성이 주어지면 실행 중인 서버를 대상으로 하고, 없으면 인메모리 H2로 애플리케이션을 임시 포트에 띄웁니다.
+ * 실행: mvn -Pload-test test-compile exec:exec -Dload.main=(부하 테스트 클래스) -Dload.args="(서버 설정)"
+ * 부하 테스트는 별도 JVM에서 실행되므로 시스템 속성은 -Dload.jvm.args="-Dload.base-url=http://..."처럼 넘깁니다.
+ */
+public final class LoadTestSupport implements AutoCloseable {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final String BOUNDARY = "----bootSampleLoadTest";
+
+    private final String baseUrl;
+    private final ConfigurableApplicationContext context;
+    private final Path workDir;
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private LoadTestSupport(String baseUrl, ConfigurableApplicationContext context, Path workDir) {
+        this.baseUrl = baseUrl;
+        this.context = context;
+        this.workDir = workDir;
+    }
+
+    /**
+     * 대상 서버를 준비합니다. 서버를 직접 띄우는 경우 serverArgs로 설정(--키=값)을 덮어쓸 수 있습니다.
+     */
+    public static LoadTestSupport start(String... serverArgs) throws IOException {
+        String baseUrl = System.getProperty("load.base-url");
+        if (baseUrl != null && !baseUrl.isBlank()) {
+            return new LoadTestSupport(baseUrl.replaceAll("/$", ""), null, null);
+        }
+
+        // DevTools가 main 스레드에서 애플리케이션을 다시 시작하지 않도록 끔
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        Path workDir = Files.createTempDirectory("load-test");
+        List<String> args = new ArrayList<String>(List.of(
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:load-test;MODE=MariaDB;DATABASE_TO_LOWER=TRUE;DB_CLOSE_ON_EXIT=FALSE",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN",
+                "--logging.level.kr.co.bootSample=WARN",
+                "--logging.level.org.hibernate.SQL=WARN",
+                "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+                "--app.file.upload-dir=" + workDir.resolve("uploads"),
+                "--app.search.index-file=" + workDir.resolve("search-index/board.idx")));
+        args.addAll(Arrays.asList(serverArgs));
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(BootSampleApplication.class)
+                .run(args.toArray(new String[0]));
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        return new LoadTestSupport("http://localhost:" + port, context, workDir);
+    }
+
+    public String baseUrl() {
+        return baseUrl;
+    }
+
+    /**
+     * 직접 띄운 서버의 빈을 반환합니다. 실행 중인 서버를 대상으로 하면 null을 반환합니다.
+     */
+    public <T> T bean(Class<T> type) {
+        return context != null ? context.getBean(type) : null;
+    }
+
+    public HttpClient client() {
+        return client;
+    }
+
+    public HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(Duration.ofSeconds(30));
+    }
+
+    /**
+     * 회원을 가입시키고(이미 있으면 무시) 로그인해 액세스 토큰을 반환합니다.
+     */
+    public String signupAndLogin(String username, String password) throws IOException, InterruptedException {
+        post("/api/auth/signup", Map.of("username", username, "password", password, "nickname", username));
+        HttpResponse<String> login = post("/api/auth/login", Map.of("username", username, "password", password));
+        if (login.statusCode() != 200) {
+            throw new IllegalStateException("로그인 실패: " + login.statusCode() + " " + login.body());
+        }
+        return objectMapper.readTree(login.body()).get("accessToken").asText();
+    }
+
+    /**
+     * 게시글을 작성하고 ID를 반환합니다. (첨부파일 없음)
+     */
+    public long createBoard(String token, String title, String content) throws IOException, InterruptedException {
+        return createBoard(token, title, content, null, null);
+    }
+
+    /**
+     * 첨부파일 하나와 함께 게시글을 작성하고 ID를 반환합니다.
+     */
+    public long createBoard(String token, String title, String content, String filename, byte[] file)
+            throws IOException, InterruptedException {
+        String board = objectMapper.writeValueAsString(Map.of("title", title, "content", content));
+        List<byte[]> body = new ArrayList<byte[]>();
+        body.add(("--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"board\"; filename=\"blob\"\r\n"
+                + "Content-Type: application/json\r\n\r\n" + board + "\r\n").getBytes(StandardCharsets.UTF_8));
+        if (file != null) {
+            body.add(("--" + BOUNDARY + "\r\n"
+                    + "Content-Disposition: form-data; name=\"files\"; filename=\"" + filename + "\"\r\n"
+                    + "Content-Type: application/octet-stream\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+            body.add(file);
+            body.add("\r\n".getBytes(StandardCharsets.US_ASCII));
+        }
+        body.add(("--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.US_ASCII));
+        HttpResponse<String> response = client.send(request("/api/boards")
+                .header("Authorization", "Bearer " + token)
+                .header("Content-Type", "multipart/form-data; boundary=" + BOUNDARY)
+                .POST(HttpRequest.BodyPublishers.ofByteArrays(body))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("게시글 작성 실패: " + response.statusCode() + " " + response.body());
+        }
+        return Long.parseLong(response.body().trim());
+    }
+
+    /**
+     * 에디터 이미지 업로드로 파일을 저장하고 /uploads/ 원본 경로를 반환합니다.
+     */
+    public String uploadEditorImage(String token, String filename, byte[] image)
+            throws IOException, InterruptedException {
+        byte[] head = ("--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"image\"; filename=\"" + filename + "\"\r\n"
+                + "Content-Type: application/octet-stream\r\n\r\n").getBytes(StandardCharsets.UTF_8);
+        byte[] tail = ("\r\n--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.UTF_8);
+        HttpResponse<String> response = client.send(request("/api/files/upload/image")
+                .header("Authorization", "Bearer " + token)
+                .header("Content-Type", "multipart/form-data; boundary=" + BOUNDARY)
+                .POST(HttpRequest.BodyPublishers.ofByteArrays(List.of(head, image, tail)))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("이미지 업로드 실패: " + response.statusCode() + " " + response.body());
+        }
+        return objectMapper.readTree(response.body()).get("original").asText();
+    }
+
+    public JsonNode getJson(String path, String token) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(request(path).header("Authorization", "Bearer " + token)
+                .GET().build(), HttpResponse.BodyHandlers.ofString());
+        return objectMapper.readTree(response.body());
+    }
+
+    public HttpResponse<String> post(String path, Object json) throws IOException, InterruptedException {
+        return client.send(request(path)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(json)))
+                .build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    /**
+     * threads개의 스레드가 duration 동안 request를 반복 호출하고 응답 시간과 상태 코드를 집계합니다.
+     * request는 HTTP 상태 코드를 반환하며, 예외는 상태 코드 -1로 집계합니다.
+     */
+    public static Latencies run(int threads, Duration duration, Callable<Integer> request)
+            throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<Future<Latencies>> futures = new ArrayList<Future<Latencies>>();
+        for (int i = 0; i < threads; i++) {
+            futures.add(executor.submit(() -> {
+                Latencies latencies = new Latencies();
+                while (System.nanoTime() < deadline) {
+                    long start = System.nanoTime();
+                    int status;
+                    try {
+                        status = request.call();
+                    } catch (Exception e) {
+                        status = -1;
+                    }
+                    latencies.add(System.nanoTime() - start, status);
+                }
+                return latencies;
+            }));
+        }
+
+        Latencies total = new Latencies();
+        total.elapsedNanos = duration.toNanos();
+        try {
+            for (Future<Latencies> future : futures) {
+                total.merge(future.get());
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            executor.shutdownNow();
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        }
+        return total;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (context != null) {
+            context.close();
+        }
+        if (workDir != null) {
+            FileSystemUtils.deleteRecursively(workDir);
+        }
+    }
+
+    /**
+     * 응답 시간(나노초)과 상태 코드별 건수를 모은 결과입니다.
+     */
+    public static final class Latencies {
+
+        private long[] nanos = new long[1024];
+        private int count;
+        private long elapsedNanos;
+        private final Map<Integer, Integer> statuses = new TreeMap<Integer, Integer>();
+
+        void add(long latencyNanos, int status) {
+            if (count == nanos.length) {
+                nanos = Arrays.copyOf(nanos, count * 2);
+            }
+            nanos[count++] = latencyNanos;
+            statuses.merge(status, 1, Integer::sum);
+        }
+
+        void merge(Latencies other) {
+            if (count + other.count > nanos.length) {
+                nanos = Arrays.copyOf(nanos, count + other.count);
+            }
+            System.arraycopy(other.nanos, 0, nanos, count, other.count);
+            count += other.count;
+            other.statuses.forEach((status, n) -> statuses.merge(status, n, Integer::sum));
+        }
+
+        public int count() {
+            return count;
+        }
+
+        public double requestsPerSecond() {
+            return count / (elapsedNanos / 1e9);
+        }
+
+        /**
+         * 백분위 응답 시간(ms)을 반환합니다.
+         */
+        public double percentileMillis(double percentile) {
+            if (count == 0) {
+                return 0;
+            }
+            long[] sorted = Arrays.copyOf(nanos, count);
+            Arrays.sort(sorted);
+            int index = (int) Math.min(count - 1, Math.ceil(percentile / 100 * count) - 1);
+            return sorted[Math.max(0, index)] / 1e6;
+        }
+
+        public Map<Integer, Integer> statuses() {
+            return statuses;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d건, %.1f req/s, p50 %.2fms, p95 %.2fms, p99 %.2fms, max %.2fms, 상태 %s",
+                    count, requestsPerSecond(), percentileMillis(50), percentileMillis(95), percentileMillis(99),
+                    percentileMillis(100), statuses);
+        }
+    }
+}
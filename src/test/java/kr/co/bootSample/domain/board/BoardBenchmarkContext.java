@@ -0,0 +1,126 @@
+package kr.co.bootSample.domain.board;
+
+import kr.co.bootSample.global.config.QuerydslConfig;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 게시글 조회 벤치마크용 JPA 컨텍스트입니다. 인메모리 H2(MariaDB 호환 모드)에 게시글을 미리 채워 둡니다.
+ * SQL 로그는 측정값을 왜곡하므로 끕니다.
+ */
+final class BoardBenchmarkContext implements AutoCloseable {
+
+    private static final int INSERT_BATCH_SIZE = 5000;
+
+    private final ConfigurableApplicationContext context;
+
+    private BoardBenchmarkContext(ConfigurableApplicationContext context) {
+        this.context = context;
+    }
+
+    /**
+     * 작성자 100명과 게시글 boards건을 생성합니다. 제목은 "게시글 {번호}", 본문은 contentLength자 내외의 HTML입니다.
+     */
+    static BoardBenchmarkContext start(int boards, int contentLength) {
+        return start("jdbc:h2:mem:board-benchmark", boards, contentLength);
+    }
+
+    /**
+     * 지정한 H2 데이터베이스(jdbc:h2:mem:..., jdbc:h2:tcp://... 등)를 사용합니다.
+     * extraSources로 벤치마크 전용 빈(BeanPostProcessor 등)을 추가할 수 있습니다.
+     */
+    static BoardBenchmarkContext start(String h2Url, int boards, int contentLength, Class<?>... extraSources) {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(Config.class)
+                .sources(extraSources)
+                .web(WebApplicationType.NONE)
+                .run("--spring.profiles.active=benchmark",
+                        "--spring.datasource.url=" + h2Url
+                                + ";MODE=MariaDB;DATABASE_TO_LOWER=TRUE;DB_CLOSE_ON_EXIT=FALSE",
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.jpa.hibernate.ddl-auto=create-drop",
+                        "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN",
+                        "--logging.level.kr.co.bootSample=WARN",
+                        "--logging.level.org.hibernate.SQL=WARN",
+                        "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN");
+        BoardBenchmarkContext benchmark = new BoardBenchmarkContext(context);
+        benchmark.seed(boards, contentLength);
+        return benchmark;
+    }
+
+    BoardRepository boardRepository() {
+        return context.getBean(BoardRepository.class);
+    }
+
+    <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    JdbcTemplate jdbcTemplate() {
+        return context.getBean(JdbcTemplate.class);
+    }
+
+    /**
+     * 조회를 읽기 전용 트랜잭션(영속성 컨텍스트 하나) 안에서 실행하기 위한 템플릿입니다.
+     */
+    TransactionTemplate readOnlyTransaction() {
+        TransactionTemplate tx = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        tx.setReadOnly(true);
+        return tx;
+    }
+
+    long maxBoardId() {
+        return jdbcTemplate().queryForObject("SELECT MAX(board_id) FROM board", Long.class);
+    }
+
+    private void seed(int boards, int contentLength) {
+        JdbcTemplate jdbc = jdbcTemplate();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (int i = 1; i <= 100; i++) {
+            jdbc.update("INSERT INTO member (username, password, nickname, role, security_version, created_at, "
+                    + "modified_at) VALUES (?, 'password', ?, 'USER', 0, ?, ?)", "user" + i, "작성자" + i, now, now);
+        }
+        List<Long> memberIds = jdbc.queryForList("SELECT member_id FROM member ORDER BY member_id", Long.class);
+
+        String content = "<p>" + "스프링 부트 게시판 본문입니다. ".repeat(Math.max(1, contentLength / 17)) + "</p>";
+        List<Object[]> rows = new ArrayList<Object[]>(INSERT_BATCH_SIZE);
+        for (int i = 1; i <= boards; i++) {
+            rows.add(new Object[] { "게시글 " + i, content, memberIds.get(i % memberIds.size()), now, now });
+            if (rows.size() == INSERT_BATCH_SIZE || i == boards) {
+                jdbc.batchUpdate("INSERT INTO board (title, content, member_id, created_at, modified_at) "
+                        + "VALUES (?, ?, ?, ?, ?)", rows);
+                rows.clear();
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @EntityScan(basePackages = "kr.co.bootSample")
+    @EnableJpaRepositories(basePackages = "kr.co.bootSample")
+    @Import(QuerydslConfig.class)
+    static class Config {
+    }
+}
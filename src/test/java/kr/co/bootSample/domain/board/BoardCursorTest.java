@@ -0,0 +1,50 @@
+package kr.co.bootSample.domain.board;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BoardCursorTest {
+
+    @Test
+    @DisplayName("인코딩한 커서는 같은 ID로 디코딩된다")
+    void roundTrip() {
+        for (long id : new long[] { 1L, 42L, Long.MAX_VALUE }) {
+            assertThat(BoardCursor.decode(BoardCursor.encode(id))).isEqualTo(id);
+        }
+    }
+
+    @Test
+    @DisplayName("커서는 URL에 그대로 넣을 수 있는 문자만 사용한다")
+    void urlSafe() {
+        assertThat(BoardCursor.encode(Long.MAX_VALUE)).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    @DisplayName("null이나 빈 값은 첫 페이지로 처리한다")
+    void emptyCursor() {
+        assertThat(BoardCursor.encode(null)).isNull();
+        assertThat(BoardCursor.decode(null)).isNull();
+        assertThat(BoardCursor.decode(" ")).isNull();
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 커서는 거부한다")
+    void invalidCursor() {
+        String withoutPrefix = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("42".getBytes(StandardCharsets.UTF_8));
+        String notNumber = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("b:abc".getBytes(StandardCharsets.UTF_8));
+
+        for (String cursor : new String[] { "%%%", withoutPrefix, notNumber }) {
+            assertThatThrownBy(() -> BoardCursor.decode(cursor))
+                    .isInstanceOf(RuntimeException.class)
+                    .hasMessage("잘못된 커서 값입니다.");
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package kr.co.bootSample.domain.board;
+
+import jakarta.persistence.EntityManagerFactory;
+import kr.co.bootSample.domain.board.dto.BoardDetailResponse;
+import kr.co.bootSample.domain.board.dto.CommentResponse;
+import kr.co.bootSample.domain.board.dto.FileResponse;
+import kr.co.bootSample.domain.member.Member;
+import kr.co.bootSample.global.config.QuerydslConfig;
+import kr.co.bootSample.global.file.FileService;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게시글 상세 조회(BoardService.findById)가 2개의 SQL(게시글+작성자+첨부파일, 댓글+댓글 작성자)만 실행하고,
+ * 이후 조회는 상세 응답 캐시에서 SQL 없이 응답하는지 확인합니다.
+ * LONGTEXT 등 MariaDB 컬럼 정의를 그대로 사용하도록 H2를 MariaDB 호환 모드로 실행합니다.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:board-detail;MODE=MariaDB;DATABASE_TO_LOWER=TRUE",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "app.board.detail-comment-limit=3"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ QuerydslConfig.class, BoardService.class, CommentService.class, BoardCountCache.class,
+        BoardDetailCache.class, BoardViewCounter.class, BoardListVersion.class })
+class BoardDetailQueryTest {
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private BoardService boardService;
+
+    @MockitoBean
+    private FileService fileService;
+
+    @MockitoBean
+    private BoardSearchIndex boardSearchIndex;
+
+    private Long boardId;
+
+    @BeforeEach
+    void setUp() {
+        Member writer = em.persist(Member.builder()
+                .username("writer").password("password").nickname("작성자").build());
+        Member commenter = em.persist(Member.builder()
+                .username("commenter").password("password").nickname("댓글러").build());
+
+        Board board = em.persist(Board.builder().title("제목").content("<p>내용</p>").member(writer).build());
+        for (int i = 0; i < 3; i++) {
+            em.persist(BoardFile.builder()
+                    .board(board)
+                    .originName("file" + i + ".txt")
+                    .storedName("stored" + i + ".txt")
+                    .filePath("stored" + i + ".txt")
+                    .fileSize(10L)
+                    .fileType("text/plain")
+                    .build());
+        }
+        for (int i = 0; i < 5; i++) {
+            em.persist(Comment.builder().content("댓글" + i).board(board).member(i % 2 == 0 ? writer : commenter).build());
+        }
+        em.flush();
+        em.clear();
+        boardId = board.getBoardId();
+    }
+
+    @Test
+    @DisplayName("상세 조회는 작성자, 첨부파일, 댓글 작성자까지 2개의 SQL로 조회해 응답으로 변환한다")
+    void loadsDetailWithTwoStatements() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        BoardDetailResponse detail = boardService.findById(boardId);
+
+        assertThat(detail.nickname()).isEqualTo("작성자");
+        assertThat(detail.username()).isEqualTo("writer");
+        assertThat(detail.fileList()).extracting(FileResponse::originName).hasSize(3);
+        assertThat(detail.commentList()).hasSize(3);
+        assertThat(detail.commentList()).extracting(CommentResponse::nickname).containsOnly("작성자", "댓글러");
+        assertThat(detail.nextCommentCursor()).isNotNull();
+        assertThat(detail.viewCount()).isEqualTo(1);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("캐시된 상세 조회는 SQL을 실행하지 않고 조회수만 더해 응답한다")
+    void servesCachedDetailWithoutStatements() {
+        boardService.findById(boardId);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        BoardDetailResponse detail = boardService.findById(boardId);
+
+        assertThat(detail.fileList()).hasSize(3);
+        assertThat(detail.viewCount()).isEqualTo(2);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+}
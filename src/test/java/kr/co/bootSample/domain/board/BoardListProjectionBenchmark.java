@@ -0,0 +1,183 @@
+package kr.co.bootSample.domain.board;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import kr.co.bootSample.domain.board.dto.BoardResponse;
+import kr.co.bootSample.domain.member.QMember;
+import org.h2.tools.Server;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static kr.co.bootSample.domain.board.QBoard.board;
+
+/**
+ * 게시글 목록 1페이지(20건)를 엔티티로 읽던 기존 방식과 BoardResponse 프로젝션을 비교하는 JMH 벤치마크입니다.
+ *
+ * entity: 기존 방식. Board(LONGTEXT 본문 포함)와 작성자를 fetch join으로 읽은 뒤 BoardResponse로 변환
+ * projection: BoardRepository.findSliceByKeyword (ID 선조회 후 목록 컬럼만 프로젝션)
+ *
+ * 인메모리 H2는 저장된 문자열 객체를 그대로 돌려주어 드라이버의 수신/디코딩 비용이 나타나지 않으므로,
+ * MariaDB처럼 값이 네트워크로 전달되어 새 문자열로 만들어지도록 H2 TCP 서버에 접속합니다.
+ * 요청당 힙 할당량은 -prof gc의 gc.alloc.rate.norm(B/op)으로 확인하고,
+ * DB에서 받아오는 데이터 양은 준비 단계에서 JDBC ResultSet으로 읽은 컬럼 값의 바이트 수(문자열은 UTF-8 기준)를 세어 출력합니다.
+ * 실행: mvn -Pbenchmark test-compile exec:exec -Djmh.args="BoardListProjectionBenchmark -prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = { "-Xmx2g" })
+public class BoardListProjectionBenchmark {
+
+    private static final int BOARDS = 1000;
+    private static final int PAGE_SIZE = 20;
+
+    // 본문 글자 수 (에디터 HTML 기준 짧은 글, 이미지/표가 포함된 긴 글)
+    @Param({ "2000", "20000" })
+    private int contentLength;
+
+    private Server h2Server;
+    private BoardBenchmarkContext context;
+    private BoardRepository boardRepository;
+    private JPAQueryFactory queryFactory;
+    private TransactionTemplate tx;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        h2Server = Server.createTcpServer("-tcpPort", "0", "-ifNotExists").start();
+        String url = "jdbc:h2:tcp://localhost:" + h2Server.getPort() + "/mem:board-projection";
+        context = BoardBenchmarkContext.start(url, BOARDS, contentLength, JdbcByteCounter.class);
+        boardRepository = context.boardRepository();
+        queryFactory = context.bean(JPAQueryFactory.class);
+        tx = context.readOnlyTransaction();
+
+        List<BoardResponse> before = countBytes("entity", this::entity);
+        List<BoardResponse> after = countBytes("projection", this::projection);
+        if (!before.equals(after)) {
+            throw new IllegalStateException("엔티티 조회와 프로젝션의 결과가 다릅니다.");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+        h2Server.stop();
+    }
+
+    @Benchmark
+    public List<BoardResponse> entity() {
+        return tx.execute(status -> {
+            List<Board> boards = queryFactory
+                    .selectFrom(board)
+                    .leftJoin(board.member, QMember.member).fetchJoin()
+                    .orderBy(board.boardId.desc())
+                    .offset(0)
+                    .limit(PAGE_SIZE + 1L)
+                    .fetch();
+            return boards.stream()
+                    .limit(PAGE_SIZE)
+                    .map(b -> new BoardResponse(b.getBoardId(), b.getTitle(), b.getMember().getNickname(),
+                            b.getCreatedAt(), b.getViewCount(), b.getCommentCount(), b.getFileCount()))
+                    .toList();
+        });
+    }
+
+    @Benchmark
+    public List<BoardResponse> projection() {
+        return tx.execute(status -> boardRepository.findSliceByKeyword(null, null, PageRequest.of(0, PAGE_SIZE))
+                .getContent());
+    }
+
+    private List<BoardResponse> countBytes(String name, Supplier<List<BoardResponse>> query) {
+        JdbcByteCounter.bytes.set(0);
+        JdbcByteCounter.enabled = true;
+        try {
+            List<BoardResponse> result = query.get();
+            System.out.printf("%n[%s] 본문 %d자, 목록 %d건: ResultSet에서 읽은 데이터 %,d bytes%n",
+                    name, contentLength, result.size(), JdbcByteCounter.bytes.get());
+            return result;
+        } finally {
+            JdbcByteCounter.enabled = false;
+        }
+    }
+
+    /**
+     * DataSource를 감싸 ResultSet에서 읽은 컬럼 값의 크기를 셉니다.
+     * 측정 중(enabled)이 아닐 때는 원래 커넥션을 그대로 반환하므로 시간 측정에는 영향이 거의 없습니다.
+     */
+    public static class JdbcByteCounter implements BeanPostProcessor {
+
+        private static final Set<Class<?>> WRAPPED = Set.of(Connection.class, Statement.class,
+                PreparedStatement.class, CallableStatement.class, ResultSet.class);
+
+        static volatile boolean enabled;
+        static final AtomicLong bytes = new AtomicLong();
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            return bean instanceof DataSource ? wrap(bean, DataSource.class) : bean;
+        }
+
+        private static Object wrap(Object target, Class<?> type) {
+            return Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, (proxy, method, args) -> {
+                Object result;
+                try {
+                    result = method.invoke(target, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+                if (!enabled || result == null) {
+                    return result;
+                }
+                if (WRAPPED.contains(method.getReturnType())) {
+                    return wrap(result, method.getReturnType());
+                }
+                if (target instanceof ResultSet && method.getName().startsWith("get") && args != null
+                        && args.length >= 1 && !method.getName().equals("getMetaData")) {
+                    bytes.addAndGet(size(result));
+                }
+                return result;
+            });
+        }
+
+        private static long size(Object value) {
+            if (value instanceof String text) {
+                return text.getBytes(StandardCharsets.UTF_8).length;
+            }
+            if (value instanceof byte[] data) {
+                return data.length;
+            }
+            return 8; // 숫자, 날짜 등 고정 길이 값
+        }
+    }
+}
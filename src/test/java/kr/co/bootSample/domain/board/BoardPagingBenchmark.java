@@ -0,0 +1,87 @@
+package kr.co.bootSample.domain.board;
+
+import kr.co.bootSample.domain.board.dto.BoardResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 목록의 OFFSET 페이징과 커서(Keyset) 페이징을 1페이지와 10,000페이지에서 비교하는 JMH 벤치마크입니다.
+ *
+ * offset: findSliceByKeyword (ID 선조회 + OFFSET, count 쿼리 없음)
+ * keyset: findAllByKeywordAfter (boardId < 이전 페이지 마지막 ID)
+ *
+ * 게시글 200,020건(페이지 크기 20)을 인메모리 H2에 채우고, 검색어가 있는 경우는 모든 게시글의 제목에 포함되는
+ * "게시글"로 LIKE 검색(검색 색인 후보 없음)을 수행합니다. 깊은 페이지일수록 OFFSET은 건너뛰는 행만큼 스캔과
+ * 검색 조건 평가가 늘어나고, 커서는 PK 범위 탐색으로 시작 위치를 바로 찾습니다.
+ * 실행: mvn -Pbenchmark test-compile exec:exec -Djmh.args="BoardPagingBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = { "-Xmx2g" })
+public class BoardPagingBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+    private static final int BOARDS = 10_000 * PAGE_SIZE + PAGE_SIZE;
+
+    @Param({ "1", "10000" })
+    private int page;
+
+    @Param({ "false", "true" })
+    private boolean withKeyword;
+
+    private BoardBenchmarkContext context;
+    private BoardRepository boardRepository;
+    private TransactionTemplate tx;
+    private String keyword;
+    private Long cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BoardBenchmarkContext.start(BOARDS, 200);
+        boardRepository = context.boardRepository();
+        tx = context.readOnlyTransaction();
+        keyword = withKeyword ? "게시글" : null;
+        // ID가 연속이므로 page번째 페이지의 커서(이전 페이지 마지막 ID)를 계산할 수 있음
+        cursor = page == 1 ? null : context.maxBoardId() - (long) (page - 1) * PAGE_SIZE + 1;
+
+        // 두 방식이 같은 페이지를 반환하는지 확인
+        if (!offset().getContent().equals(keyset().getContent())) {
+            throw new IllegalStateException("OFFSET과 커서 페이징의 결과가 다릅니다.");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Slice<BoardResponse> offset() {
+        return tx.execute(status -> boardRepository.findSliceByKeyword(keyword, null,
+                PageRequest.of(page - 1, PAGE_SIZE)));
+    }
+
+    @Benchmark
+    public Slice<BoardResponse> keyset() {
+        return tx.execute(status -> boardRepository.findAllByKeywordAfter(keyword, null, cursor, PAGE_SIZE));
+    }
+}
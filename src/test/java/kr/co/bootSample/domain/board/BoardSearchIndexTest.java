@@ -0,0 +1,98 @@
+package kr.co.bootSample.domain.board;
+
+import kr.co.bootSample.domain.member.Member;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BoardSearchIndexTest {
+
+    @Test
+    @DisplayName("문자열을 2-gram으로 분해한다")
+    void bigrams() {
+        assertThat(BoardSearchIndex.tokenize("게시판")).containsExactlyInAnyOrder("게시", "시판");
+    }
+
+    @Test
+    @DisplayName("대소문자를 구분하지 않고 연속된 공백은 하나로 합쳐 토큰에 포함한다")
+    void normalizes() {
+        assertThat(BoardSearchIndex.tokenize("  Spring \t\n Boot "))
+                .containsExactlyInAnyOrder("sp", "pr", "ri", "in", "ng", "g ", " b", "bo", "oo", "ot");
+    }
+
+    @Test
+    @DisplayName("보조 평면 문자(이모지)는 한 글자로 취급한다")
+    void codePoints() {
+        assertThat(BoardSearchIndex.tokenize("a😀b")).containsExactlyInAnyOrder("a😀", "😀b");
+    }
+
+    @Test
+    @DisplayName("두 글자보다 짧거나 비어 있으면 토큰이 없다")
+    void tooShort() {
+        assertThat(BoardSearchIndex.tokenize("가")).isEmpty();
+        assertThat(BoardSearchIndex.tokenize("   ")).isEmpty();
+        assertThat(BoardSearchIndex.tokenize(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("검색어의 토큰은 해당 문자열을 포함하는 본문 토큰의 부분집합이다")
+    void keywordIsSubsetOfDocument() {
+        assertThat(BoardSearchIndex.tokenize("스프링 부트로 만든 게시판"))
+                .containsAll(BoardSearchIndex.tokenize("부트로 만"));
+    }
+
+    @Test
+    @DisplayName("본문은 태그를 제거하고 엔티티를 복원한 텍스트로 검색한다 (색인과 LIKE 검색 공통)")
+    void searchTextFromHtml() {
+        assertThat(BoardSearchText.fromHtml("<p>Tom &amp; Jerry</p>\n<span class=\"highlight\">&lt;b&gt;</span>"))
+                .isEqualTo("Tom & Jerry <b>");
+        assertThat(BoardSearchText.fromHtml(null)).isEmpty();
+        assertThat(BoardSearchText.keyword("  tom \t &  jerry ")).isEqualTo("tom & jerry");
+    }
+
+    @Test
+    @DisplayName("기동 시 보정이 DB에서 읽은 이전 내용은 더 최근에 색인된 내용을 덮어쓰지 않는다")
+    void reconcileKeepsNewerEntry(@TempDir Path dir) {
+        LocalDateTime readAt = LocalDateTime.of(2026, 1, 1, 9, 0);
+        Board older = board(1L, "이전 제목", readAt);
+        Board newer = board(1L, "새로운 제목", readAt.plusSeconds(1));
+        Board created = board(2L, "방금 쓴 글", readAt.plusSeconds(2));
+
+        BoardRepository boardRepository = mock(BoardRepository.class);
+        BoardSearchIndex index = new BoardSearchIndex(boardRepository);
+        ReflectionTestUtils.setField(index, "indexFile", dir.resolve("board.idx").toString());
+        ReflectionTestUtils.setField(index, "maxCandidates", 100);
+
+        // 보정이 게시글을 읽은 뒤 반영하기 전에 수정/작성 요청이 먼저 색인된 상황
+        when(boardRepository.findAllBoardIds()).thenReturn(List.of(1L));
+        when(boardRepository.findAllWithMemberByBoardIdIn(anyCollection())).thenAnswer(invocation -> {
+            index.index(newer, "작성자");
+            index.index(created, "작성자");
+            return List.of(older);
+        });
+
+        index.initialize();
+
+        assertThat(index.search("새로운")).containsExactly(1L);
+        assertThat(index.search("이전")).isEmpty();
+        assertThat(index.search("방금")).containsExactly(2L);
+    }
+
+    private static Board board(Long boardId, String title, LocalDateTime modifiedAt) {
+        Member writer = Member.builder().username("writer").password("pw").nickname("작성자").build();
+        Board board = Board.builder().title(title).content("<p>내용</p>").member(writer).build();
+        ReflectionTestUtils.setField(board, "boardId", boardId);
+        ReflectionTestUtils.setField(board, "modifiedAt", modifiedAt);
+        return board;
+    }
+}
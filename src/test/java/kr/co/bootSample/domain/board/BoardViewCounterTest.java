@@ -0,0 +1,101 @@
+package kr.co.bootSample.domain.board;
+
+import kr.co.bootSample.domain.member.Member;
+import kr.co.bootSample.global.config.QuerydslConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 조회수 일괄 반영이 하나의 트랜잭션으로 실행되어, 일부 게시글에서 실패해도 이중으로 더해지지 않는지 확인합니다.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:board-view-counter;MODE=MariaDB;DATABASE_TO_LOWER=TRUE",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(QuerydslConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class BoardViewCounterTest {
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private BoardViewCounter counter;
+    private Long firstId;
+    private Long secondId;
+
+    @BeforeEach
+    void setUp() {
+        counter = new BoardViewCounter(jdbcTemplate, transactionManager);
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            jdbcTemplate.update("DELETE FROM board");
+            jdbcTemplate.update("DELETE FROM member");
+            Member writer = em.persist(Member.builder()
+                    .username("writer").password("password").nickname("작성자").build());
+            firstId = em.persist(Board.builder().title("첫 글").content("<p>내용</p>").member(writer).build())
+                    .getBoardId();
+            secondId = em.persist(Board.builder().title("둘째 글").content("<p>내용</p>").member(writer).build())
+                    .getBoardId();
+        });
+    }
+
+    @Test
+    @DisplayName("반영된 증가분은 미반영분에서 반영분으로 옮겨진다")
+    void flushMovesPendingToFlushed() {
+        counter.increment(firstId);
+        counter.increment(firstId);
+        counter.flush(); // current → retired
+        counter.flush(); // retired → DB
+
+        assertThat(viewCount(firstId)).isEqualTo(2);
+        assertThat(counter.pending(firstId)).isZero();
+        assertThat(counter.flushed(firstId)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("일부 게시글에서 반영이 실패하면 전체가 롤백되고 다음 주기에 한 번만 반영된다")
+    void partialFailureRollsBackWholeBatch() {
+        jdbcTemplate.update("UPDATE board SET view_count = ? WHERE board_id = ?", Long.MAX_VALUE, secondId);
+        counter.increment(firstId);
+        counter.increment(secondId);
+        counter.flushAll(); // 두 번째 게시글에서 BIGINT 범위 초과
+
+        assertThat(viewCount(firstId)).isZero();
+        assertThat(counter.pending(firstId)).isEqualTo(1);
+        assertThat(counter.flushed(firstId)).isZero();
+
+        jdbcTemplate.update("UPDATE board SET view_count = 0 WHERE board_id = ?", secondId);
+        counter.flushAll();
+
+        assertThat(viewCount(firstId)).isEqualTo(1);
+        assertThat(viewCount(secondId)).isEqualTo(1);
+        assertThat(counter.pending(firstId)).isZero();
+    }
+
+    private long viewCount(Long boardId) {
+        return jdbcTemplate.queryForObject("SELECT view_count FROM board WHERE board_id = ?", Long.class, boardId);
+    }
+}
@@ -0,0 +1,97 @@
+package kr.co.bootSample.global.file;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import kr.co.bootSample.LoadTestSupport;
+import kr.co.bootSample.LoadTestSupport.Latencies;
+import org.springframework.web.util.UriUtils;
+
+import java.lang.management.ManagementFactory;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * 첨부파일 다운로드를 기존 방식(UrlResource를 힙 버퍼로 복사)과 FileDownloadWriter(sendfile/transferTo)로 비교하는 부하 테스트입니다.
+ *
+ * 같은 서버에 두 엔드포인트를 함께 띄우고 같은 첨부파일을 차례로 반복 다운로드합니다.
+ * 구간마다 초당 처리량, 응답 시간과 함께 Tomcat 요청 스레드(http-nio-*)가 할당한 힙 바이트를 요청당으로 출력합니다.
+ * 실행: mvn -Pload-test test-compile exec:exec -Dload.main=kr.co.bootSample.global.file.DownloadLoadTest
+ */
+public class DownloadLoadTest {
+
+    private static final int THREADS = Integer.getInteger("load.threads", 4);
+    private static final int FILE_MEGABYTES = Integer.getInteger("load.file-mb", 10);
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("load.seconds", 20));
+
+    public static void main(String[] args) throws Exception {
+        String[] serverArgs = new String[args.length + 1];
+        serverArgs[0] = "--load-test.legacy-download=true";
+        System.arraycopy(args, 0, serverArgs, 1, args.length);
+
+        try (LoadTestSupport support = LoadTestSupport.start(serverArgs)) {
+            String token = support.signupAndLogin("download01", "password123!");
+            byte[] file = new byte[FILE_MEGABYTES * 1024 * 1024];
+            new Random(42).nextBytes(file);
+            long boardId = support.createBoard(token, "다운로드 부하 테스트", "<p>첨부파일</p>", "data.bin", file);
+            JsonNode attachment = support.getJson("/api/boards/" + boardId, token).get("fileList").get(0);
+
+            HttpRequest legacy = support.request("/api/files/legacy-download?storedName="
+                    + UriUtils.encode(attachment.get("storedName").asText(), StandardCharsets.UTF_8)
+                    + "&originName=data.bin").GET().build();
+            HttpRequest writer = support.request("/api/files/" + attachment.get("fileId").asLong() + "/download")
+                    .GET().build();
+            System.out.printf("대상: %s, 첨부파일 %dMB, %d개 스레드, 구간당 %ds%n",
+                    support.baseUrl(), FILE_MEGABYTES, THREADS, DURATION.toSeconds());
+
+            measure("기존(UrlResource)", legacy, support, file.length);
+            measure("FileDownloadWriter", writer, support, file.length);
+        }
+    }
+
+    private static void measure(String name, HttpRequest request, LoadTestSupport support, long fileLength)
+            throws Exception {
+        HttpResponse<byte[]> first = support.client().send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if (first.statusCode() != 200 || first.body().length != fileLength) {
+            throw new IllegalStateException(name + " 응답 오류: " + first.statusCode() + ", " + first.body().length);
+        }
+        LoadTestSupport.run(THREADS, Duration.ofSeconds(5), () -> status(support, request)); // 워밍업
+
+        Map<Long, Long> before = serverAllocatedBytes();
+        Latencies result = LoadTestSupport.run(THREADS, DURATION, () -> status(support, request));
+        Map<Long, Long> after = serverAllocatedBytes();
+        long allocated = 0;
+        for (Map.Entry<Long, Long> entry : after.entrySet()) {
+            allocated += entry.getValue() - before.getOrDefault(entry.getKey(), 0L);
+        }
+
+        System.out.printf("[%s] %s%n", name, result);
+        System.out.printf("[%s] %.1f MB/s, 요청 스레드 힙 할당 %.1f KB/요청%n", name,
+                result.requestsPerSecond() * fileLength / (1024 * 1024),
+                result.count() > 0 ? allocated / 1024.0 / result.count() : 0);
+    }
+
+    private static int status(LoadTestSupport support, HttpRequest request) throws Exception {
+        return support.client().send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    /**
+     * Tomcat 요청 스레드별 누적 힙 할당 바이트를 반환합니다. (서버를 직접 띄운 경우에만 의미 있음)
+     */
+    private static Map<Long, Long> serverAllocatedBytes() {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Map<Long, Long> result = new HashMap<Long, Long>();
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            if (thread.getName().startsWith("http-nio-")) {
+                long bytes = threads.getThreadAllocatedBytes(thread.threadId());
+                if (bytes >= 0) {
+                    result.put(thread.threadId(), bytes);
+                }
+            }
+        }
+        return result;
+    }
+}
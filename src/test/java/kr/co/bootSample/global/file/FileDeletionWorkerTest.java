@@ -0,0 +1,117 @@
+package kr.co.bootSample.global.file;
+
+import kr.co.bootSample.global.config.QuerydslConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 파일 삭제 대기 정보가 하나씩 짧은 트랜잭션으로 처리되고, 실제 파일 삭제는 커밋 이후에 수행되는지 확인합니다.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:file-deletion-worker;MODE=MariaDB;DATABASE_TO_LOWER=TRUE",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(QuerydslConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class FileDeletionWorkerTest {
+
+    private static final String HASH = "b".repeat(64);
+    private static final String STORED_NAME = "cas/bb/bb/" + HASH + ".png";
+    private static final String DETACHED = STORED_NAME + ".1234.part";
+
+    @Autowired
+    private FileDeletionRepository fileDeletionRepository;
+
+    @Autowired
+    private FileBlobRepository fileBlobRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private FileStorage fileStorage;
+    private ImageDerivativeService imageDerivativeService;
+    private FileDeletionWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        fileDeletionRepository.deleteAll();
+        fileBlobRepository.deleteAll();
+        fileStorage = mock(FileStorage.class);
+        imageDerivativeService = mock(ImageDerivativeService.class);
+        worker = new FileDeletionWorker(fileDeletionRepository, fileBlobRepository, fileStorage,
+                imageDerivativeService, mock(FileCompressionService.class), transactionManager);
+        ReflectionTestUtils.setField(worker, "batchSize", 10);
+        ReflectionTestUtils.setField(worker, "maxAttempts", 3);
+        ReflectionTestUtils.setField(worker, "retryBackoffMillis", 60_000L);
+    }
+
+    @Test
+    @DisplayName("참조가 없는 파일은 이름을 바꾼 뒤 커밋하고, 커밋 이후 임시 파일과 파생본을 삭제한다")
+    void detachesThenDeletesAfterCommit() throws IOException {
+        fileDeletionRepository.save(new FileDeletion(STORED_NAME, HASH));
+        when(fileStorage.detach(STORED_NAME)).thenReturn(DETACHED);
+
+        worker.drain();
+
+        var order = inOrder(fileStorage, imageDerivativeService);
+        order.verify(fileStorage).detach(STORED_NAME);
+        order.verify(fileStorage).delete(DETACHED);
+        order.verify(imageDerivativeService).deleteDerivatives(STORED_NAME);
+        assertThat(fileDeletionRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("삭제 예약 이후 같은 내용이 다시 등록되었으면 파일을 유지하고 삭제 대기 정보만 제거한다")
+    void keepsReRegisteredBlob() throws IOException {
+        fileDeletionRepository.save(new FileDeletion(STORED_NAME, HASH));
+        new TransactionTemplate(transactionManager)
+                .executeWithoutResult(status -> fileBlobRepository.pin(HASH, STORED_NAME, 10L));
+
+        worker.drain();
+
+        verify(fileStorage, never()).detach(anyString());
+        verify(imageDerivativeService, never()).deleteDerivatives(anyString());
+        assertThat(fileDeletionRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("이름 변경에 실패하면 삭제 대기 정보를 남기고 다음 시도 시각을 미룬다")
+    void retriesLaterOnFailure() throws IOException {
+        fileDeletionRepository.save(new FileDeletion(STORED_NAME, HASH));
+        when(fileStorage.detach(STORED_NAME)).thenThrow(new IOException("NAS 연결 실패"));
+
+        worker.drain();
+
+        FileDeletion deletion = fileDeletionRepository.findAll().get(0);
+        assertThat(deletion.getAttempts()).isEqualTo(1);
+        assertThat(deletion.getLastError()).contains("NAS 연결 실패");
+        assertThat(deletion.getNextAttemptAt()).isAfter(LocalDateTime.now());
+        verify(fileStorage, never()).delete(anyString());
+    }
+}
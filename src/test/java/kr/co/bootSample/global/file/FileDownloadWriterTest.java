@@ -0,0 +1,145 @@
+package kr.co.bootSample.global.file;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FileDownloadWriterTest {
+
+    private static final String CONTENT = "0123456789";
+    private static final String ETAG = "\"abc\"";
+
+    private final FileDownloadWriter writer = new FileDownloadWriter();
+
+    @TempDir
+    Path dir;
+
+    private DownloadFile file;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Path path = Files.writeString(dir.resolve("file.txt"), CONTENT, StandardCharsets.US_ASCII);
+        file = new DownloadFile(path, CONTENT.length(), "text/plain", "file.txt", ETAG, 0L);
+    }
+
+    @Test
+    @DisplayName("Range가 없으면 전체를 200으로 응답한다")
+    void noRange() throws IOException {
+        MockHttpServletResponse response = download(null);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsString()).isEqualTo(CONTENT);
+    }
+
+    @Test
+    @DisplayName("단일 구간과 접미사 구간을 206으로 응답한다")
+    void singleRange() throws IOException {
+        MockHttpServletResponse response = download("bytes=2-5");
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 2-5/10");
+        assertThat(response.getContentAsString()).isEqualTo("2345");
+
+        MockHttpServletResponse suffix = download("bytes=-3");
+
+        assertThat(suffix.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 7-9/10");
+        assertThat(suffix.getContentAsString()).isEqualTo("789");
+    }
+
+    @Test
+    @DisplayName("끝 위치가 파일 크기를 넘으면 파일 끝까지로 줄인다")
+    void clampsEnd() throws IOException {
+        MockHttpServletResponse response = download("bytes=8-100");
+
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 8-9/10");
+        assertThat(response.getContentAsString()).isEqualTo("89");
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 Range는 무시하고 전체를 200으로 응답한다")
+    void malformedRange() throws IOException {
+        for (String range : new String[] { "bytes=abc", "bytes=5-2", "items=0-1", "bytes=" }) {
+            MockHttpServletResponse response = download(range);
+
+            assertThat(response.getStatus()).as(range).isEqualTo(200);
+            assertThat(response.getContentAsString()).as(range).isEqualTo(CONTENT);
+        }
+    }
+
+    @Test
+    @DisplayName("만족할 수 있는 구간이 없을 때만 416으로 응답한다")
+    void unsatisfiable() throws IOException {
+        MockHttpServletResponse response = download("bytes=10-20,12-");
+
+        assertThat(response.getStatus()).isEqualTo(416);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes */10");
+
+        MockHttpServletResponse partial = download("bytes=10-20,0-1");
+
+        assertThat(partial.getStatus()).isEqualTo(206);
+        assertThat(partial.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 0-1/10");
+    }
+
+    @Test
+    @DisplayName("겹치거나 이어진 구간은 병합하여 파일 크기 이상 전송하지 않는다")
+    void mergesOverlapping() throws IOException {
+        MockHttpServletResponse repeated = download("bytes=0-,0-,0-,0-");
+
+        assertThat(repeated.getStatus()).isEqualTo(206);
+        assertThat(repeated.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 0-9/10");
+        assertThat(repeated.getContentAsString()).isEqualTo(CONTENT);
+
+        MockHttpServletResponse adjacent = download("bytes=4-6,0-3,2-5");
+
+        assertThat(adjacent.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 0-6/10");
+        assertThat(adjacent.getContentAsString()).isEqualTo("0123456");
+    }
+
+    @Test
+    @DisplayName("떨어진 여러 구간은 multipart/byteranges로 응답한다")
+    void multipleRanges() throws IOException {
+        MockHttpServletResponse response = download("bytes=7-8,0-1");
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getContentType()).startsWith("multipart/byteranges; boundary=");
+        String body = response.getContentAsString();
+        assertThat(body).contains("Content-Range: bytes 0-1/10\r\n\r\n01");
+        assertThat(body).contains("Content-Range: bytes 7-8/10\r\n\r\n78");
+        assertThat(body.indexOf("bytes 0-1/10")).isLessThan(body.indexOf("bytes 7-8/10"));
+    }
+
+    @Test
+    @DisplayName("If-Range의 ETag가 다르면 전체를 200으로 응답한다")
+    void ifRangeMismatch() throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/files/1");
+        request.addHeader(HttpHeaders.RANGE, "bytes=0-1");
+        request.addHeader(HttpHeaders.IF_RANGE, "\"other\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        writer.write(request, response, file);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsString()).isEqualTo(CONTENT);
+    }
+
+    private MockHttpServletResponse download(String range) throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/files/1");
+        if (range != null) {
+            request.addHeader(HttpHeaders.RANGE, range);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        writer.write(request, response, file);
+        return response;
+    }
+}
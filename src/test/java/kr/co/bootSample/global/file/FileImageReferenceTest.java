@@ -0,0 +1,120 @@
+package kr.co.bootSample.global.file;
+
+import kr.co.bootSample.global.config.QuerydslConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.File;
+import java.time.Duration;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게시글 본문 이미지의 참조 수가 업로드 횟수가 아니라 본문 기준(게시글당 이미지별 1)으로 계산되는지 확인합니다.
+ * 다른 게시글에 붙여 넣은 이미지는 원래 게시글이 삭제되어도 유지되어야 합니다.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:file-image-reference;MODE=MariaDB;DATABASE_TO_LOWER=TRUE",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(QuerydslConfig.class)
+class FileImageReferenceTest {
+
+    private static final String HASH = "a".repeat(64);
+    private static final String STORED_NAME = "cas" + File.separator + HASH + ".png";
+    private static final String IMAGE = "<p><img src=\"/uploads/cas/" + HASH + ".png\"></p>";
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private FileBlobRepository fileBlobRepository;
+
+    @Autowired
+    private FileDeletionRepository fileDeletionRepository;
+
+    private FileService fileService;
+
+    @BeforeEach
+    void setUp() {
+        fileService = new FileService(null, null, fileBlobRepository, null, null, fileDeletionRepository, null,
+                null, null);
+        ReflectionTestUtils.setField(fileService, "gracePeriod", Duration.ZERO);
+        fileBlobRepository.pin(HASH, STORED_NAME, 10L);
+    }
+
+    @Test
+    @DisplayName("원본 URL과 파생본 URL은 같은 저장 경로로 정규화된다")
+    void contentImagesNormalisesDerivativeUrls() {
+        Set<String> images = fileService.contentImages(IMAGE
+                + "<img src=\"/uploads/cas/" + HASH + ".png?w=640\"><img src=\"https://example.com/a.png\">");
+
+        assertThat(images).containsExactly(STORED_NAME);
+    }
+
+    @Test
+    @DisplayName("업로드만 된 이미지는 참조 수 0으로 등록되고, 게시글 저장 시 참조가 등록된다")
+    void pinnedImageIsCountedOnSave() {
+        assertThat(refCount()).isZero();
+
+        fileService.acquireImages(fileService.contentImages(IMAGE + IMAGE));
+
+        assertThat(refCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 게시글에 붙여 넣은 이미지는 원래 게시글이 삭제되어도 유지된다")
+    void pastedImageSurvivesOriginalDelete() {
+        fileService.acquireImages(fileService.contentImages(IMAGE)); // 게시글 A 저장
+        fileService.acquireImages(fileService.contentImages(IMAGE)); // 게시글 B에 붙여 넣어 저장
+
+        fileService.releaseImages(fileService.contentImages(IMAGE)); // 게시글 A 삭제
+        em.flush();
+        em.clear();
+
+        assertThat(refCount()).isEqualTo(1);
+        assertThat(fileDeletionRepository.count()).isZero();
+
+        fileService.releaseImages(fileService.contentImages(IMAGE)); // 게시글 B 삭제
+        em.flush();
+        em.clear();
+
+        assertThat(fileBlobRepository.findById(HASH)).isEmpty();
+        assertThat(fileDeletionRepository.findAll())
+                .extracting(FileDeletion::getStoredName)
+                .containsExactly(STORED_NAME);
+    }
+
+    @Test
+    @DisplayName("유예 기간 안에 다시 업로드된 이미지는 마지막 참조가 해제되어도 삭제되지 않는다")
+    void recentlyPinnedImageIsKept() {
+        ReflectionTestUtils.setField(fileService, "gracePeriod", Duration.ofHours(24));
+        fileService.acquireImages(fileService.contentImages(IMAGE));
+
+        fileService.releaseImages(fileService.contentImages(IMAGE));
+        em.flush();
+        em.clear();
+
+        assertThat(refCount()).isZero();
+        assertThat(fileDeletionRepository.count()).isZero();
+    }
+
+    private long refCount() {
+        em.flush();
+        em.clear();
+        return fileBlobRepository.findById(HASH).orElseThrow().getRefCount();
+    }
+}
@@ -0,0 +1,209 @@
+package kr.co.bootSample.global.file;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import org.apache.commons.fileupload2.core.DiskFileItem;
+import org.apache.commons.fileupload2.core.DiskFileItemFactory;
+import org.apache.commons.fileupload2.jakarta.servlet6.JakartaServletFileUpload;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.FileSystemUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 첨부파일 업로드 기록 방식의 처리량을 비교하는 JMH 벤치마크입니다. (1MB, 100MB, 1GB)
+ *
+ * containerSpool: 기존 방식. 컨테이너가 1MB를 넘는 파트를 임시 파일로 저장(spool)한 뒤 FileStreamWriter가 다시 복사 (디스크 기록 2회)
+ * streaming: MultipartUploadReader가 요청 본문의 파트를 FileStreamWriter로 바로 기록 (디스크 기록 1회)
+ *
+ * 요청 본문은 디스크의 파일에서 읽으며, 처리량(MB/s)은 파일 크기 / 평균 시간으로 계산합니다.
+ * 실행: mvn -Pbenchmark test-compile exec:exec -Djmh.args="FileUploadBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class FileUploadBenchmark {
+
+    private static final String BOUNDARY = "----bootSampleBenchmark";
+
+    @Param({ "1", "100", "1024" })
+    private int sizeMb;
+
+    private Path workDir;
+    private Path body;
+    private Path spoolDir;
+    private FileStreamWriter fileStreamWriter;
+    private MultipartUploadReader reader;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        workDir = Files.createTempDirectory("upload-benchmark");
+        spoolDir = Files.createDirectories(workDir.resolve("spool"));
+        body = writeBody(workDir.resolve("body.multipart"), DataSize.ofMegabytes(sizeMb).toBytes());
+
+        UploadAdmission admission = new UploadAdmission(8, 32, Duration.ofSeconds(10), DataSize.ofBytes(0));
+        fileStreamWriter = new FileStreamWriter(admission);
+        ReflectionTestUtils.setField(fileStreamWriter, "maxFileSize", DataSize.ofGigabytes(2));
+        ReflectionTestUtils.setField(fileStreamWriter, "bufferSize", 65536);
+
+        reader = new MultipartUploadReader(fileStreamWriter, admission);
+        ReflectionTestUtils.setField(reader, "uploadDir", workDir.toString());
+        ReflectionTestUtils.setField(reader, "casPath", "cas");
+        ReflectionTestUtils.setField(reader, "maxRequestSize", DataSize.ofGigabytes(2));
+        ReflectionTestUtils.setField(reader, "maxFieldSize", DataSize.ofMegabytes(10));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        FileSystemUtils.deleteRecursively(workDir);
+    }
+
+    @Benchmark
+    public long containerSpool() throws IOException {
+        DiskFileItemFactory factory = DiskFileItemFactory.builder()
+                .setPath(spoolDir)
+                .setBufferSize((int) DataSize.ofMegabytes(1).toBytes()) // file-size-threshold: 1MB
+                .get();
+        JakartaServletFileUpload<DiskFileItem, DiskFileItemFactory> upload = new JakartaServletFileUpload<>(factory);
+        List<DiskFileItem> items = upload.parseRequest(request());
+
+        long size = 0;
+        for (DiskFileItem item : items) {
+            try (InputStream in = item.getInputStream()) {
+                StoredFile temp = fileStreamWriter.writeTemp(in, workDir.resolve("cas"));
+                size += temp.size();
+                Files.delete(temp.path());
+            } finally {
+                item.delete();
+            }
+        }
+        return size;
+    }
+
+    @Benchmark
+    public long streaming() throws IOException {
+        try (MultipartUpload upload = reader.read(request(), "files")) {
+            return upload.files().list().get(0).temp().size();
+        }
+    }
+
+    private FileRequest request() {
+        FileRequest request = new FileRequest(body);
+        request.setContentType("multipart/form-data; boundary=" + BOUNDARY);
+        return request;
+    }
+
+    private static Path writeBody(Path path, long size) throws IOException {
+        byte[] chunk = new byte[1024 * 1024];
+        new Random(42).nextBytes(chunk);
+        try (OutputStream out = Files.newOutputStream(path)) {
+            out.write(("--" + BOUNDARY + "\r\n"
+                    + "Content-Disposition: form-data; name=\"board\"; filename=\"blob\"\r\n"
+                    + "Content-Type: application/json\r\n\r\n"
+                    + "{\"title\":\"benchmark\",\"content\":\"<p>benchmark</p>\"}\r\n"
+                    + "--" + BOUNDARY + "\r\n"
+                    + "Content-Disposition: form-data; name=\"files\"; filename=\"data.bin\"\r\n"
+                    + "Content-Type: application/octet-stream\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+            for (long written = 0; written < size; written += chunk.length) {
+                out.write(chunk, 0, (int) Math.min(chunk.length, size - written));
+            }
+            out.write(("\r\n--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.UTF_8));
+        }
+        return path;
+    }
+
+    /**
+     * 요청 본문을 메모리에 올리지 않고 파일에서 읽는 요청입니다. (1GB 본문용)
+     */
+    private static class FileRequest extends MockHttpServletRequest {
+
+        private final Path body;
+
+        FileRequest(Path body) {
+            super("POST", "/api/boards");
+            this.body = body;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            try {
+                return Files.size(body);
+            } catch (IOException e) {
+                return -1;
+            }
+        }
+
+        @Override
+        public int getContentLength() {
+            long length = getContentLengthLong();
+            return length > Integer.MAX_VALUE ? -1 : (int) length;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            try {
+                InputStream in = Files.newInputStream(body);
+                return new ServletInputStream() {
+                    @Override
+                    public int read() throws IOException {
+                        return in.read();
+                    }
+
+                    @Override
+                    public int read(byte[] b, int off, int len) throws IOException {
+                        return in.read(b, off, len);
+                    }
+
+                    @Override
+                    public boolean isFinished() {
+                        return false;
+                    }
+
+                    @Override
+                    public boolean isReady() {
+                        return true;
+                    }
+
+                    @Override
+                    public void setReadListener(ReadListener readListener) {
+                        throw new UnsupportedOperationException();
+                    }
+
+                    @Override
+                    public void close() throws IOException {
+                        in.close();
+                    }
+                };
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
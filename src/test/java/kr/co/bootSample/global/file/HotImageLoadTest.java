@@ -0,0 +1,68 @@
+package kr.co.bootSample.global.file;
+
+import kr.co.bootSample.LoadTestSupport;
+import kr.co.bootSample.LoadTestSupport.Latencies;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Random;
+
+/**
+ * 인기 게시글 이미지처럼 같은 파일 하나에 /uploads/** 요청이 몰릴 때의 초당 처리량을 측정하는 부하 테스트입니다.
+ *
+ * 파생본이 생기지 않는 작은(약 130KB, 300px) PNG를 에디터 업로드로 저장한 뒤, 여러 스레드가 같은 URL을 반복 요청합니다.
+ * 기본 설정에서는 HotFileCache(메모리 사본)로 응답하고,
+ * -Dload.args="--app.file.hot-cache.max-file-bytes=0"으로 실행하면 캐시 없이 매 요청 파일을 읽는 기존 방식으로 응답합니다.
+ * 실행: mvn -Pload-test test-compile exec:exec -Dload.main=kr.co.bootSample.global.file.HotImageLoadTest
+ */
+public class HotImageLoadTest {
+
+    private static final int THREADS = Integer.getInteger("load.threads", 16);
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("load.seconds", 20));
+
+    public static void main(String[] args) throws Exception {
+        try (LoadTestSupport support = LoadTestSupport.start(args)) {
+            String token = support.signupAndLogin("image01", "password123!");
+            String url = support.uploadEditorImage(token, "hot.png", noisePng(300, 150));
+
+            HttpRequest get = support.request(url).GET().build();
+            HttpResponse<byte[]> first = support.client().send(get, HttpResponse.BodyHandlers.ofByteArray());
+            System.out.printf("대상: %s%s (%d bytes, Cache-Control: %s), %d개 스레드, %ds%n",
+                    support.baseUrl(), url, first.body().length,
+                    first.headers().firstValue("Cache-Control").orElse("-"), THREADS, DURATION.toSeconds());
+
+            LoadTestSupport.run(THREADS, Duration.ofSeconds(5), () -> status(support, get)); // 워밍업
+            Latencies result = LoadTestSupport.run(THREADS, DURATION, () -> status(support, get));
+            System.out.println("[이미지] " + result);
+            HotFileCache hotFileCache = support.bean(HotFileCache.class);
+            if (hotFileCache != null) {
+                System.out.println("캐시 통계: " + hotFileCache.stats());
+            }
+        }
+    }
+
+    private static int status(LoadTestSupport support, HttpRequest request) throws Exception {
+        return support.client().send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    /**
+     * 압축이 거의 되지 않는 무작위 픽셀 PNG를 만듭니다.
+     */
+    private static byte[] noisePng(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Random random = new Random(42);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                image.setRGB(x, y, random.nextInt(0x1000000));
+            }
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+}
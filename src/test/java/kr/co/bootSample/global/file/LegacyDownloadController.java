@@ -0,0 +1,43 @@
+package kr.co.bootSample.global.file;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.UrlResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.util.UriUtils;
+
+import java.net.MalformedURLException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+/**
+ * FileDownloadWriter 도입 전의 다운로드 방식을 그대로 재현한 비교용 컨트롤러입니다. (DownloadLoadTest에서만 활성화)
+ * UrlResource를 반환하면 ResourceHttpMessageConverter가 파일 내용을 힙 버퍼로 읽어 응답 스트림에 복사합니다.
+ * 파일 위치만 현재 저장소의 분산 경로에서 찾도록 바꾸었습니다.
+ */
+@RestController
+@ConditionalOnProperty(name = "load-test.legacy-download", havingValue = "true")
+@RequiredArgsConstructor
+public class LegacyDownloadController {
+
+    private final FileStorage fileStorage;
+
+    @GetMapping("/api/files/legacy-download")
+    public ResponseEntity<Resource> downloadFile(@RequestParam String storedName, @RequestParam String originName)
+            throws MalformedURLException {
+        Path path = fileStorage.localPath(storedName);
+        UrlResource resource = new UrlResource("file:" + path);
+
+        String encodedOriginName = UriUtils.encode(originName, StandardCharsets.UTF_8);
+        String contentDisposition = "attachment; filename=\"" + encodedOriginName + "\"";
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, contentDisposition)
+                .body(resource);
+    }
+}
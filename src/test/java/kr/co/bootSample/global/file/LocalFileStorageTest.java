@@ -0,0 +1,164 @@
+package kr.co.bootSample.global.file;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+/**
+ * FileStorage 계약(키 기반 저장/조회/삭제)을 LocalFileStorage로 확인합니다.
+ * 분산 경로 저장, 분산 이전 경로 조회, 업로드 디렉토리를 벗어나는 키 거부, 기존 파일 이동, 삭제 전 이름 변경을 다룹니다.
+ */
+class LocalFileStorageTest {
+
+    private static final String NAME = "3fa9c2d1.png";
+    private static final String KEY = "cas/" + NAME;
+
+    @TempDir
+    Path root;
+
+    private HotFileCache hotFileCache;
+    private LocalFileStorage storage;
+
+    @BeforeEach
+    void setUp() {
+        hotFileCache = new HotFileCache(1 << 20, 1 << 16);
+        storage = new LocalFileStorage(new FileStreamWriter(mock(UploadAdmission.class)), hotFileCache);
+        ReflectionTestUtils.setField(storage, "uploadDir", root.toString());
+        storage.init();
+    }
+
+    @Test
+    @DisplayName("파일명 앞 4글자로 나눈 분산 경로에 저장하고 키로 조회한다")
+    void putStoresUnderShardedPath() throws IOException {
+        storage.put(temp("image"), KEY);
+
+        Path sharded = root.resolve("cas/3f/a9/" + NAME);
+        assertThat(sharded).hasContent("image");
+        assertThat(storage.exists(KEY)).isTrue();
+        assertThat(storage.localPath(KEY)).isEqualTo(sharded);
+        assertThat(storage.localPath("cas\\" + NAME)).isEqualTo(sharded);
+        assertThat(storage.size(KEY)).isEqualTo(5);
+        try (InputStream in = storage.open(KEY)) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("image");
+        }
+    }
+
+    @Test
+    @DisplayName("분산에 쓸 수 없는 파일명은 기존 경로에 저장한다")
+    void unshardableNameUsesLegacyPath() throws IOException {
+        storage.put(temp("a"), "cas/AB.png");
+        storage.put(temp("b"), "board/x_1.txt");
+
+        assertThat(root.resolve("cas/AB.png")).hasContent("a");
+        assertThat(root.resolve("board/x_1.txt")).hasContent("b");
+    }
+
+    @Test
+    @DisplayName("분산 경로에 없으면 분산 이전 경로의 파일을 조회하고 삭제한다")
+    void fallsBackToLegacyPath() throws IOException {
+        Path legacy = write(KEY, "legacy");
+
+        assertThat(storage.exists(KEY)).isTrue();
+        assertThat(storage.localPath(KEY)).isEqualTo(legacy);
+        assertThat(storage.size(KEY)).isEqualTo(6);
+
+        assertThat(storage.delete(KEY)).isTrue();
+        assertThat(legacy).doesNotExist();
+        assertThat(storage.exists(KEY)).isFalse();
+        assertThat(storage.delete(KEY)).isFalse();
+        assertThatThrownBy(() -> storage.open(KEY)).isInstanceOf(NoSuchFileException.class);
+    }
+
+    @Test
+    @DisplayName("업로드 디렉토리를 벗어나는 키는 거부한다")
+    void rejectsPathEscape() throws IOException {
+        Files.writeString(root.getParent().resolve("outside.txt"), "secret");
+
+        for (String key : List.of("../outside.txt", "cas/../../outside.txt", "..\\outside.txt", "cas/..")) {
+            assertThatThrownBy(() -> storage.exists(key)).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> storage.delete(key)).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> storage.put(temp("x"), key)).isInstanceOf(IllegalArgumentException.class);
+        }
+        assertThat(root.getParent().resolve("outside.txt")).hasContent("secret");
+    }
+
+    @Test
+    @DisplayName("분산 이전 경로의 파일을 분산 경로로 옮기고, 이미 옮겨진 파일은 기존 사본만 삭제한다")
+    void relocatesLegacyFile() throws IOException {
+        Path legacy = write(KEY, "legacy");
+        Path other = write("cas/aabbcc.png", "other");
+        write("cas/aabbcc.png.1234.part", "part");
+
+        try (Stream<String> keys = storage.listLegacyKeys("cas")) {
+            assertThat(keys).containsExactlyInAnyOrder(
+                    "cas" + File.separator + NAME, "cas" + File.separator + "aabbcc.png");
+        }
+
+        assertThat(storage.relocateLegacy(KEY)).isTrue();
+        assertThat(legacy).doesNotExist();
+        assertThat(root.resolve("cas/3f/a9/" + NAME)).hasContent("legacy");
+        assertThat(storage.relocateLegacy(KEY)).isFalse();
+
+        storage.put(temp("other"), "cas/aabbcc.png");
+        assertThat(storage.relocateLegacy("cas/aabbcc.png")).isFalse();
+        assertThat(other).doesNotExist();
+        assertThat(root.resolve("cas/aa/bb/aabbcc.png")).hasContent("other");
+    }
+
+    @Test
+    @DisplayName("삭제 전 이름 변경은 같은 디렉토리의 임시 파일로 옮기고 메모리 캐시를 무효화한다")
+    void detachRenamesToPartFile() throws IOException {
+        storage.put(temp("image"), KEY);
+        Path sharded = storage.localPath(KEY);
+        hotFileCache.resource(sharded);
+        assertThat(hotFileCache.stats().estimatedSize()).isEqualTo(1);
+
+        String detached = storage.detach(KEY);
+
+        assertThat(detached).startsWith(KEY + ".").endsWith(".part");
+        assertThat(storage.exists(KEY)).isFalse();
+        assertThat(storage.localPath(detached).getParent()).isEqualTo(sharded.getParent());
+        assertThat(hotFileCache.stats().estimatedSize()).isZero();
+
+        assertThat(storage.delete(detached)).isTrue();
+        assertThat(sharded.getParent()).isEmptyDirectory();
+        assertThat(storage.detach(KEY)).isNull();
+    }
+
+    @Test
+    @DisplayName("분산 이전 경로의 파일도 같은 위치에서 이름을 바꾼다")
+    void detachesLegacyFile() throws IOException {
+        Path legacy = write(KEY, "legacy");
+
+        String detached = storage.detach(KEY);
+
+        assertThat(legacy).doesNotExist();
+        assertThat(storage.localPath(detached)).isEqualTo(legacy.resolveSibling(detached.substring(4)));
+    }
+
+    private Path temp(String content) throws IOException {
+        return Files.writeString(Files.createTempFile(root, "upload", ".part"), content);
+    }
+
+    private Path write(String key, String content) throws IOException {
+        Path path = root.resolve(key);
+        Files.createDirectories(path.getParent());
+        return Files.writeString(path, content);
+    }
+}
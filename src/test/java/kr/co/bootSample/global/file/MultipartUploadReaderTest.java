@@ -0,0 +1,146 @@
+package kr.co.bootSample.global.file;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 멀티파트 요청을 스트리밍으로 읽어 첨부파일 파트만 저장소 디렉토리의 임시 파일로 기록하는지 확인합니다.
+ */
+class MultipartUploadReaderTest {
+
+    private static final String BOUNDARY = "----bootSampleBoundary";
+
+    @TempDir
+    Path uploadDir;
+
+    private MultipartUploadReader reader;
+
+    @BeforeEach
+    void setUp() {
+        UploadAdmission admission = new UploadAdmission(1, 1, Duration.ofSeconds(1), DataSize.ofBytes(0));
+        FileStreamWriter writer = new FileStreamWriter(admission);
+        ReflectionTestUtils.setField(writer, "maxFileSize", DataSize.ofKilobytes(1));
+        ReflectionTestUtils.setField(writer, "bufferSize", 16);
+
+        reader = new MultipartUploadReader(writer, admission);
+        ReflectionTestUtils.setField(reader, "uploadDir", uploadDir.toString());
+        ReflectionTestUtils.setField(reader, "casPath", "cas");
+        ReflectionTestUtils.setField(reader, "maxRequestSize", DataSize.ofKilobytes(4));
+        ReflectionTestUtils.setField(reader, "maxFieldSize", DataSize.ofBytes(64));
+    }
+
+    @Test
+    @DisplayName("JSON 파트는 문자열로, 첨부파일 파트는 체크섬과 함께 임시 파일로 읽고 빈 파일은 건너뛴다")
+    void readsFieldsAndFiles() throws Exception {
+        byte[] body = new Body()
+                .part("board", "blob", "application/json", "{\"title\":\"제목\"}")
+                .part("files", "a.txt", "text/plain", "hello")
+                .part("files", "", "application/octet-stream", "")
+                .part("files", "empty.txt", "text/plain", "")
+                .build();
+
+        try (MultipartUpload upload = reader.read(request(body), "files")) {
+            assertThat(upload.field("board")).isEqualTo("{\"title\":\"제목\"}");
+            assertThat(upload.files().list()).hasSize(1);
+
+            StagedUpload file = upload.files().list().get(0);
+            assertThat(file.originName()).isEqualTo("a.txt");
+            assertThat(file.contentType()).isEqualTo("text/plain");
+            assertThat(file.temp().size()).isEqualTo(5);
+            assertThat(file.temp().checksum())
+                    .isEqualTo("2cf24dba5fb0a30e26e83b2ac5b9e29e1b161e5c1fa7425e73043362938b9824");
+            assertThat(Files.readString(file.temp().path())).isEqualTo("hello");
+        }
+        assertThat(tempFiles()).isZero();
+    }
+
+    @Test
+    @DisplayName("파일 크기 제한을 넘으면 이미 기록한 임시 파일까지 삭제한다")
+    void rejectsOversizedFile() throws Exception {
+        byte[] body = new Body()
+                .part("files", "a.txt", "text/plain", "hello")
+                .part("files", "big.txt", "text/plain", "x".repeat(2048))
+                .build();
+
+        assertThatThrownBy(() -> reader.read(request(body), "files"))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("파일 크기가 제한");
+        assertThat(tempFiles()).isZero();
+    }
+
+    @Test
+    @DisplayName("요청 본문 크기 제한을 넘으면 거부한다")
+    void rejectsOversizedRequest() {
+        Body body = new Body();
+        for (int i = 0; i < 8; i++) {
+            body.part("files", i + ".txt", "text/plain", "x".repeat(1000));
+        }
+
+        assertThatThrownBy(() -> reader.read(request(body.build()), "files"))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("요청 크기가 제한");
+    }
+
+    @Test
+    @DisplayName("첨부파일 외 파트가 크기 제한을 넘으면 거부한다")
+    void rejectsOversizedField() {
+        byte[] body = new Body().part("board", "blob", "application/json", "x".repeat(100)).build();
+
+        assertThatThrownBy(() -> reader.read(request(body), "files"))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("'board' 항목의 크기가 제한");
+    }
+
+    private MockHttpServletRequest request(byte[] body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/boards");
+        request.setContentType("multipart/form-data; boundary=" + BOUNDARY);
+        request.setContent(body);
+        return request;
+    }
+
+    private long tempFiles() throws Exception {
+        Path dir = uploadDir.resolve("cas");
+        if (!Files.exists(dir)) {
+            return 0;
+        }
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.count();
+        }
+    }
+
+    private static class Body {
+
+        private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        Body part(String name, String fileName, String contentType, String content) {
+            write("--" + BOUNDARY + "\r\n"
+                    + "Content-Disposition: form-data; name=\"" + name + "\"; filename=\"" + fileName + "\"\r\n"
+                    + "Content-Type: " + contentType + "\r\n\r\n" + content + "\r\n");
+            return this;
+        }
+
+        byte[] build() {
+            write("--" + BOUNDARY + "--\r\n");
+            return out.toByteArray();
+        }
+
+        private void write(String text) {
+            out.writeBytes(text.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package kr.co.bootSample.global.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("추가한 키는 항상 포함된 것으로 판단한다")
+    void noFalseNegatives() {
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+        String[] keys = new String[10_000];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = UUID.randomUUID().toString();
+            filter.put(keys[i]);
+        }
+
+        for (String key : keys) {
+            assertThat(filter.mightContain(key)).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("빈 필터는 어떤 키도 포함하지 않는다")
+    void emptyFilter() {
+        BloomFilter filter = BloomFilter.create(0, 0.01);
+
+        assertThat(filter.mightContain("")).isFalse();
+        assertThat(filter.mightContain(UUID.randomUUID().toString())).isFalse();
+    }
+
+    @Test
+    @DisplayName("예상 키 수만큼 추가해도 오탐률은 지정한 값 근처에 머문다")
+    void falsePositiveRate() {
+        int n = 20_000;
+        double fpp = 0.01;
+        BloomFilter filter = BloomFilter.create(n, fpp);
+        for (int i = 0; i < n; i++) {
+            filter.put("revoked-" + i);
+        }
+
+        int trials = 100_000;
+        int falsePositives = 0;
+        for (int i = 0; i < trials; i++) {
+            if (filter.mightContain("active-" + i)) {
+                falsePositives++;
+            }
+        }
+
+        // 해시 품질에 따른 편차를 감안하여 지정한 오탐률의 2배까지 허용
+        assertThat((double) falsePositives / trials).isLessThan(fpp * 2);
+    }
+}
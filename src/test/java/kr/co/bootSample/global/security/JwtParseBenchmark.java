@@ -0,0 +1,90 @@
+package kr.co.bootSample.global.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 JWT를 검증하던 기존 방식과 JwtClaimsCache를 사용하는 JwtTokenProvider.parseClaims를 비교하는 JMH 벤치마크입니다.
+ *
+ * uncached: 기존 방식. 매 요청 Base64 디코딩, HMAC-SHA256 서명 검증, JSON 파싱 (JwtParser.parseSignedClaims)
+ * cachedHit: 같은 토큰의 반복 요청. SHA-256 다이제스트 계산 후 캐시에서 Claims 재사용
+ * cachedMiss: 처음 보는 토큰. 캐시 조회 실패 후 검증하고 캐시에 저장 (캐시가 가득 차 있어 제거 비용 포함)
+ *
+ * 실행: mvn -Pbenchmark test-compile exec:exec -Djmh.args="JwtParseBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtParseBenchmark {
+
+    private static final String SECRET = "base64EncodedSecretKeyForBootSampleProjectThatIsLongEnough";
+    private static final int MISS_TOKENS = 4096;
+
+    private JwtParser jwtParser;
+    private JwtTokenProvider cachedProvider;
+    private JwtTokenProvider missProvider;
+    private String token;
+    private String[] missTokens;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        jwtParser = Jwts.parser().verifyWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8))).build();
+
+        cachedProvider = provider(new JwtClaimsCache(10_000, Duration.ofMinutes(10)));
+        token = cachedProvider.createToken("alice", "USER", 1L);
+        cachedProvider.parseClaims(token);
+
+        // 토큰 수보다 캐시가 훨씬 작아 대부분의 조회가 실패
+        missProvider = provider(new JwtClaimsCache(16, Duration.ofMinutes(10)));
+        missTokens = new String[MISS_TOKENS];
+        for (int i = 0; i < MISS_TOKENS; i++) {
+            missTokens[i] = missProvider.createToken("user" + i, "USER", 1L);
+        }
+    }
+
+    @Benchmark
+    public Claims uncached() {
+        return jwtParser.parseSignedClaims(token).getPayload();
+    }
+
+    @Benchmark
+    public Claims cachedHit() {
+        return cachedProvider.parseClaims(token);
+    }
+
+    @Benchmark
+    public Claims cachedMiss() {
+        next = (next + 1) & (MISS_TOKENS - 1);
+        return missProvider.parseClaims(missTokens[next]);
+    }
+
+    private static JwtTokenProvider provider(JwtClaimsCache cache) {
+        JwtTokenProvider provider = new JwtTokenProvider(cache, null, null);
+        ReflectionTestUtils.setField(provider, "secretKeyString", SECRET);
+        ReflectionTestUtils.setField(provider, "validityInMilliseconds", TimeUnit.MINUTES.toMillis(15));
+        ReflectionTestUtils.invokeMethod(provider, "init");
+        return provider;
+    }
+}
@@ -0,0 +1,78 @@
+package kr.co.bootSample.global.security;
+
+import kr.co.bootSample.LoadTestSupport;
+import kr.co.bootSample.LoadTestSupport.Latencies;
+
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 로그인이 몰리는 동안에도 게시글 조회 응답 시간이 유지되는지 확인하는 부하 테스트입니다.
+ *
+ * 1) 게시글 조회만 실행 (기준) 2) 같은 조회와 함께 로그인 요청을 동시에 쏟아 부음 (BCrypt 해싱)
+ * 두 구간의 조회 응답 시간 백분위와 로그인 응답 상태(200/429)를 출력합니다.
+ * 같은 IP에서 보내는 로그인이 빈도 제한(429)에 먼저 걸리지 않도록, 여러 IP에서 오는 경우처럼 로그인 빈도 제한은 끕니다.
+ *
+ * 비교: 해싱 풀을 요청 스레드 수만큼 키우면(-Dload.args="--app.security.password-hashing.workers=200
+ * --app.security.password-hashing.queue-capacity=1000") 요청 스레드에서 해싱하던 기존 방식과 비슷하게 동작합니다.
+ * 실행: mvn -Pload-test test-compile exec:exec -Dload.main=kr.co.bootSample.global.security.LoginFloodLoadTest
+ */
+public class LoginFloodLoadTest {
+
+    private static final int READERS = Integer.getInteger("load.readers", 4);
+    private static final int FLOODERS = Integer.getInteger("load.flooders", 64);
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("load.seconds", 20));
+
+    public static void main(String[] args) throws Exception {
+        String[] serverArgs = new String[args.length + 2];
+        serverArgs[0] = "--app.security.rate-limit.login.capacity=0";
+        // 거부(429)마다 남는 경고 로그가 측정을 방해하지 않도록 끔 (거부 건수는 해싱 통계로 확인)
+        serverArgs[1] = "--logging.level.kr.co.bootSample.global.security.PasswordHashingExecutor=ERROR";
+        System.arraycopy(args, 0, serverArgs, 2, args.length);
+
+        try (LoadTestSupport support = LoadTestSupport.start(serverArgs)) {
+            String token = support.signupAndLogin("reader01", "password123!");
+            support.signupAndLogin("flooder01", "password123!");
+            long boardId = support.createBoard(token, "부하 테스트", "<p>로그인 폭주 중 게시글 조회</p>");
+
+            HttpRequest read = support.request("/api/boards/" + boardId)
+                    .header("Authorization", "Bearer " + token).GET().build();
+            HttpRequest login = support.request("/api/auth/login")
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(
+                            "{\"username\":\"flooder01\",\"password\":\"password123!\"}"))
+                    .build();
+
+            System.out.printf("대상: %s, 조회 %d개 스레드, 로그인 %d개 스레드, 구간당 %ds%n",
+                    support.baseUrl(), READERS, FLOODERS, DURATION.toSeconds());
+
+            LoadTestSupport.run(READERS, Duration.ofSeconds(5), () -> status(support, read)); // 워밍업
+            Latencies baseline = LoadTestSupport.run(READERS, DURATION, () -> status(support, read));
+            System.out.println("[기준] 게시글 조회: " + baseline);
+
+            CompletableFuture<Latencies> flood = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return LoadTestSupport.run(FLOODERS, DURATION, () -> status(support, login));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException(e);
+                }
+            });
+            Latencies underFlood = LoadTestSupport.run(READERS, DURATION, () -> status(support, read));
+            Latencies logins = flood.join();
+
+            System.out.println("[로그인 폭주] 게시글 조회: " + underFlood);
+            System.out.println("[로그인 폭주] 로그인: " + logins);
+            PasswordHashingExecutor executor = support.bean(PasswordHashingExecutor.class);
+            if (executor != null) {
+                System.out.println("해싱 통계: " + executor.stats());
+            }
+        }
+    }
+
+    private static int status(LoadTestSupport support, HttpRequest request) throws Exception {
+        return support.client().send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+}
@@ -0,0 +1,101 @@
+package kr.co.bootSample.global.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 빈도 제한 필터의 허용 경로(happy path) 비용을 측정하는 JMH 벤치마크입니다. 목표는 요청당 1µs 미만입니다.
+ *
+ * unlimitedRoute: 제한 대상이 아닌 요청 (메서드/경로 비교만 하고 통과)
+ * searchAllowed: 인증된 사용자의 검색 요청이 허용되는 경우 (키 생성 + GCRA CAS 1회)
+ * tryAcquire: RateLimiter만 호출 (필터와 요청 객체 비용 제외)
+ *
+ * 허용 경로만 측정하도록 검색 버킷은 사실상 비지 않게 설정합니다.
+ * 같은 키의 CAS 경합은 코어가 여러 개인 환경에서 -t 옵션으로 스레드를 늘려 확인합니다.
+ * 실행: mvn -Pbenchmark test-compile exec:exec -Djmh.args="RateLimitFilterBenchmark"
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(1)
+@Fork(1)
+public class RateLimitFilterBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Shared {
+
+        private RateLimiter rateLimiter;
+        private RateLimitFilter filter;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            // 검색: 용량 1,000,000, 초당 1,000,000,000개 / 업로드, 로그인: 기본값과 비슷하게
+            rateLimiter = new RateLimiter(1_000_000, 1_000_000_000, 5, 0.2, 10, 0.5);
+            filter = new RateLimitFilter(rateLimiter,
+                    new ClientIpResolver(List.of("127.0.0.0/8"), "X-Forwarded-For"));
+        }
+    }
+
+    private static final FilterChain CHAIN = (request, response) -> {
+    };
+
+    private MockHttpServletRequest unlimitedRequest;
+    private MockHttpServletRequest searchRequest;
+    private MockHttpServletResponse response;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        unlimitedRequest = new MockHttpServletRequest("GET", "/api/boards/1");
+        searchRequest = new MockHttpServletRequest("GET", "/api/boards");
+        searchRequest.setParameter("keyword", "스프링");
+        response = new MockHttpServletResponse();
+
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated("alice", null, List.of()));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public int unlimitedRoute(Shared shared) throws ServletException, IOException {
+        shared.filter.doFilter(unlimitedRequest, response, CHAIN);
+        return response.getStatus();
+    }
+
+    @Benchmark
+    public int searchAllowed(Shared shared) throws ServletException, IOException {
+        shared.filter.doFilter(searchRequest, response, CHAIN);
+        return response.getStatus();
+    }
+
+    @Benchmark
+    public long tryAcquire(Shared shared) {
+        return shared.rateLimiter.tryAcquire(RateLimiter.Route.SEARCH, "u:alice");
+    }
+}
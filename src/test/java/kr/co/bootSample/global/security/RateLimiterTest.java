@@ -0,0 +1,99 @@
+package kr.co.bootSample.global.security;
+
+import kr.co.bootSample.global.security.RateLimiter.Route;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class RateLimiterTest {
+
+    private final AtomicLong now = new AtomicLong(TimeUnit.HOURS.toNanos(1));
+
+    // 검색: 용량 3, 초당 1개 / 업로드: 용량 2, 초당 100개 / 로그인: 제한 없음
+    private final RateLimiter rateLimiter = new RateLimiter(now::get, 3, 1, 2, 100, 0, 0);
+
+    @Test
+    @DisplayName("용량만큼은 연속으로 허용하고 이후 요청은 다음 토큰까지의 대기 시간과 함께 거부한다")
+    void burstThenReject() {
+        long[] burst = new long[3];
+        for (int i = 0; i < burst.length; i++) {
+            burst[i] = rateLimiter.tryAcquire(Route.SEARCH, "u:alice");
+        }
+        assertThat(burst).containsOnly(0L);
+
+        long waitNanos = rateLimiter.tryAcquire(Route.SEARCH, "u:alice");
+
+        assertThat(waitNanos).isEqualTo(TimeUnit.SECONDS.toNanos(1));
+    }
+
+    @Test
+    @DisplayName("거부된 요청은 버킷을 소모하지 않는다")
+    void rejectionDoesNotConsume() {
+        for (int i = 0; i < 3; i++) {
+            rateLimiter.tryAcquire(Route.SEARCH, "u:alice");
+        }
+
+        long first = rateLimiter.tryAcquire(Route.SEARCH, "u:alice");
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(400));
+        long second = rateLimiter.tryAcquire(Route.SEARCH, "u:alice");
+
+        assertThat(second).isEqualTo(first - TimeUnit.MILLISECONDS.toNanos(400));
+    }
+
+    @Test
+    @DisplayName("키와 경로마다 버킷이 따로 관리된다")
+    void independentBuckets() {
+        for (int i = 0; i < 3; i++) {
+            rateLimiter.tryAcquire(Route.SEARCH, "u:alice");
+        }
+
+        assertThat(rateLimiter.tryAcquire(Route.SEARCH, "u:alice")).isPositive();
+        assertThat(rateLimiter.tryAcquire(Route.SEARCH, "u:bob")).isZero();
+        assertThat(rateLimiter.tryAcquire(Route.UPLOAD, "u:alice")).isZero();
+    }
+
+    @Test
+    @DisplayName("시간이 지나면 토큰이 다시 채워진다")
+    void refill() {
+        // 토큰이 10ms마다 채워짐
+        long first = rateLimiter.tryAcquire(Route.UPLOAD, "u:alice");
+        long second = rateLimiter.tryAcquire(Route.UPLOAD, "u:alice");
+        long third = rateLimiter.tryAcquire(Route.UPLOAD, "u:alice");
+        assertThat(first).isZero();
+        assertThat(second).isZero();
+        assertThat(third).isEqualTo(TimeUnit.MILLISECONDS.toNanos(10));
+
+        now.addAndGet(third - 1);
+        assertThat(rateLimiter.tryAcquire(Route.UPLOAD, "u:alice")).isEqualTo(1);
+
+        now.incrementAndGet();
+        assertThat(rateLimiter.tryAcquire(Route.UPLOAD, "u:alice")).isZero();
+    }
+
+    @Test
+    @DisplayName("용량이나 속도가 0 이하인 경로는 제한하지 않는다")
+    void unlimitedRoute() {
+        for (int i = 0; i < 100; i++) {
+            assertThat(rateLimiter.tryAcquire(Route.LOGIN, "ip:127.0.0.1")).isZero();
+        }
+        assertThat(rateLimiter.stats()).extracting(RateLimitStats::route).containsExactly("SEARCH", "UPLOAD");
+    }
+
+    @Test
+    @DisplayName("버킷이 가득 찬 유휴 키만 제거한다")
+    void evictIdle() {
+        rateLimiter.tryAcquire(Route.SEARCH, "u:alice");
+        rateLimiter.tryAcquire(Route.UPLOAD, "u:bob");
+
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(30)); // 업로드 버킷은 다시 가득 참, 검색 버킷은 1초 가까이 남음
+        rateLimiter.evictIdle();
+
+        assertThat(rateLimiter.stats()).extracting(RateLimitStats::route, RateLimitStats::trackedKeys)
+                .containsExactly(tuple("SEARCH", 1), tuple("UPLOAD", 0));
+    }
+}